@@ -0,0 +1,97 @@
+package com.logistics.platform.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.UserDTO;
+import com.logistics.platform.domain.VehicleDTO;
+import com.logistics.platform.domain.WarehouseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@code rows}-element DTO lists to UTF-8 bytes, with the mapper set up the way
+ * Spring Boot configures the one behind the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private ObjectWriter writer;
+    private List<OrderDTO> orders;
+    private List<PackageDTO> packages;
+    private List<RouteDTO> routes;
+    private List<UserDTO> users;
+    private List<VehicleDTO> vehicles;
+    private List<WarehouseDTO> warehouses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        ServiceFixture services = new ServiceFixture(rows);
+        orders = services.orderService.findAllOrders();
+        packages = services.packageService.findAllPackages();
+        routes = services.routeService.findAllRoutes();
+        users = services.userService.findAllUsers();
+        vehicles = services.vehicleService.findAllVehicles();
+        warehouses = services.warehouseService.findAllWarehouses();
+    }
+
+    @Benchmark
+    public byte[] orders() throws JsonProcessingException {
+        return writer.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] packages() throws JsonProcessingException {
+        return writer.writeValueAsBytes(packages);
+    }
+
+    @Benchmark
+    public byte[] routes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(routes);
+    }
+
+    @Benchmark
+    public byte[] users() throws JsonProcessingException {
+        return writer.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] vehicles() throws JsonProcessingException {
+        return writer.writeValueAsBytes(vehicles);
+    }
+
+    @Benchmark
+    public byte[] warehouses() throws JsonProcessingException {
+        return writer.writeValueAsBytes(warehouses);
+    }
+}
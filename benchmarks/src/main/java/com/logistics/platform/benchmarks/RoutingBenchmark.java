@@ -0,0 +1,129 @@
+package com.logistics.platform.benchmarks;
+
+import com.logistics.platform.routing.BidirectionalAStar;
+import com.logistics.platform.routing.ContractionHierarchy;
+import com.logistics.platform.routing.RoadGraph;
+import com.logistics.platform.routing.RoadGraphLoader;
+import com.logistics.platform.routing.TravelMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-to-point query latency of the bidirectional A* baseline against the contraction hierarchy, the latter
+ * served from its memory-mapped file as in production.
+ * <p>
+ * Runs on a synthetic jittered grid of {@code side x side} nodes, or on a real CSV edge list passed with
+ * {@code -p graphFile=/path/to/roads.csv}. Queries cycle through a fixed set of random node pairs; the matrix
+ * benchmark computes all travel times between the first {@value #MATRIX_SIZE} sources and targets on the common
+ * fork-join pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private static final int QUERIES = 4096;
+    private static final int MATRIX_SIZE = 500;
+
+    @Param({"300"})
+    public int side;
+
+    @Param({""})
+    public String graphFile;
+
+    private BidirectionalAStar aStar;
+    private ContractionHierarchy hierarchy;
+    private Path hierarchyFile;
+    private int[] sources;
+    private int[] targets;
+    private int[] matrixSources;
+    private int[] matrixTargets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        RoadGraph graph = graphFile.isBlank() ? grid(side) : RoadGraphLoader.load(Path.of(graphFile));
+        aStar = new BidirectionalAStar(graph);
+        hierarchyFile = Files.createTempFile("waypoint-bench", ".ch");
+        ContractionHierarchy.build(graph).write(hierarchyFile);
+        hierarchy = ContractionHierarchy.load(hierarchyFile, graph).orElseThrow();
+
+        Random random = new Random(1);
+        sources = new int[QUERIES];
+        targets = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            sources[i] = random.nextInt(graph.nodeCount());
+            targets[i] = random.nextInt(graph.nodeCount());
+        }
+        matrixSources = Arrays.copyOf(sources, MATRIX_SIZE);
+        matrixTargets = Arrays.copyOf(targets, MATRIX_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(hierarchyFile);
+    }
+
+    @Benchmark
+    public double bidirectionalAStar() {
+        int i = next++ & (QUERIES - 1);
+        return aStar.travelSeconds(sources[i], targets[i]);
+    }
+
+    @Benchmark
+    public double contractionHierarchy() {
+        int i = next++ & (QUERIES - 1);
+        return hierarchy.travelSeconds(sources[i], targets[i]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TravelMatrix contractionHierarchyMatrix() {
+        return hierarchy.matrix(matrixSources, matrixTargets);
+    }
+
+    private static RoadGraph grid(int side) {
+        Random random = new Random(42);
+        RoadGraph.Builder builder = RoadGraph.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                builder.addNode(52.0 + row * 0.002 + random.nextDouble() * 0.0005, 13.0 + column * 0.003 + random.nextDouble() * 0.0005);
+            }
+        }
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int node = row * side + column;
+                if (column + 1 < side) {
+                    double seconds = 10 + random.nextDouble() * 40;
+                    builder.addEdge(node, node + 1, seconds).addEdge(node + 1, node, seconds);
+                }
+                if (row + 1 < side) {
+                    double seconds = 10 + random.nextDouble() * 40;
+                    builder.addEdge(node, node + side, seconds).addEdge(node + side, node, seconds);
+                }
+            }
+        }
+        return builder.build();
+    }
+}
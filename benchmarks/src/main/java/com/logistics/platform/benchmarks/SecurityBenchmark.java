@@ -0,0 +1,107 @@
+package com.logistics.platform.benchmarks;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.security.jwt.JwtProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request and per-login costs of authentication: issuing a JWT, validating one with and without the
+ * verified-claims cache, and checking a password against its BCrypt hash at {@code strength}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10"})
+    public int strength;
+
+    private JwtProvider cachingProvider;
+    private JwtProvider uncachedProvider;
+    private String token;
+    private UUID userId;
+    private PasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String encodedSecret = Base64.getEncoder().encodeToString(secret);
+        cachingProvider = jwtProvider(encodedSecret, 10_000);
+        uncachedProvider = jwtProvider(encodedSecret, 0);
+        userId = UUID.randomUUID();
+        token = cachingProvider.createToken(userId, "driver@example.com", Role.USER);
+        cachingProvider.validateToken(token);
+
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachingProvider.createToken(userId, "driver@example.com", Role.USER);
+    }
+
+    @Benchmark
+    public boolean validateCachedToken() {
+        return cachingProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean passwordMatches() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+
+    /**
+     * Sets up a provider the way Spring would, from its {@code @Value} fields and {@code @PostConstruct}.
+     */
+    private static JwtProvider jwtProvider(String secret, int cacheMaxSize) throws ReflectiveOperationException {
+        JwtProvider provider = new JwtProvider(new SimpleMeterRegistry());
+        set(provider, "secretKey", secret);
+        set(provider, "validityInMs", TimeUnit.HOURS.toMillis(1));
+        set(provider, "cacheMaxSize", cacheMaxSize);
+        Method init = JwtProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(provider);
+        return provider;
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
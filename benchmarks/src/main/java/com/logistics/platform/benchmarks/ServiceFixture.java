@@ -0,0 +1,92 @@
+package com.logistics.platform.benchmarks;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.entity.UserEntity;
+import com.logistics.platform.repository.OrderRepository;
+import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.RouteRepository;
+import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.WarehouseRepository;
+import com.logistics.platform.repository.projection.OrderView;
+import com.logistics.platform.repository.projection.PackageView;
+import com.logistics.platform.repository.projection.RouteView;
+import com.logistics.platform.repository.projection.VehicleView;
+import com.logistics.platform.repository.projection.WarehouseView;
+import com.logistics.platform.service.impl.OrderServiceImpl;
+import com.logistics.platform.service.impl.PackageServiceImpl;
+import com.logistics.platform.service.impl.RouteServiceImpl;
+import com.logistics.platform.service.impl.UserServiceImpl;
+import com.logistics.platform.service.impl.VehicleServiceImpl;
+import com.logistics.platform.service.impl.WarehouseServiceImpl;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Service implementations wired to repositories that answer their list query with {@code rows} prebuilt rows
+ * and fail on anything else, so calling {@code findAll*} measures the services' own mapping and nothing of
+ * the database.
+ */
+final class ServiceFixture {
+
+    final OrderServiceImpl orderService;
+    final PackageServiceImpl packageService;
+    final RouteServiceImpl routeService;
+    final UserServiceImpl userService;
+    final VehicleServiceImpl vehicleService;
+    final WarehouseServiceImpl warehouseService;
+
+    ServiceFixture(int rows) {
+        Random random = new Random(7);
+        LocalDateTime now = LocalDateTime.of(2026, 3, 2, 8, 0);
+        orderService = new OrderServiceImpl(
+                repository(OrderRepository.class, "findAllViews", rows(rows, i -> new OrderView(UUID.randomUUID(), UUID.randomUUID(),
+                        "PENDING", "Warehouse " + i, (52 + random.nextDouble()) + "," + (13 + random.nextDouble()), now.plusHours(i)))),
+                null, null);
+        packageService = new PackageServiceImpl(
+                repository(PackageRepository.class, "findAllViews", rows(rows, i -> new PackageView(UUID.randomUUID(), UUID.randomUUID(),
+                        "Pallet " + i, 10 + random.nextFloat() * 500, "IN_TRANSIT"))),
+                null, null);
+        routeService = new RouteServiceImpl(
+                repository(RouteRepository.class, "findAllViews", rows(rows, i -> new RouteView(UUID.randomUUID(), UUID.randomUUID(),
+                        "Warehouse " + i, "Customer " + i, (10 + random.nextInt(180)) + " min", "MODERATE"))),
+                null, null);
+        userService = new UserServiceImpl(
+                repository(UserRepository.class, "findAll", rows(rows, i -> UserEntity.builder()
+                        .id(UUID.randomUUID())
+                        .email("driver" + i + "@example.com")
+                        .username("driver" + i)
+                        .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3RkVYqFO5kAOhJlSHqnWSPu")
+                        .role(Role.USER)
+                        .createdAt(now)
+                        .build())),
+                null, null);
+        vehicleService = new VehicleServiceImpl(
+                repository(VehicleRepository.class, "findAllViews", rows(rows, i -> new VehicleView(UUID.randomUUID(), UUID.randomUUID(),
+                        "TRUCK", "B-WP " + i, 12_000f, null, 52 + random.nextDouble(), 13 + random.nextDouble(), null))),
+                null, null, null);
+        warehouseService = new WarehouseServiceImpl(
+                repository(WarehouseRepository.class, "findAllViews", rows(rows, i -> new WarehouseView(UUID.randomUUID(), "Dock " + i,
+                        52 + random.nextDouble(), 13 + random.nextDouble(), 10_000, random.nextInt(10_000), UUID.randomUUID(), 0L))),
+                null, null);
+    }
+
+    private static <T> List<T> rows(int count, IntFunction<T> row) {
+        return IntStream.range(0, count).mapToObj(row).toList();
+    }
+
+    private static <R> R repository(Class<R> type, String method, List<?> result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if (invoked.getName().equals(method) && invoked.getParameterCount() == 0) {
+                return result;
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + invoked.getName());
+        }));
+    }
+}
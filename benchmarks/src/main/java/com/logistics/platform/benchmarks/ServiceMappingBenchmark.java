@@ -0,0 +1,76 @@
+package com.logistics.platform.benchmarks;
+
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.UserDTO;
+import com.logistics.platform.domain.VehicleDTO;
+import com.logistics.platform.domain.WarehouseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning {@code rows} repository rows into the DTO list of each {@code findAll*} endpoint, which is
+ * what every list response pays on top of its query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceMappingBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private ServiceFixture services;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        services = new ServiceFixture(rows);
+    }
+
+    @Benchmark
+    public List<OrderDTO> orders() {
+        return services.orderService.findAllOrders();
+    }
+
+    @Benchmark
+    public List<PackageDTO> packages() {
+        return services.packageService.findAllPackages();
+    }
+
+    @Benchmark
+    public List<RouteDTO> routes() {
+        return services.routeService.findAllRoutes();
+    }
+
+    @Benchmark
+    public List<UserDTO> users() {
+        return services.userService.findAllUsers();
+    }
+
+    @Benchmark
+    public List<VehicleDTO> vehicles() {
+        return services.vehicleService.findAllVehicles();
+    }
+
+    @Benchmark
+    public List<WarehouseDTO> warehouses() {
+        return services.warehouseService.findAllWarehouses();
+    }
+}
@@ -0,0 +1,160 @@
+package com.logistics.platform.benchmarks;
+
+import com.logistics.platform.capacity.CapacityAllotment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reservations of one unit against a single warehouse row from {@value #THREADS} threads, on an in-memory H2
+ * database with one connection per thread:
+ * <ul>
+ *     <li>{@code readModifyWrite} reads the free space and writes back the result, as a client-side update
+ *     does, and reports how many reservations it lost at the end of each iteration;</li>
+ *     <li>{@code conditionalUpdate} is the single guarded {@code UPDATE} every reservation uses;</li>
+ *     <li>{@code allotment} is a hot warehouse, taking {@code allotment} units per row update and serving the
+ *     rest from a {@link CapacityAllotment}.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(WarehouseReservationBenchmark.THREADS)
+@Fork(1)
+public class WarehouseReservationBenchmark {
+
+    static final int THREADS = 8;
+
+    private static final String URL = "jdbc:h2:mem:reservations;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+    private static final int INITIAL_SPACE = 1_000_000_000;
+
+    @Param({"100"})
+    public int allotment;
+
+    private Connection schema;
+    private CapacityAllotment held;
+    private final AtomicLong reserved = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Connection connection;
+        private PreparedStatement read;
+        private PreparedStatement write;
+        private PreparedStatement reserve;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            read = connection.prepareStatement("select available_space from warehouses where id = 1");
+            write = connection.prepareStatement("update warehouses set available_space = ? where id = 1");
+            reserve = connection.prepareStatement(
+                    "update warehouses set available_space = available_space - ?, version = version + 1 where id = 1 and available_space >= ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+
+        boolean reserve(int amount) throws SQLException {
+            reserve.setInt(1, amount);
+            reserve.setInt(2, amount);
+            return reserve.executeUpdate() == 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        schema = DriverManager.getConnection(URL);
+        try (Statement statement = schema.createStatement()) {
+            statement.execute("create table warehouses (id int primary key, available_space int not null, version bigint not null)");
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() throws SQLException {
+        try (Statement statement = schema.createStatement()) {
+            statement.executeUpdate("merge into warehouses key (id) values (1, " + INITIAL_SPACE + ", 0)");
+        }
+        held = new CapacityAllotment();
+        reserved.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() throws SQLException {
+        try (Statement statement = schema.createStatement();
+             ResultSet row = statement.executeQuery("select available_space from warehouses where id = 1")) {
+            row.next();
+            long taken = INITIAL_SPACE - row.getInt(1) - held.remaining();
+            if (taken != reserved.get()) {
+                System.out.printf("%n%d reservations acknowledged, %d applied%n", reserved.get(), taken);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = schema.createStatement()) {
+            statement.execute("drop table warehouses");
+        }
+        schema.close();
+    }
+
+    @Benchmark
+    public boolean readModifyWrite(Session session) throws SQLException {
+        int free;
+        try (ResultSet row = session.read.executeQuery()) {
+            row.next();
+            free = row.getInt(1);
+        }
+        session.write.setInt(1, free - 1);
+        session.write.executeUpdate();
+        reserved.incrementAndGet();
+        return true;
+    }
+
+    @Benchmark
+    public boolean conditionalUpdate(Session session) throws SQLException {
+        boolean applied = session.reserve(1);
+        if (applied) {
+            reserved.incrementAndGet();
+        }
+        return applied;
+    }
+
+    @Benchmark
+    public boolean allotment(Session session) throws SQLException {
+        boolean applied = held.take(1);
+        if (!applied && session.reserve(allotment)) {
+            held.add(allotment - 1);
+            applied = true;
+        }
+        if (applied) {
+            reserved.incrementAndGet();
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,103 @@
+package com.logistics.platform.loadtest;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.entity.OrderEntity;
+import com.logistics.platform.entity.PackageEntity;
+import com.logistics.platform.entity.UserEntity;
+import com.logistics.platform.repository.OrderRepository;
+import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.security.jwt.JwtProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Fills the database through the application's own repositories, along the lines of the integration tests'
+ * {@code TestDataInitializer} but with {@code users} clients, {@code orders} orders spread over them and
+ * {@code packages} packages spread over the orders. Data is generated from a fixed seed, so two runs with the
+ * same sizes see the same rows.
+ */
+final class DataSeeder {
+
+    private static final int CHUNK = 1000;
+    private static final String[] ORDER_STATUSES = {"PENDING", "PROCESSING", "SHIPPED", "DELIVERED"};
+    private static final String[] PACKAGE_STATUSES = {"PACKED", "IN_TRANSIT", "DELIVERED"};
+
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final PackageRepository packageRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtProvider jwtProvider;
+    private final Random random = new Random(42);
+
+    DataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.orderRepository = context.getBean(OrderRepository.class);
+        this.packageRepository = context.getBean(PackageRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.jwtProvider = context.getBean(JwtProvider.class);
+    }
+
+    SeedData seed(int users, int orders, int packages) {
+        String password = passwordEncoder.encode("loadtest-password");
+        LocalDateTime now = LocalDateTime.now();
+
+        UserEntity admin = userRepository.save(UserEntity.builder()
+                .email("loadtest-admin@logistics.com")
+                .username("LoadTestAdmin")
+                .password(password)
+                .role(Role.ADMIN)
+                .createdAt(now)
+                .build());
+
+        List<UserEntity> clients = saveInChunks(users, i -> UserEntity.builder()
+                .email("client" + i + "@loadtest.logistics.com")
+                .username("LoadTestClient" + i)
+                .password(password)
+                .role(Role.USER)
+                .createdAt(now.minusDays(random.nextInt(365)))
+                .build(), userRepository::saveAll);
+
+        List<OrderEntity> savedOrders = saveInChunks(orders, i -> OrderEntity.builder()
+                .client(clients.get(random.nextInt(clients.size())))
+                .status(ORDER_STATUSES[random.nextInt(ORDER_STATUSES.length)])
+                .origin("Warehouse " + random.nextInt(20))
+                .destination(String.format(Locale.ROOT, "%.5f,%.5f", 52 + random.nextDouble(), 13 + random.nextDouble()))
+                .estimatedDeliveryTime(now.plusHours(random.nextInt(96)))
+                .build(), orderRepository::saveAll);
+
+        List<PackageEntity> savedPackages = saveInChunks(packages, i -> PackageEntity.builder()
+                .order(savedOrders.get(random.nextInt(savedOrders.size())))
+                .description("Parcel " + i)
+                .weight(0.5f + random.nextFloat() * 30)
+                .status(PACKAGE_STATUSES[random.nextInt(PACKAGE_STATUSES.length)])
+                .build(), packageRepository::saveAll);
+
+        return new SeedData(
+                jwtProvider.createToken(admin.getId(), admin.getEmail(), admin.getRole()),
+                clients.stream().map(UserEntity::getId).toList(),
+                clients.stream().map(client -> jwtProvider.createToken(client.getId(), client.getEmail(), client.getRole())).toList(),
+                savedOrders.stream().map(OrderEntity::getId).toList(),
+                savedPackages.stream().map(PackageEntity::getId).toList());
+    }
+
+    private static <T> List<T> saveInChunks(int count, IntFunction<T> generator, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(count);
+        for (int start = 0; start < count; start += CHUNK) {
+            List<T> chunk = new ArrayList<>(CHUNK);
+            for (int i = start; i < Math.min(count, start + CHUNK); i++) {
+                chunk.add(generator.apply(i));
+            }
+            saved.addAll(saveAll.apply(chunk));
+        }
+        return saved;
+    }
+}
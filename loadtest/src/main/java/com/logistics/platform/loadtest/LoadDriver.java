@@ -0,0 +1,165 @@
+package com.logistics.platform.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop driver: {@code concurrency} virtual threads each pick a scenario by weight, send it, record the
+ * latency and repeat until the deadline. Latencies are kept raw per worker and merged afterwards, so the
+ * percentiles are exact rather than bucketed.
+ */
+final class LoadDriver {
+
+    private final URI base;
+    private final SeedData seed;
+    private final int concurrency;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    LoadDriver(URI base, SeedData seed, int concurrency, Map<Scenario, Integer> mix) {
+        this.base = base;
+        this.seed = seed;
+        this.concurrency = concurrency;
+        this.scenarios = mix.entrySet().stream().filter(entry -> entry.getValue() > 0).map(Map.Entry::getKey).toArray(Scenario[]::new);
+        if (scenarios.length == 0) {
+            throw new IllegalArgumentException("The mix has no scenario with a positive weight");
+        }
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += mix.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Samples run(Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (client; ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Samples>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(client, deadline)));
+            }
+            Samples merged = new Samples();
+            for (Future<Samples> future : futures) {
+                merged.addAll(future.get());
+            }
+            return merged;
+        }
+    }
+
+    private Samples work(HttpClient client, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Samples samples = new Samples();
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = pick(random);
+            long start = System.nanoTime();
+            String error = null;
+            try {
+                HttpResponse<String> response = client.send(scenario.request(base, seed, random).build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() / 100 != 2) {
+                    error = "HTTP " + response.statusCode() + ": " + response.body();
+                }
+            } catch (Exception e) {
+                error = e.toString();
+            }
+            samples.record(scenario, System.nanoTime() - start, error);
+        }
+        return samples;
+    }
+
+    private Scenario pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Latencies in nanoseconds and failures per scenario.
+     */
+    static final class Samples {
+
+        private final long[][] latencies = new long[Scenario.values().length][];
+        private final int[] counts = new int[Scenario.values().length];
+        private final long[] errors = new long[Scenario.values().length];
+        private final String[] firstErrors = new String[Scenario.values().length];
+
+        Samples() {
+            Arrays.setAll(latencies, i -> new long[256]);
+        }
+
+        void record(Scenario scenario, long nanos, String error) {
+            int i = scenario.ordinal();
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = nanos;
+            if (error != null) {
+                errors[i]++;
+                if (firstErrors[i] == null) {
+                    firstErrors[i] = error;
+                }
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] + other.counts[i] > latencies[i].length) {
+                    latencies[i] = Arrays.copyOf(latencies[i], counts[i] + other.counts[i]);
+                }
+                System.arraycopy(other.latencies[i], 0, latencies[i], counts[i], other.counts[i]);
+                counts[i] += other.counts[i];
+                errors[i] += other.errors[i];
+                if (firstErrors[i] == null) {
+                    firstErrors[i] = other.firstErrors[i];
+                }
+            }
+        }
+
+        long[] sortedLatencies(Scenario scenario) {
+            long[] sorted = Arrays.copyOf(latencies[scenario.ordinal()], counts[scenario.ordinal()]);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = new long[Arrays.stream(counts).sum()];
+            int offset = 0;
+            for (int i = 0; i < counts.length; i++) {
+                System.arraycopy(latencies[i], 0, sorted, offset, counts[i]);
+                offset += counts[i];
+            }
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        long errors(Scenario scenario) {
+            return errors[scenario.ordinal()];
+        }
+
+        long errors() {
+            return Arrays.stream(errors).sum();
+        }
+
+        String firstError(Scenario scenario) {
+            return firstErrors[scenario.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.logistics.platform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of one run, written as {@code report.json} for tracking across releases and as a self-contained
+ * {@code report.html} for reading.
+ */
+record LoadReport(Instant startedAt, String database, int concurrency, double durationSeconds,
+                  Map<String, Integer> seeded, Map<String, Integer> mix, Stats total, List<Stats> scenarios) {
+
+    record Stats(String scenario, long requests, long errors, double errorRate, double requestsPerSecond,
+                 double p50Ms, double p99Ms, double p999Ms, double maxMs, String firstError) {
+
+        static Stats of(String scenario, long[] sorted, long errors, Duration duration, String firstError) {
+            double seconds = duration.toNanos() / 1e9;
+            return new Stats(scenario, sorted.length, errors,
+                    sorted.length == 0 ? 0 : (double) errors / sorted.length,
+                    sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+                    firstError);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+
+    static LoadReport of(Instant startedAt, LoadTestOptions options, LoadDriver.Samples samples) {
+        List<Stats> scenarios = new ArrayList<>();
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (Map.Entry<Scenario, Integer> entry : options.mix().entrySet()) {
+            mix.put(entry.getKey().label(), entry.getValue());
+            if (entry.getValue() > 0) {
+                Scenario scenario = entry.getKey();
+                scenarios.add(Stats.of(scenario.label(), samples.sortedLatencies(scenario), samples.errors(scenario),
+                        options.duration(), samples.firstError(scenario)));
+            }
+        }
+        Stats total = Stats.of("total", samples.sortedLatencies(), samples.errors(), options.duration(), null);
+        return new LoadReport(startedAt, options.jdbcUrl().replaceAll("(?i)password=[^;&]*", "password=***"),
+                options.concurrency(), options.duration().toNanos() / 1e9,
+                Map.of("users", options.users(), "orders", options.orders(), "packages", options.packages()),
+                mix, total, scenarios);
+    }
+
+    void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.copy()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    void print() {
+        System.out.printf("%n%-16s %10s %9s %9s %9s %9s %9s %8s%n", "scenario", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (Stats stats : scenarios) {
+            print(stats);
+        }
+        print(total);
+    }
+
+    private static void print(Stats stats) {
+        System.out.printf(Locale.ROOT, "%-16s %10d %9.1f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n", stats.scenario(), stats.requests(),
+                stats.requestsPerSecond(), stats.p50Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs(), stats.errorRate() * 100);
+    }
+
+    private String html() {
+        StringBuilder rows = new StringBuilder();
+        for (Stats stats : scenarios) {
+            rows.append(row(stats, ""));
+        }
+        rows.append(row(total, " class=\"total\""));
+
+        StringBuilder errors = new StringBuilder();
+        for (Stats stats : scenarios) {
+            if (stats.firstError() != null) {
+                errors.append("<li><b>").append(stats.scenario()).append("</b>: <code>").append(escape(stats.firstError())).append("</code></li>\n");
+            }
+        }
+
+        return """
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <title>WayPoint load test %s</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; color: #222; }
+                table { border-collapse: collapse; }
+                th, td { padding: 4px 12px; border-bottom: 1px solid #ddd; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                tr.total td { font-weight: bold; border-top: 2px solid #222; }
+                td.failing { color: #b00020; }
+                </style>
+                </head>
+                <body>
+                <h1>WayPoint load test</h1>
+                <p>Started %s against <code>%s</code> with %d virtual users for %.0f s.
+                Seeded %d users, %d orders and %d packages; mix %s.</p>
+                <table>
+                <tr><th>scenario</th><th>requests</th><th>req/s</th><th>p50 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th><th>errors</th></tr>
+                %s</table>
+                %s
+                </body>
+                </html>
+                """.formatted(startedAt, startedAt, escape(database), concurrency, durationSeconds,
+                seeded.get("users"), seeded.get("orders"), seeded.get("packages"), escape(mix.toString()), rows,
+                errors.isEmpty() ? "" : "<h2>First error per scenario</h2>\n<ul>\n" + errors + "</ul>");
+    }
+
+    private static String row(Stats stats, String attributes) {
+        return String.format(Locale.ROOT,
+                "<tr%s><td>%s</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td%s>%.2f%%</td></tr>%n",
+                attributes, stats.scenario(), stats.requests(), stats.requestsPerSecond(), stats.p50Ms(), stats.p99Ms(),
+                stats.p999Ms(), stats.maxMs(), stats.errors() > 0 ? " class=\"failing\"" : "", stats.errorRate() * 100);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
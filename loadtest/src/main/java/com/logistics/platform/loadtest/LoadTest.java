@@ -0,0 +1,56 @@
+package com.logistics.platform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.platform.WayPointApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Starts WayPoint on a random port with the production security chain, seeds it, warms it up with the same traffic mix and then measures it for
+ * {@code --duration}. See {@link LoadTestOptions} for the command line. Exits non-zero when any request failed,
+ * so a release pipeline can gate on it.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadReport report;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(WayPointApplication.class)
+                .profiles("prod")
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + options.jdbcUrl(),
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.datasource.username=" + options.dbUser(),
+                        "--spring.datasource.password=" + options.dbPassword(),
+                        "--spring.r2dbc.url=" + options.r2dbcUrl(),
+                        "--spring.r2dbc.username=" + options.dbUser(),
+                        "--spring.r2dbc.password=" + options.dbPassword(),
+                        "--spring.jpa.show-sql=false",
+                        "--logging.structured.format.console=logstash",
+                        "--logging.level.root=WARN",
+                        "--logging.level.waypoint.requests=WARN")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI base = URI.create("http://localhost:" + port);
+
+            System.out.printf("Seeding %d users, %d orders and %d packages%n", options.users(), options.orders(), options.packages());
+            SeedData seed = new DataSeeder(context).seed(options.users(), options.orders(), options.packages());
+
+            LoadDriver driver = new LoadDriver(base, seed, options.concurrency(), options.mix());
+            System.out.printf("Warming up for %s with %d virtual users%n", options.warmup(), options.concurrency());
+            driver.run(options.warmup());
+            System.out.printf("Measuring for %s%n", options.duration());
+            Instant startedAt = Instant.now();
+            report = LoadReport.of(startedAt, options, driver.run(options.duration()));
+            report.write(options.reportDir(), context.getBean(ObjectMapper.class));
+        }
+        report.print();
+        System.out.printf("%nReport written to %s%n", options.reportDir().toAbsolutePath());
+        System.exit(report.total().errors() == 0 ? 0 : 1);
+    }
+}
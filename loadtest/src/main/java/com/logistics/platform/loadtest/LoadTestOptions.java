@@ -0,0 +1,76 @@
+package com.logistics.platform.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of the load test, given as {@code --name=value} pairs:
+ * <ul>
+ *     <li>{@code --concurrency} virtual users, each sending its next request as soon as the last one
+ *     returned (200);</li>
+ *     <li>{@code --warmup} and {@code --duration} in the application's duration syntax (10s, 60s);</li>
+ *     <li>{@code --users}, {@code --orders} and {@code --packages} to seed (1000, 10000, 20000);</li>
+ *     <li>{@code --mix} as {@code scenario:weight} pairs, e.g. {@code get-order:50,create-order:10}; scenarios
+ *     left out keep their default weight;</li>
+ *     <li>{@code --jdbc-url}, {@code --r2dbc-url}, {@code --db-user} and {@code --db-password} to run against a
+ *     local PostgreSQL instead of H2 in PostgreSQL mode;</li>
+ *     <li>{@code --report-dir} for {@code report.json} and {@code report.html} (target/loadtest).</li>
+ * </ul>
+ */
+record LoadTestOptions(int concurrency, Duration warmup, Duration duration, int users, int orders, int packages,
+                       Map<Scenario, Integer> mix, String jdbcUrl, String r2dbcUrl, String dbUser, String dbPassword,
+                       Path reportDir) {
+
+    private static final String H2_OPTIONS = "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, scenario.defaultWeight());
+        }
+        String mixValue = values.remove("mix");
+        if (mixValue != null) {
+            for (String entry : mixValue.split(",")) {
+                String[] parts = entry.split(":");
+                mix.put(Scenario.ofLabel(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("concurrency", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("orders", "10000")),
+                Integer.parseInt(values.getOrDefault("packages", "20000")),
+                mix,
+                values.getOrDefault("jdbc-url", "jdbc:h2:mem:loadtest;" + H2_OPTIONS),
+                values.getOrDefault("r2dbc-url", "r2dbc:h2:mem:///loadtest?options=" + H2_OPTIONS),
+                values.getOrDefault("db-user", "sa"),
+                values.getOrDefault("db-password", ""),
+                Path.of(values.getOrDefault("report-dir", "target/loadtest")));
+        values.keySet().removeAll(Set.of("concurrency", "warmup", "duration", "users", "orders", "packages",
+                "jdbc-url", "r2dbc-url", "db-user", "db-password", "report-dir"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        if (options.users() < 1 || options.orders() < 1 || options.packages() < 1 || options.concurrency() < 1) {
+            throw new IllegalArgumentException("--concurrency, --users, --orders and --packages must be positive");
+        }
+        return options;
+    }
+}
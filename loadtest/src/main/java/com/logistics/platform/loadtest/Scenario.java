@@ -0,0 +1,102 @@
+package com.logistics.platform.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One kind of request in the traffic mix. Reads pick a random seeded row; writes create a new order for a
+ * random client or a new package on a random seeded order, the way a client app and a packing station would.
+ */
+enum Scenario {
+
+    LIST_ORDERS(20) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return get(base, "/api/v1/orders?limit=50").header("Authorization", "Bearer " + seed.adminToken());
+        }
+    },
+    GET_ORDER(25) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return get(base, "/api/v1/orders/" + seed.randomOrderId(random)).header("Authorization", "Bearer " + seed.randomClientToken(random));
+        }
+    },
+    LIST_PACKAGES(10) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return get(base, "/api/v1/packages?limit=50").header("Authorization", "Bearer " + seed.adminToken());
+        }
+    },
+    GET_PACKAGE(20) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return get(base, "/api/v1/packages/" + seed.randomPackageId(random)).header("Authorization", "Bearer " + seed.randomClientToken(random));
+        }
+    },
+    CREATE_ORDER(15) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            int client = random.nextInt(seed.clientIds().size());
+            String body = String.format(Locale.ROOT,
+                    "{\"clientId\":\"%s\",\"status\":\"PENDING\",\"origin\":\"Warehouse %d\",\"destination\":\"%.5f,%.5f\",\"estimatedDeliveryTime\":\"%s\"}",
+                    seed.clientIds().get(client), random.nextInt(20), 52 + random.nextDouble(), 13 + random.nextDouble(),
+                    LocalDateTime.now().plusDays(2).withNano(0));
+            return post(base, "/api/v1/orders", body).header("Authorization", "Bearer " + seed.clientTokens().get(client));
+        }
+    },
+    CREATE_PACKAGE(10) {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            String body = String.format(Locale.ROOT,
+                    "{\"orderId\":\"%s\",\"description\":\"Parcel %d\",\"weight\":%.1f,\"status\":\"PACKED\"}",
+                    seed.randomOrderId(random), random.nextInt(1_000_000), 0.5 + random.nextDouble() * 30);
+            return post(base, "/api/v1/packages", body).header("Authorization", "Bearer " + seed.randomClientToken(random));
+        }
+    };
+
+    private final int defaultWeight;
+
+    Scenario(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Name used in {@code --mix} and in the report, e.g. {@code list-orders}.
+     */
+    String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    abstract HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random);
+
+    static Scenario ofLabel(String label) {
+        for (Scenario scenario : values()) {
+            if (scenario.label().equals(label)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + label + "'");
+    }
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static HttpRequest.Builder post(URI base, String path, String json) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
@@ -0,0 +1,23 @@
+package com.logistics.platform.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids and tokens of the seeded rows the scenarios pick from.
+ */
+record SeedData(String adminToken, List<UUID> clientIds, List<String> clientTokens, List<UUID> orderIds, List<UUID> packageIds) {
+
+    UUID randomOrderId(ThreadLocalRandom random) {
+        return orderIds.get(random.nextInt(orderIds.size()));
+    }
+
+    UUID randomPackageId(ThreadLocalRandom random) {
+        return packageIds.get(random.nextInt(packageIds.size()));
+    }
+
+    String randomClientToken(ThreadLocalRandom random) {
+        return clientTokens.get(random.nextInt(clientTokens.size()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.logistics.platform.batch;
+
+import com.logistics.platform.domain.BatchItemResultDTO;
+import com.logistics.platform.domain.BatchResultDTO;
+import com.logistics.platform.domain.enums.BatchItemStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tracks the outcome of every item of a bulk request by its position in the request.
+ * <p>
+ * Items are bean-validated up front; invalid ones are failed immediately so the service only resolves
+ * and writes the rest.
+ */
+public final class BatchCollector<T> {
+
+    private final List<T> items;
+    private final List<BatchItemResultDTO<T>> results;
+
+    public BatchCollector(List<T> items, Validator validator) {
+        this.items = items;
+        this.results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(null);
+            T item = items.get(i);
+            if (item == null) {
+                fail(i, "Item must not be null");
+                continue;
+            }
+            var violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                fail(i, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the items that have no outcome yet.
+     */
+    public int[] pending() {
+        return IntStream.range(0, results.size())
+                .filter(i -> results.get(i) == null)
+                .toArray();
+    }
+
+    /**
+     * Fails every pending item whose non-null id occurs more than once in the request, since there is no telling
+     * which of them the caller meant to win.
+     */
+    public void failDuplicates(Function<T, ?> id) {
+        Map<Object, Integer> counts = new HashMap<>();
+        int[] pending = pending();
+        for (int index : pending) {
+            Object key = id.apply(items.get(index));
+            if (key != null) {
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        for (int index : pending) {
+            Object key = id.apply(items.get(index));
+            if (key != null && counts.get(key) > 1) {
+                fail(index, "Duplicate id in batch: " + key);
+            }
+        }
+    }
+
+    public T item(int index) {
+        return items.get(index);
+    }
+
+    public void fail(int index, String error) {
+        results.set(index, BatchItemResultDTO.<T>builder()
+                .index(index)
+                .status(BatchItemStatus.FAILED)
+                .error(error)
+                .build());
+    }
+
+    public void succeed(int index, BatchItemStatus status, T item) {
+        results.set(index, BatchItemResultDTO.<T>builder()
+                .index(index)
+                .status(status)
+                .item(item)
+                .build());
+    }
+
+    public BatchResultDTO<T> build() {
+        int[] counts = new int[BatchItemStatus.values().length];
+        results.forEach(result -> counts[result.getStatus().ordinal()]++);
+        return BatchResultDTO.<T>builder()
+                .results(List.copyOf(results))
+                .created(counts[BatchItemStatus.CREATED.ordinal()])
+                .updated(counts[BatchItemStatus.UPDATED.ordinal()])
+                .failed(counts[BatchItemStatus.FAILED.ordinal()])
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.logistics.platform.batch;
+
+import com.logistics.platform.exception.BatchTooLargeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class BatchLimits {
+
+    @Value("${batch.max-items:10000}")
+    private int maxItems;
+
+    public <T> List<T> check(List<T> items) {
+        if (items.size() > maxItems) {
+            throw new BatchTooLargeException("Batch of " + items.size() + " items exceeds the limit of " + maxItems);
+        }
+        return items;
+    }
+}
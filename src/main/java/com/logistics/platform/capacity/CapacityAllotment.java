@@ -0,0 +1,42 @@
+package com.logistics.platform.capacity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Free space of one warehouse that this instance has already taken out of {@code available_space} and hands
+ * out from memory. Taking from it is a compare-and-set, so concurrent reservations against the same warehouse
+ * do not queue on its row lock.
+ */
+public final class CapacityAllotment {
+
+    private final AtomicInteger remaining = new AtomicInteger();
+
+    /**
+     * Takes {@code amount} if that much is left, otherwise takes nothing.
+     */
+    public boolean take(int amount) {
+        int current;
+        do {
+            current = remaining.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - amount));
+        return true;
+    }
+
+    public void add(int amount) {
+        remaining.addAndGet(amount);
+    }
+
+    /**
+     * Empties the allotment and returns what was left in it.
+     */
+    public int drain() {
+        return remaining.getAndSet(0);
+    }
+
+    public int remaining() {
+        return remaining.get();
+    }
+}
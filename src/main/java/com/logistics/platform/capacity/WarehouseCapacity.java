@@ -0,0 +1,159 @@
+package com.logistics.platform.capacity;
+
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.exception.InsufficientCapacityException;
+import com.logistics.platform.exception.WarehouseNotFoundException;
+import com.logistics.platform.repository.WarehouseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies reservations and releases of warehouse space as single conditional updates, so two workers booking
+ * the same warehouse can neither overwrite each other nor push {@code available_space} below zero or above the
+ * capacity.
+ * <p>
+ * Warehouses listed in {@code warehouse.capacity.hot-ids} take their space in chunks of
+ * {@code warehouse.capacity.allotment} and serve reservations from a {@link CapacityAllotment} until it runs
+ * out, which turns a row update per reservation into one per chunk. Unused space is handed back every
+ * {@code warehouse.capacity.reconcile-interval} and on shutdown, so while a chunk is held the stored
+ * {@code available_space} of a hot warehouse reads lower than what is really free. Releases always go to the
+ * database, where the capacity bound can be checked; a hot warehouse first hands its chunk back in the same
+ * transaction so the bound is checked against all of its free space.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarehouseCapacity {
+
+    private final WarehouseRepository warehouseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${warehouse.capacity.hot-ids:}")
+    private Set<UUID> hotIds;
+
+    @Value("${warehouse.capacity.allotment:100}")
+    private int allotmentSize;
+
+    private final Map<UUID, CapacityAllotment> allotments = new ConcurrentHashMap<>();
+
+    /**
+     * Takes {@code amount} units of free space. Joins the caller's transaction when there is one.
+     *
+     * @throws InsufficientCapacityException when less than {@code amount} is free
+     */
+    public void reserve(UUID warehouseId, int amount) {
+        if (hotIds.contains(warehouseId)) {
+            CapacityAllotment allotment = allotments.computeIfAbsent(warehouseId, id -> new CapacityAllotment());
+            if (allotment.take(amount)) {
+                return;
+            }
+            int chunk = Math.max(amount, allotmentSize);
+            if (chunk > amount && warehouseRepository.reserveSpace(warehouseId, chunk) == 1) {
+                afterCommit(() -> allotment.add(chunk - amount));
+                return;
+            }
+        }
+        if (warehouseRepository.reserveSpace(warehouseId, amount) == 0) {
+            throw rejected(warehouseId, "Warehouse " + warehouseId + " has less than " + amount + " units of free space");
+        }
+    }
+
+    /**
+     * Gives back {@code amount} units of space. Joins the caller's transaction when there is one.
+     *
+     * @throws InsufficientCapacityException when the release would exceed the capacity
+     */
+    public void release(UUID warehouseId, int amount) {
+        CapacityAllotment allotment = allotments.get(warehouseId);
+        int held = allotment != null ? allotment.drain() : 0;
+        if (held > 0) {
+            warehouseRepository.returnSpace(warehouseId, held);
+            afterRollback(() -> allotment.add(held));
+        }
+        if (warehouseRepository.releaseSpace(warehouseId, amount) == 0) {
+            throw rejected(warehouseId, "Releasing " + amount + " units would exceed the capacity of warehouse " + warehouseId);
+        }
+    }
+
+    /**
+     * Forgets the space held for {@code warehouseId}, for when its free space has been set outright.
+     */
+    public void discard(UUID warehouseId) {
+        CapacityAllotment allotment = allotments.remove(warehouseId);
+        if (allotment != null) {
+            allotment.drain();
+        }
+    }
+
+    /**
+     * Hands the unused space of every allotment back to its warehouse.
+     */
+    @Scheduled(fixedDelayString = "${warehouse.capacity.reconcile-interval:5s}")
+    @CacheEvict(cacheNames = CacheConfig.WAREHOUSES, allEntries = true)
+    public void reconcile() {
+        allotments.forEach((warehouseId, allotment) -> {
+            int unused = allotment.drain();
+            if (unused == 0) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> warehouseRepository.returnSpace(warehouseId, unused));
+            } catch (RuntimeException e) {
+                allotment.add(unused);
+                log.warn("Could not return {} units to warehouse {}; retrying on the next reconcile", unused, warehouseId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        reconcile();
+    }
+
+    private RuntimeException rejected(UUID warehouseId, String message) {
+        if (!warehouseRepository.existsById(warehouseId)) {
+            return new WarehouseNotFoundException("Warehouse not found with id: " + warehouseId);
+        }
+        return new InsufficientCapacityException(message);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.logistics.platform.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Caffeine regions for reference data looked up by natural key, and for computed route times.
+ * <p>
+ * Each region takes a Caffeine spec from {@code cache.regions.<name>}; stats are always recorded so the
+ * actuator publishes hit and miss counts. The caching advice runs outside the transactional one, so a hit
+ * never opens a transaction and evictions happen after the writing transaction has committed. Setting
+ * {@code spring.cache.type=none} switches caching off.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String VEHICLES = "vehicles";
+    public static final String WAREHOUSES = "warehouses";
+    public static final String USERS = "users";
+    public static final String ROUTES = "routes";
+
+    private static final List<String> REGIONS = List.of(VEHICLES, WAREHOUSES, USERS, ROUTES);
+    private static final String DEFAULT_SPEC = "maximumSize=10000,expireAfterWrite=10m";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheRegions(Environment environment) {
+        return cacheManager -> REGIONS.forEach(region -> cacheManager.registerCustomCache(region,
+                Caffeine.from(environment.getProperty("cache.regions." + region, DEFAULT_SPEC))
+                        .recordStats()
+                        .build()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.logistics.platform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * The JDBC pool behind JPA, Liquibase and the import pipeline.
+ * <p>
+ * Boot stops auto-configuring a {@code DataSource} as soon as an R2DBC {@code ConnectionFactory} exists, so with
+ * the reactive read tier on the classpath it has to be declared here. It still binds {@code spring.datasource.*}
+ * and {@code spring.datasource.hikari.*} exactly as the auto-configured pool did.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
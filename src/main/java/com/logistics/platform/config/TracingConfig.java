@@ -0,0 +1,51 @@
+package com.logistics.platform.config;
+
+import com.logistics.platform.tracing.FileSpanExporter;
+import com.logistics.platform.tracing.TailSamplingSpanProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanProcessors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Where finished traces go.
+ * <p>
+ * Spans come from Micrometer observations: the HTTP server and security filter chain, {@code JwtFilter}, every
+ * {@code *ServiceImpl} method and every JDBC connection and statement. Context is propagated as W3C
+ * {@code traceparent}. All traces are recorded, but only slow or failed ones get past the
+ * {@link TailSamplingSpanProcessor} to the exporters: OTLP over HTTP once {@code management.otlp.tracing.endpoint}
+ * is set, and OTLP JSON lines when {@code tracing.export.file} is.
+ */
+@Configuration
+@ConditionalOnClass(SpanProcessor.class)
+public class TracingConfig {
+
+    @Bean
+    public SpanProcessors tailSampledSpanProcessors(
+            ObjectProvider<SpanProcessor> spanProcessors,
+            MeterRegistry meterRegistry,
+            @Value("${tracing.tail-sampling.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${tracing.tail-sampling.max-pending-traces:2000}") int maxPendingTraces,
+            @Value("${tracing.tail-sampling.max-spans-per-trace:200}") int maxSpansPerTrace,
+            @Value("${tracing.tail-sampling.pending-timeout:10s}") Duration pendingTimeout) {
+        SpanProcessor exporting = SpanProcessor.composite(spanProcessors.orderedStream().toList());
+        return SpanProcessors.of(new TailSamplingSpanProcessor(exporting, latencyThreshold, maxPendingTraces,
+                maxSpansPerTrace, pendingTimeout, meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnExpression("!'${tracing.export.file:}'.isBlank()")
+    public SpanExporter fileSpanExporter(@Value("${tracing.export.file}") String file) throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+}
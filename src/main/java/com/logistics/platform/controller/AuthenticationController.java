@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -48,20 +49,19 @@ public class AuthenticationController {
     @Operation(summary = "User login", description = "Authenticates a user and returns access details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many logins in progress, retry after the Retry-After delay")
     })
-    public ResponseEntity<Map<String, Object>> loginUser(@Valid @RequestBody LoginDTO request) {
-        System.out.println("Logging in with email: " + request.getEmail());
-        System.out.println("Received password: " + request.getPassword());
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> loginUser(@Valid @RequestBody LoginDTO request) {
+        return authService.loginUser(request).thenApply(user -> {
+            String token = authService.generateToken(user);
 
-        UserDTO user = authService.loginUser(request);
-        String token = authService.generateToken(user);
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Login successful");
-        response.put("user", user);
-        response.put("token", token);
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Login successful");
+            response.put("user", user);
+            response.put("token", token);
 
-        return ResponseEntity.ok(response);
+            return ResponseEntity.ok(response);
+        });
     }
 }
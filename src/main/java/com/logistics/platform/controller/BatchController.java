@@ -0,0 +1,53 @@
+package com.logistics.platform.controller;
+
+import com.logistics.platform.batch.BatchLimits;
+import com.logistics.platform.domain.BatchResultDTO;
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.service.OrderService;
+import com.logistics.platform.service.PackageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "APIs for creating and updating orders and packages in bulk")
+public class BatchController {
+
+    private final OrderService orderService;
+    private final PackageService packageService;
+    private final BatchLimits batchLimits;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/orders:batch")
+    @Operation(summary = "Create or update orders in bulk", description = "Items without an id are created, items with an id update the existing order. Every item gets its own result; invalid items do not fail the rest of the batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "413", description = "Too many items in one batch")
+    })
+    public ResponseEntity<BatchResultDTO<OrderDTO>> upsertOrders(@RequestBody List<OrderDTO> orders) {
+        return ResponseEntity.ok(orderService.upsertOrders(batchLimits.check(orders)));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/packages:batch")
+    @Operation(summary = "Create or update packages in bulk", description = "Items without an id are created, items with an id update the existing package. Every item gets its own result; invalid items do not fail the rest of the batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "413", description = "Too many items in one batch")
+    })
+    public ResponseEntity<BatchResultDTO<PackageDTO>> upsertPackages(@RequestBody List<PackageDTO> packages) {
+        return ResponseEntity.ok(packageService.upsertPackages(batchLimits.check(packages)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.logistics.platform.controller;
+
+import com.logistics.platform.dispatch.DispatchPlanner;
+import com.logistics.platform.domain.DispatchPlanDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/dispatch")
+@RequiredArgsConstructor
+@Tag(name = "Dispatch", description = "APIs for assigning pending orders to vehicles")
+public class DispatchController {
+
+    private final DispatchPlanner dispatchPlanner;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/plans")
+    @Operation(summary = "Plan pending orders", description = "Packs every pending order onto the vehicles by capacity and package weight, meeting estimated delivery times, "
+            + "and writes one route per leg of each vehicle's tour. Planned orders become ASSIGNED; orders that cannot be served stay PENDING and are listed in the response.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Plan computed and saved"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "409", description = "Orders changed while the plan was being solved"),
+            @ApiResponse(responseCode = "413", description = "Too many pending orders")
+    })
+    public ResponseEntity<DispatchPlanDTO> plan(@Parameter(description = "Solver time budget in seconds") @RequestParam(required = false) Integer timeLimitSeconds) {
+        return ResponseEntity.ok(dispatchPlanner.plan(timeLimitSeconds == null ? null : Duration.ofSeconds(Math.max(1, timeLimitSeconds))));
+    }
+}
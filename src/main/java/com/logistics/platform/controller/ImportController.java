@@ -0,0 +1,36 @@
+package com.logistics.platform.controller;
+
+import com.logistics.platform.domain.ImportReportDTO;
+import com.logistics.platform.ingest.ImportTarget;
+import com.logistics.platform.ingest.ManifestImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "APIs for loading CSV and NDJSON manifests")
+public class ImportController {
+
+    private final ManifestImporter manifestImporter;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{target}")
+    @Operation(summary = "Import a manifest", description = "Loads a CSV or NDJSON manifest from the server's import directory into packages or orders. Rejected rows are written next to the file; a rerun resumes after the last committed chunk.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manifest imported"),
+            @ApiResponse(responseCode = "400", description = "Unknown target or file"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<ImportReportDTO> importManifest(@Parameter(description = "Target table, packages or orders") @PathVariable String target,
+                                                         @Parameter(description = "File name relative to the import directory") @RequestParam String file) {
+        return ResponseEntity.ok(manifestImporter.importFile(ImportTarget.fromTable(target), file));
+    }
+}
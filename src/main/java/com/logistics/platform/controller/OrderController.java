@@ -1,7 +1,10 @@
 package com.logistics.platform.controller;
 
 import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.exception.OrderNotFoundException;
+import com.logistics.platform.export.NdjsonExporter;
+import com.logistics.platform.pagination.PageLimits;
 import com.logistics.platform.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,9 +13,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,16 +29,32 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final PageLimits pageLimits;
+    private final NdjsonExporter ndjsonExporter;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "Get all orders", description = "Retrieves all orders in the system.")
+    @Operation(summary = "Get all orders", description = "Retrieves all orders in the system, one keyset page at a time.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<OrderDTO>> getAllOrders() {
-        return ResponseEntity.ok(orderService.findAllOrders());
+    public ResponseEntity<PageDTO<OrderDTO>> getAllOrders(@Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+                                                          @Parameter(description = "Maximum number of items per page") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.findOrdersPage(cursor, pageLimits.resolve(limit)));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all orders", description = "Streams every order as newline-delimited JSON straight from a database cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonExporter.stream(orderService::streamAllOrders));
     }
 
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -1,7 +1,12 @@
 package com.logistics.platform.controller;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.TravelMatrixDTO;
+import com.logistics.platform.domain.TravelMatrixRequestDTO;
 import com.logistics.platform.exception.RouteNotFoundException;
+import com.logistics.platform.export.NdjsonExporter;
+import com.logistics.platform.pagination.PageLimits;
 import com.logistics.platform.service.RouteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,9 +15,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,16 +31,32 @@ import java.util.UUID;
 public class RouteController {
 
     private final RouteService routeService;
+    private final PageLimits pageLimits;
+    private final NdjsonExporter ndjsonExporter;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "Get all routes", description = "Retrieves all transportation routes in the system.")
+    @Operation(summary = "Get all routes", description = "Retrieves all transportation routes in the system, one keyset page at a time.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Routes retrieved successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<RouteDTO>> getAllRoutes() {
-        return ResponseEntity.ok(routeService.findAllRoutes());
+    public ResponseEntity<PageDTO<RouteDTO>> getAllRoutes(@Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+                                                          @Parameter(description = "Maximum number of items per page") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(routeService.findRoutesPage(cursor, pageLimits.resolve(limit)));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all routes", description = "Streams every route as newline-delimited JSON straight from a database cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Routes streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRoutes() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjsonExporter.stream(routeService::streamAllRoutes));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -47,6 +70,19 @@ public class RouteController {
         return ResponseEntity.ok(routeService.createRoute(routeDTO));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/matrix")
+    @Operation(summary = "Compute a travel-time matrix", description = "Computes travel times in seconds and road distances in metres from every source to every target, each given as \"lat,lon\". "
+            + "Both are returned as flat row-major arrays of sources x targets cells; a cell is null when the pair is unreachable or an end is not near the road network.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matrix computed successfully"),
+            @ApiResponse(responseCode = "400", description = "Sources or targets missing"),
+            @ApiResponse(responseCode = "413", description = "Matrix exceeds the configured cell limit")
+    })
+    public ResponseEntity<TravelMatrixDTO> travelMatrix(@Valid @RequestBody TravelMatrixRequestDTO request) {
+        return ResponseEntity.ok(routeService.travelMatrix(request));
+    }
+
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @GetMapping("/{id}")
     @Operation(summary = "Get route by ID", description = "Retrieves route details by ID.")
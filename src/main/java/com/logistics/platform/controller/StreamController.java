@@ -0,0 +1,161 @@
+package com.logistics.platform.controller;
+
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.service.ReactiveReadService;
+import com.logistics.platform.streaming.SnapshotFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v2")
+@RequiredArgsConstructor
+@Tag(name = "Streaming reads", description = "Non-blocking read APIs for orders, packages and routes")
+public class StreamController {
+
+    private final ReactiveReadService reactiveReadService;
+    private final SnapshotFeed snapshotFeed;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/orders", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all orders", description = "Streams every order in id order as newline-delimited JSON. Pass the last id received to resume an interrupted stream.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Flux<OrderDTO> streamOrders(@Parameter(description = "Resume after this order ID") @RequestParam(required = false) UUID after) {
+        return reactiveReadService.streamOrders(after);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/orders/{id}")
+    @Operation(summary = "Get order by ID", description = "Retrieves order details by ID without holding a request thread.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public Mono<OrderDTO> getOrderById(@Parameter(description = "Order ID") @PathVariable UUID id) {
+        return reactiveReadService.findOrderById(id);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/orders/client/{clientId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream orders by client ID", description = "Streams all orders placed by a specific client as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders streamed successfully")
+    })
+    public Flux<OrderDTO> streamOrdersByClient(@Parameter(description = "Client ID") @PathVariable UUID clientId) {
+        return reactiveReadService.streamOrdersByClient(clientId);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/orders/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow an order", description = "Server-sent events carrying the order every time it changes, starting with its current state.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public Flux<ServerSentEvent<OrderDTO>> followOrder(@Parameter(description = "Order ID") @PathVariable UUID id) {
+        return snapshotFeed.asEvents("order", reactiveReadService.watchOrder(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/packages", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all packages", description = "Streams every package in id order as newline-delimited JSON. Pass the last id received to resume an interrupted stream.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Packages streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Flux<PackageDTO> streamPackages(@Parameter(description = "Resume after this package ID") @RequestParam(required = false) UUID after) {
+        return reactiveReadService.streamPackages(after);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/packages/{id}")
+    @Operation(summary = "Get package by ID", description = "Retrieves package details by ID without holding a request thread.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Package retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Package not found")
+    })
+    public Mono<PackageDTO> getPackageById(@Parameter(description = "Package ID") @PathVariable UUID id) {
+        return reactiveReadService.findPackageById(id);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/packages/order/{orderId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream packages by order ID", description = "Streams all packages of a specific order as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Packages streamed successfully")
+    })
+    public Flux<PackageDTO> streamPackagesByOrder(@Parameter(description = "Order ID") @PathVariable UUID orderId) {
+        return reactiveReadService.streamPackagesByOrder(orderId);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/packages/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow a package", description = "Server-sent events carrying the package every time it changes, starting with its current state.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Package not found")
+    })
+    public Flux<ServerSentEvent<PackageDTO>> followPackage(@Parameter(description = "Package ID") @PathVariable UUID id) {
+        return snapshotFeed.asEvents("package", reactiveReadService.watchPackage(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/routes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all routes", description = "Streams every route in id order as newline-delimited JSON. Pass the last id received to resume an interrupted stream.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Routes streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Flux<RouteDTO> streamRoutes(@Parameter(description = "Resume after this route ID") @RequestParam(required = false) UUID after) {
+        return reactiveReadService.streamRoutes(after);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/routes/{id}")
+    @Operation(summary = "Get route by ID", description = "Retrieves route details by ID without holding a request thread.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Route retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Route not found")
+    })
+    public Mono<RouteDTO> getRouteById(@Parameter(description = "Route ID") @PathVariable UUID id) {
+        return reactiveReadService.findRouteById(id);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/routes/vehicle/{vehicleId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream routes by vehicle ID", description = "Streams all routes assigned to a specific vehicle as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Routes streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Flux<RouteDTO> streamRoutesByVehicle(@Parameter(description = "Vehicle ID") @PathVariable UUID vehicleId) {
+        return reactiveReadService.streamRoutesByVehicle(vehicleId);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping(value = "/routes/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow a route", description = "Server-sent events carrying the route every time it changes, such as new traffic conditions, starting with its current state.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Route not found")
+    })
+    public Flux<ServerSentEvent<RouteDTO>> followRoute(@Parameter(description = "Route ID") @PathVariable UUID id) {
+        return snapshotFeed.asEvents("route", reactiveReadService.watchRoute(id));
+    }
+}
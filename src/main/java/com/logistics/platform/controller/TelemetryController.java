@@ -0,0 +1,38 @@
+package com.logistics.platform.controller;
+
+import com.logistics.platform.batch.BatchLimits;
+import com.logistics.platform.domain.TelemetryAckDTO;
+import com.logistics.platform.domain.TelemetryPingDTO;
+import com.logistics.platform.telemetry.TelemetryPipeline;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/telemetry")
+@RequiredArgsConstructor
+@Tag(name = "Telemetry", description = "APIs for reporting vehicle positions")
+public class TelemetryController {
+
+    private final TelemetryPipeline telemetryPipeline;
+    private final BatchLimits batchLimits;
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping("/pings")
+    @Operation(summary = "Report vehicle positions", description = "Queues a batch of position pings. Vehicle positions are written in periodic batches, keeping the newest ping per vehicle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Pings queued, see accepted and rejected counts"),
+            @ApiResponse(responseCode = "413", description = "Too many pings in one batch"),
+            @ApiResponse(responseCode = "503", description = "Telemetry buffer full, retry later")
+    })
+    public ResponseEntity<TelemetryAckDTO> reportPings(@RequestBody List<TelemetryPingDTO> pings) {
+        return ResponseEntity.accepted().body(telemetryPipeline.accept(batchLimits.check(pings)));
+    }
+}
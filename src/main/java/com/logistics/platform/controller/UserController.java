@@ -1,7 +1,9 @@
 package com.logistics.platform.controller;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.UserDTO;
 import com.logistics.platform.exception.UserNotFoundException;
+import com.logistics.platform.pagination.PageLimits;
 import com.logistics.platform.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,16 +27,18 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final PageLimits pageLimits;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users.")
+    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users, one keyset page at a time.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    public ResponseEntity<PageDTO<UserDTO>> getAllUsers(@Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+                                                        @Parameter(description = "Maximum number of items per page") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.findUsersPage(cursor, pageLimits.resolve(limit)));
     }
 
     @PostMapping
@@ -1,7 +1,12 @@
 package com.logistics.platform.controller;
 
+import com.logistics.platform.domain.NearbyVehicleDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.TrackDTO;
 import com.logistics.platform.domain.VehicleDTO;
 import com.logistics.platform.exception.VehicleNotFoundException;
+import com.logistics.platform.geo.NearbyLimits;
+import com.logistics.platform.pagination.PageLimits;
 import com.logistics.platform.service.VehicleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,16 +30,19 @@ import java.util.UUID;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final PageLimits pageLimits;
+    private final NearbyLimits nearbyLimits;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "Get all vehicles", description = "Retrieves all registered vehicles in the system.")
+    @Operation(summary = "Get all vehicles", description = "Retrieves all registered vehicles in the system, one keyset page at a time.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Vehicles retrieved successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<VehicleDTO>> getAllVehicles() {
-        return ResponseEntity.ok(vehicleService.findAllVehicles());
+    public ResponseEntity<PageDTO<VehicleDTO>> getAllVehicles(@Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+                                                              @Parameter(description = "Maximum number of items per page") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(vehicleService.findVehiclesPage(cursor, pageLimits.resolve(limit)));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -47,6 +56,20 @@ public class VehicleController {
         return ResponseEntity.ok(vehicleService.createVehicle(vehicleDTO));
     }
 
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/nearby")
+    @Operation(summary = "Find nearby vehicles", description = "Retrieves the vehicles closest to a point, nearest first, from their last known coordinates.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nearby vehicles retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Coordinates out of range")
+    })
+    public ResponseEntity<List<NearbyVehicleDTO>> getNearbyVehicles(@Parameter(description = "Latitude in degrees") @RequestParam double lat,
+                                                                    @Parameter(description = "Longitude in degrees") @RequestParam double lon,
+                                                                    @Parameter(description = "Search radius in meters") @RequestParam(required = false) Double radius,
+                                                                    @Parameter(description = "Maximum number of vehicles") @RequestParam(required = false) Integer k) {
+        return ResponseEntity.ok(vehicleService.findNearbyVehicles(lat, lon, nearbyLimits.radius(radius), nearbyLimits.results(k)));
+    }
+
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @GetMapping("/{id}")
     @Operation(summary = "Get vehicle by ID", description = "Retrieves vehicle details by ID.")
@@ -58,6 +81,20 @@ public class VehicleController {
         return ResponseEntity.ok(vehicleService.findVehicleById(id));
     }
 
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/{id}/track")
+    @Operation(summary = "Get vehicle track", description = "Retrieves the positions a vehicle reported between two instants, oldest first. Positions older than the downsampling age are thinned to one per interval.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Track retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found")
+    })
+    public ResponseEntity<TrackDTO> getVehicleTrack(@Parameter(description = "Vehicle ID") @PathVariable UUID id,
+                                                    @Parameter(description = "Start of the range, inclusive (ISO-8601)") @RequestParam Instant from,
+                                                    @Parameter(description = "End of the range, exclusive (ISO-8601); defaults to now") @RequestParam(required = false) Instant to,
+                                                    @Parameter(description = "Maximum number of points per page") @RequestParam(required = false) Integer limit) throws VehicleNotFoundException {
+        return ResponseEntity.ok(vehicleService.findTrack(id, from, to != null ? to : Instant.now(), pageLimits.resolve(limit)));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}/assign-driver/{driverId}")
     @Operation(summary = "Assign driver to vehicle", description = "Allows admins to assign a driver to a vehicle.")
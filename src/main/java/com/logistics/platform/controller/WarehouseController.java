@@ -1,7 +1,11 @@
 package com.logistics.platform.controller;
 
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.ReservationDTO;
 import com.logistics.platform.domain.WarehouseDTO;
+import com.logistics.platform.domain.enums.ReservationType;
 import com.logistics.platform.exception.WarehouseNotFoundException;
+import com.logistics.platform.pagination.PageLimits;
 import com.logistics.platform.service.WarehouseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,16 +27,18 @@ import java.util.UUID;
 public class WarehouseController {
 
     private final WarehouseService warehouseService;
+    private final PageLimits pageLimits;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "Get all warehouses", description = "Retrieves all warehouses in the system.")
+    @Operation(summary = "Get all warehouses", description = "Retrieves all warehouses in the system, one keyset page at a time.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Warehouses retrieved successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<WarehouseDTO>> getAllWarehouses() {
-        return ResponseEntity.ok(warehouseService.findAllWarehouses());
+    public ResponseEntity<PageDTO<WarehouseDTO>> getAllWarehouses(@Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+                                                                  @Parameter(description = "Maximum number of items per page") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(warehouseService.findWarehousesPage(cursor, pageLimits.resolve(limit)));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -74,13 +79,32 @@ public class WarehouseController {
     @Operation(summary = "Update warehouse", description = "Allows admins to update warehouse information.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Warehouse updated successfully"),
-            @ApiResponse(responseCode = "404", description = "Warehouse not found")
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Warehouse was changed since the given version")
     })
     public ResponseEntity<WarehouseDTO> updateWarehouse(@Parameter(description = "Warehouse ID") @PathVariable UUID id,
                                                         @Valid @RequestBody WarehouseDTO warehouseDTO) throws WarehouseNotFoundException {
         return ResponseEntity.ok(warehouseService.updateWarehouse(id, warehouseDTO));
     }
 
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @PostMapping("/{id}/reservations")
+    @Operation(summary = "Reserve or release warehouse space", description = "Atomically takes space out of or gives it back to a warehouse's available space.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Space reserved or released"),
+            @ApiResponse(responseCode = "404", description = "Warehouse not found"),
+            @ApiResponse(responseCode = "409", description = "Not enough free space, or the release would exceed the capacity")
+    })
+    public ResponseEntity<Void> reserveSpace(@Parameter(description = "Warehouse ID") @PathVariable UUID id,
+                                             @Valid @RequestBody ReservationDTO reservationDTO) throws WarehouseNotFoundException {
+        if (reservationDTO.getType() == ReservationType.RESERVE) {
+            warehouseService.reserveSpace(id, reservationDTO.getAmount());
+        } else {
+            warehouseService.releaseSpace(id, reservationDTO.getAmount());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete warehouse", description = "Allows admins to remove a warehouse from the system.")
@@ -0,0 +1,191 @@
+package com.logistics.platform.dispatch;
+
+import com.logistics.platform.domain.DispatchPlanDTO;
+import com.logistics.platform.domain.DispatchTourDTO;
+import com.logistics.platform.exception.BatchTooLargeException;
+import com.logistics.platform.repository.OrderRepository;
+import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.OrderLoadView;
+import com.logistics.platform.repository.projection.OrderView;
+import com.logistics.platform.repository.projection.VehicleView;
+import com.logistics.platform.routing.RoutePlanner;
+import com.logistics.platform.routing.TravelMatrix;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Assigns pending orders to vehicles and writes the resulting tours as routes.
+ * <p>
+ * Each pending order is one stop at its destination, weighing as much as its packages, to be reached before
+ * its estimated delivery time. Vehicles with a current location start from there now and serve their stops on
+ * an open tour; a vehicle without a capacity takes any load. Travel times come from the {@link RoutePlanner}, so
+ * a stop off the road network, an order already overdue or one heavier than every vehicle stays pending and is
+ * reported back. Solving runs on {@code dispatch.solver-threads} dedicated threads and no database connection
+ * is held meanwhile; the plan is written by the {@link DispatchStore}.
+ * <p>
+ * The travel-time matrix covers every vehicle and stop to every stop, so a plan is refused when it would exceed
+ * {@code dispatch.max-matrix-cells}; at two doubles per cell while the matrix is assembled, the default of five
+ * million cells stays below 100 MB.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DispatchPlanner {
+
+    static final String PENDING = "PENDING";
+    static final String ASSIGNED = "ASSIGNED";
+
+    private final OrderRepository orderRepository;
+    private final PackageRepository packageRepository;
+    private final VehicleRepository vehicleRepository;
+    private final RoutePlanner routePlanner;
+    private final DispatchStore dispatchStore;
+
+    @Value("${dispatch.time-limit:10s}")
+    private Duration defaultTimeLimit;
+
+    @Value("${dispatch.max-time-limit:2m}")
+    private Duration maxTimeLimit;
+
+    @Value("${dispatch.service-time:5m}")
+    private Duration serviceTime;
+
+    @Value("${dispatch.max-stops:2000}")
+    private int maxStops;
+
+    @Value("${dispatch.max-matrix-cells:5000000}")
+    private long maxMatrixCells;
+
+    @Value("${dispatch.solver-threads:0}")
+    private int solverThreads;
+
+    private ExecutorService solverPool;
+    private int workers;
+
+    @PostConstruct
+    void start() {
+        workers = solverThreads > 0 ? solverThreads : Runtime.getRuntime().availableProcessors();
+        solverPool = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("dispatch-solver-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        solverPool.shutdownNow();
+    }
+
+    /**
+     * Plans all pending orders within {@code timeLimit}, or {@code dispatch.time-limit} when none is given,
+     * capped at {@code dispatch.max-time-limit}.
+     */
+    public DispatchPlanDTO plan(Duration timeLimit) {
+        long started = System.nanoTime();
+        Duration budget = timeLimit == null ? defaultTimeLimit : timeLimit.compareTo(maxTimeLimit) > 0 ? maxTimeLimit : timeLimit;
+
+        List<OrderView> orders = orderRepository.findViewsByStatus(PENDING);
+        if (orders.size() > maxStops) {
+            throw new BatchTooLargeException("Dispatch of " + orders.size() + " pending orders exceeds the limit of " + maxStops);
+        }
+        List<VehicleView> vehicles = vehicleRepository.findAllViews().stream()
+                .filter(vehicle -> vehicle.currentLocation() != null)
+                .toList();
+        long cells = (long) (vehicles.size() + orders.size()) * orders.size();
+        if (cells > maxMatrixCells) {
+            throw new BatchTooLargeException("Dispatch of " + orders.size() + " pending orders onto " + vehicles.size()
+                    + " vehicles needs a travel matrix of " + cells + " cells, above the limit of " + maxMatrixCells);
+        }
+        Map<UUID, Double> loads = packageRepository.sumWeightsByOrderStatus(PENDING).stream()
+                .filter(load -> load.weight() != null)
+                .collect(Collectors.toMap(OrderLoadView::orderId, OrderLoadView::weight));
+        if (orders.isEmpty() || vehicles.isEmpty()) {
+            return DispatchPlanDTO.builder()
+                    .pendingOrders(orders.size())
+                    .solveMs((System.nanoTime() - started) / 1_000_000)
+                    .tours(List.of())
+                    .unassignedOrderIds(orders.stream().map(OrderView::id).toList())
+                    .build();
+        }
+
+        DispatchProblem problem = problem(orders, vehicles, loads);
+        DispatchSolution solution = new DispatchSolver(problem).solve(solverPool, workers, budget);
+
+        List<Integer> used = new ArrayList<>();
+        List<DispatchStore.Tour> tours = new ArrayList<>();
+        Set<UUID> assigned = new HashSet<>();
+        for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+            int[] stops = solution.tours()[vehicle];
+            if (stops.length == 0) {
+                continue;
+            }
+            List<DispatchStore.Leg> legs = new ArrayList<>(stops.length);
+            String from = vehicles.get(vehicle).currentLocation();
+            for (int i = 0; i < stops.length; i++) {
+                double seconds = i == 0 ? problem.fromStart(vehicle, stops[i]) : problem.between(stops[i - 1], stops[i]);
+                OrderView order = orders.get(stops[i]);
+                legs.add(new DispatchStore.Leg(from, order.destination(), (long) Math.ceil(seconds)));
+                assigned.add(order.id());
+                from = order.destination();
+            }
+            used.add(vehicle);
+            tours.add(new DispatchStore.Tour(vehicles.get(vehicle).id(), legs));
+        }
+        List<List<UUID>> routeIds = assigned.isEmpty() ? List.of() : dispatchStore.save(tours, assigned);
+
+        List<DispatchTourDTO> planned = new ArrayList<>(tours.size());
+        for (int i = 0; i < tours.size(); i++) {
+            int[] stops = solution.tours()[used.get(i)];
+            planned.add(DispatchTourDTO.builder()
+                    .vehicleId(tours.get(i).vehicleId())
+                    .orderIds(Arrays.stream(stops).mapToObj(stop -> orders.get(stop).id()).toList())
+                    .routeIds(routeIds.get(i))
+                    .load(Arrays.stream(stops).mapToDouble(stop -> problem.demand()[stop]).sum())
+                    .travelSeconds(tours.get(i).legs().stream().mapToLong(DispatchStore.Leg::seconds).sum())
+                    .build());
+        }
+        long elapsed = (System.nanoTime() - started) / 1_000_000;
+        log.info("Dispatched {} of {} pending orders onto {} vehicles in {} ms", assigned.size(), orders.size(), tours.size(), elapsed);
+        return DispatchPlanDTO.builder()
+                .pendingOrders(orders.size())
+                .assignedOrders(assigned.size())
+                .travelSeconds(planned.stream().mapToLong(DispatchTourDTO::getTravelSeconds).sum())
+                .solveMs(elapsed)
+                .tours(planned)
+                .unassignedOrderIds(Arrays.stream(solution.unassigned()).mapToObj(stop -> orders.get(stop).id()).toList())
+                .build();
+    }
+
+    private DispatchProblem problem(List<OrderView> orders, List<VehicleView> vehicles, Map<UUID, Double> loads) {
+        List<String> destinations = orders.stream().map(OrderView::destination).toList();
+        List<String> origins = Stream.concat(vehicles.stream().map(VehicleView::currentLocation), destinations.stream()).toList();
+        TravelMatrix matrix = routePlanner.travelTimes(origins, destinations);
+
+        double[] capacity = vehicles.stream()
+                .mapToDouble(vehicle -> vehicle.capacity() == null ? Double.POSITIVE_INFINITY : vehicle.capacity())
+                .toArray();
+        double[] demand = orders.stream().mapToDouble(order -> loads.getOrDefault(order.id(), 0.0)).toArray();
+        LocalDateTime now = LocalDateTime.now();
+        double[] due = orders.stream()
+                .mapToDouble(order -> order.estimatedDeliveryTime() == null ? Double.POSITIVE_INFINITY
+                        : Duration.between(now, order.estimatedDeliveryTime()).toMillis() / 1000.0)
+                .toArray();
+        return new DispatchProblem(capacity, demand, due, serviceTime.toSeconds(), matrix.seconds());
+    }
+}
@@ -0,0 +1,40 @@
+package com.logistics.platform.dispatch;
+
+/**
+ * Capacitated routing instance with delivery deadlines: {@code capacity.length} vehicles leave their start
+ * locations at time zero and serve {@code demand.length} stops on open tours, i.e. without returning.
+ * <p>
+ * {@code travel} holds the driving seconds from every vehicle start and then every stop (rows) to every stop
+ * (columns); an infinite entry means the stop cannot be reached from there. Every stop takes
+ * {@code serviceSeconds}, and arriving at stop {@code s} later than {@code due[s]} is infeasible.
+ */
+record DispatchProblem(double[] capacity, double[] demand, double[] due, double serviceSeconds, double[] travel) {
+
+    DispatchProblem {
+        if (travel.length != (capacity.length + demand.length) * demand.length || due.length != demand.length) {
+            throw new IllegalArgumentException("Travel matrix does not match " + capacity.length + " vehicles and " + demand.length + " stops");
+        }
+    }
+
+    int vehicles() {
+        return capacity.length;
+    }
+
+    int stops() {
+        return demand.length;
+    }
+
+    /**
+     * Seconds from the start of {@code vehicle} to {@code stop}.
+     */
+    double fromStart(int vehicle, int stop) {
+        return travel[vehicle * demand.length + stop];
+    }
+
+    /**
+     * Seconds from stop {@code from} to stop {@code to}.
+     */
+    double between(int from, int to) {
+        return travel[(capacity.length + from) * demand.length + to];
+    }
+}
@@ -0,0 +1,12 @@
+package com.logistics.platform.dispatch;
+
+/**
+ * Stops in visiting order per vehicle, the stops no vehicle could serve, and the total driving time.
+ */
+record DispatchSolution(int[][] tours, int[] unassigned, double travelSeconds) {
+
+    boolean betterThan(DispatchSolution other) {
+        return other == null || unassigned.length < other.unassigned.length
+                || unassigned.length == other.unassigned.length && travelSeconds < other.travelSeconds;
+    }
+}
@@ -0,0 +1,735 @@
+package com.logistics.platform.dispatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * Heuristic solver for a {@link DispatchProblem}.
+ * <p>
+ * Each worker builds a solution by cheapest feasible insertion in deadline order, improves it with local search
+ * and then iterates ruin and recreate: a random stop and its nearest neighbours are taken out, reinserted
+ * cheapest-first and the result is polished again. The local search moves segments of one to three stops to other
+ * tours (relocate and or-opt) or to other positions of the same tour, reverses parts of a tour (2-opt) and swaps the
+ * tails of two tours (2-opt*). Moves between tours are only tried next to a stop's {@link #NEIGHBOURS} nearest stops,
+ * and their capacity and deadline checks take constant time thanks to per-position loads and slack, the delay a
+ * position can absorb before some later stop misses its deadline.
+ * <p>
+ * A ruined and recreated solution replaces the current one if it serves as many stops and drives at most
+ * {@link #ACCEPT_WORSE} more than the worker's best, which lets the search leave local optima without drifting.
+ * Workers run in parallel with different random seeds and publish every improvement, so whatever is best when the
+ * time budget runs out is returned. A worker also stops once it has gone {@link #IDLE_ITERATIONS} iterations
+ * without improving its own best, which keeps small instances from burning the whole budget.
+ */
+final class DispatchSolver {
+
+    private static final int NEIGHBOURS = 20;
+    private static final int MAX_SEGMENT = 3;
+    private static final int IDLE_ITERATIONS = 2000;
+    private static final double ACCEPT_WORSE = 0.002;
+    private static final double UNASSIGNED_PENALTY = 1e9;
+    private static final double EPSILON = 1e-3;
+
+    private final DispatchProblem problem;
+    private final int vehicles;
+    private final int stops;
+    private final int[][] neighbours;
+    private final boolean[] servable;
+
+    DispatchSolver(DispatchProblem problem) {
+        this.problem = problem;
+        this.vehicles = problem.vehicles();
+        this.stops = problem.stops();
+        this.neighbours = new int[stops][];
+        IntStream.range(0, stops).parallel().forEach(stop -> neighbours[stop] = nearest(stop));
+        this.servable = new boolean[stops];
+        for (int stop = 0; stop < stops; stop++) {
+            for (int vehicle = 0; vehicle < vehicles && !servable[stop]; vehicle++) {
+                servable[stop] = problem.demand()[stop] <= problem.capacity()[vehicle]
+                        && problem.fromStart(vehicle, stop) <= problem.due()[stop];
+            }
+        }
+    }
+
+    /**
+     * Runs {@code workers} searches on {@code executor} until {@code budget} has passed and returns the best
+     * solution any of them found. Every worker completes at least its construction, even past the deadline.
+     */
+    DispatchSolution solve(ExecutorService executor, int workers, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        AtomicReference<DispatchSolution> best = new AtomicReference<>();
+        List<Future<?>> running = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            long seed = worker;
+            running.add(executor.submit(() -> new Worker(seed, deadline, best).run()));
+        }
+        try {
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            running.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving dispatch plan", e);
+        } catch (ExecutionException e) {
+            running.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Dispatch solver failed", e.getCause());
+        }
+        return best.get();
+    }
+
+    private int[] nearest(int stop) {
+        int[] closest = new int[Math.min(NEIGHBOURS, stops - 1)];
+        double[] distance = new double[closest.length];
+        int found = 0;
+        for (int other = 0; other < stops; other++) {
+            double d = other == stop ? Double.POSITIVE_INFINITY : problem.between(stop, other) + problem.between(other, stop);
+            if (Double.isInfinite(d) || found == closest.length && d >= distance[found - 1]) {
+                continue;
+            }
+            int i = found < closest.length ? found++ : found - 1;
+            while (i > 0 && distance[i - 1] > d) {
+                closest[i] = closest[i - 1];
+                distance[i] = distance[i - 1];
+                i--;
+            }
+            closest[i] = other;
+            distance[i] = d;
+        }
+        return Arrays.copyOf(closest, found);
+    }
+
+    private final class Worker {
+
+        private final SplittableRandom random;
+        private final long deadline;
+        private final AtomicReference<DispatchSolution> best;
+        private final Segment segment = new Segment();
+        private int[] first = new int[16];
+        private int[] second = new int[16];
+
+        private Worker(long seed, long deadline, AtomicReference<DispatchSolution> best) {
+            this.random = new SplittableRandom(seed);
+            this.deadline = deadline;
+            this.best = best;
+        }
+
+        private void run() {
+            Tours current = new Tours();
+            recreate(current, false);
+            localSearch(current);
+            publish(current);
+
+            Tours candidate = new Tours();
+            double bestCost = current.cost();
+            double bestTravel = current.travel();
+            for (int idle = 0; idle < IDLE_ITERATIONS && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted(); idle++) {
+                candidate.copyFrom(current);
+                ruin(candidate);
+                recreate(candidate, true);
+                localSearch(candidate);
+
+                double cost = candidate.cost();
+                if (cost < bestCost - EPSILON) {
+                    bestCost = cost;
+                    bestTravel = candidate.travel();
+                    publish(candidate);
+                    idle = -1;
+                }
+                if (cost < bestCost + ACCEPT_WORSE * bestTravel) {
+                    Tours previous = current;
+                    current = candidate;
+                    candidate = previous;
+                }
+            }
+        }
+
+        private void publish(Tours tours) {
+            DispatchSolution solution = tours.toSolution();
+            best.accumulateAndGet(solution, (known, found) -> found.betterThan(known) ? found : known);
+        }
+
+        /**
+         * Removes a random served stop together with a random number of its nearest served neighbours.
+         */
+        private void ruin(Tours tours) {
+            if (tours.assigned() == 0) {
+                return;
+            }
+            int seed;
+            do {
+                seed = random.nextInt(stops);
+            } while (tours.routeOf[seed] < 0);
+            int count = 1 + random.nextInt(Math.min(NEIGHBOURS, Math.max(1, tours.assigned() / 5)));
+            boolean[] touched = new boolean[vehicles];
+            touched[tours.routeOf[seed]] = true;
+            tours.routeOf[seed] = -1;
+            for (int i = 0; i < neighbours[seed].length && count > 1; i++) {
+                int stop = neighbours[seed][i];
+                if (tours.routeOf[stop] >= 0) {
+                    touched[tours.routeOf[stop]] = true;
+                    tours.routeOf[stop] = -1;
+                    count--;
+                }
+            }
+            for (int route = 0; route < vehicles; route++) {
+                if (touched[route]) {
+                    int length = 0;
+                    first = ensure(first, tours.size[route]);
+                    for (int p = 0; p < tours.size[route]; p++) {
+                        int stop = tours.tour[route][p];
+                        if (tours.routeOf[stop] >= 0) {
+                            first[length++] = stop;
+                        }
+                    }
+                    tours.set(route, first, length);
+                }
+            }
+        }
+
+        /**
+         * Inserts every servable stop that is not on a tour at its cheapest feasible position, in deadline order
+         * or, when {@code shuffled}, in random order half of the time.
+         */
+        private void recreate(Tours tours, boolean shuffled) {
+            int[] pending = IntStream.range(0, stops).filter(stop -> servable[stop] && tours.routeOf[stop] < 0).toArray();
+            for (int i = pending.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = pending[i];
+                pending[i] = pending[j];
+                pending[j] = swap;
+            }
+            if (!shuffled || random.nextBoolean()) {
+                double[] due = problem.due();
+                pending = Arrays.stream(pending).boxed()
+                        .sorted((a, b) -> Double.compare(due[a], due[b]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+            for (int stop : pending) {
+                segment.single(stop);
+                int bestRoute = -1;
+                int bestPosition = -1;
+                double bestDelta = Double.POSITIVE_INFINITY;
+                for (int route = 0; route < vehicles; route++) {
+                    for (int p = 0; p <= tours.size[route]; p++) {
+                        double delta = tours.insertionDelta(route, p, segment);
+                        if (delta < bestDelta) {
+                            bestDelta = delta;
+                            bestRoute = route;
+                            bestPosition = p;
+                        }
+                    }
+                }
+                if (bestRoute >= 0) {
+                    insert(tours, bestRoute, bestPosition, segment);
+                }
+            }
+        }
+
+        private void localSearch(Tours tours) {
+            boolean improved = true;
+            while (improved && System.nanoTime() < deadline) {
+                improved = moveSegments(tours) | exchangeTails(tours) | improveTours(tours);
+            }
+        }
+
+        /**
+         * Relocate and or-opt between tours: moves one to three consecutive stops next to a neighbour on another
+         * tour, or to the front of any other tour.
+         */
+        private boolean moveSegments(Tours tours) {
+            boolean improved = false;
+            for (int route = 0; route < vehicles; route++) {
+                for (int i = 0; i < tours.size[route]; i++) {
+                    for (int length = 1; length <= MAX_SEGMENT && i + length <= tours.size[route]; length++) {
+                        double saving = tours.removalSaving(route, i, length);
+                        if (saving == Double.NEGATIVE_INFINITY) {
+                            continue;
+                        }
+                        segment.of(tours, route, i, length);
+                        int bestRoute = -1;
+                        int bestPosition = -1;
+                        double bestGain = EPSILON;
+                        for (int neighbour : neighbours[segment.first()]) {
+                            int other = tours.routeOf[neighbour];
+                            if (other >= 0 && other != route) {
+                                double gain = saving - tours.insertionDelta(other, tours.positionOf[neighbour] + 1, segment);
+                                if (gain > bestGain) {
+                                    bestGain = gain;
+                                    bestRoute = other;
+                                    bestPosition = tours.positionOf[neighbour] + 1;
+                                }
+                            }
+                        }
+                        for (int neighbour : neighbours[segment.last()]) {
+                            int other = tours.routeOf[neighbour];
+                            if (other >= 0 && other != route) {
+                                double gain = saving - tours.insertionDelta(other, tours.positionOf[neighbour], segment);
+                                if (gain > bestGain) {
+                                    bestGain = gain;
+                                    bestRoute = other;
+                                    bestPosition = tours.positionOf[neighbour];
+                                }
+                            }
+                        }
+                        for (int other = 0; other < vehicles; other++) {
+                            if (other != route) {
+                                double gain = saving - tours.insertionDelta(other, 0, segment);
+                                if (gain > bestGain) {
+                                    bestGain = gain;
+                                    bestRoute = other;
+                                    bestPosition = 0;
+                                }
+                            }
+                        }
+                        if (bestRoute >= 0) {
+                            remove(tours, route, i, length);
+                            insert(tours, bestRoute, bestPosition, segment);
+                            improved = true;
+                            length = MAX_SEGMENT;
+                        }
+                    }
+                }
+            }
+            return improved;
+        }
+
+        /**
+         * 2-opt*: cuts two tours after a stop and a stop's neighbour and swaps what follows, so
+         * {@code a1 .. x | a2 ..} and {@code b1 .. | n ..} become {@code a1 .. x n ..} and {@code b1 .. a2 ..}.
+         */
+        private boolean exchangeTails(Tours tours) {
+            boolean improved = false;
+            double service = problem.serviceSeconds();
+            for (int route = 0; route < vehicles; route++) {
+                for (int a = 1; a <= tours.size[route]; a++) {
+                    int x = tours.tour[route][a - 1];
+                    for (int n : neighbours[x]) {
+                        int other = tours.routeOf[n];
+                        if (other < 0 || other == route) {
+                            continue;
+                        }
+                        int b = tours.positionOf[n];
+                        double tailA = tours.load(route) - tours.loadBefore[route][a];
+                        double tailB = tours.load(other) - tours.loadBefore[other][b];
+                        if (tours.loadBefore[route][a] + tailB > problem.capacity()[route]
+                                || tours.loadBefore[other][b] + tailA > problem.capacity()[other]) {
+                            continue;
+                        }
+                        double arriveN = tours.arrival[route][a - 1] + service + problem.between(x, n);
+                        if (arriveN - tours.arrival[other][b] > tours.slack[other][b]) {
+                            continue;
+                        }
+                        int before = b == 0 ? -1 : tours.tour[other][b - 1];
+                        double oldLegs = tours.leg(other, before, n);
+                        double newLegs = problem.between(x, n);
+                        if (a < tours.size[route]) {
+                            int next = tours.tour[route][a];
+                            double arriveNext = tours.departure(other, b) + tours.leg(other, before, next);
+                            if (arriveNext - tours.arrival[route][a] > tours.slack[route][a]) {
+                                continue;
+                            }
+                            oldLegs += problem.between(x, next);
+                            newLegs += tours.leg(other, before, next);
+                        }
+                        if (oldLegs - newLegs > EPSILON) {
+                            int sizeA = tours.size[route];
+                            int sizeB = tours.size[other];
+                            first = ensure(first, a + sizeB - b);
+                            second = ensure(second, b + sizeA - a);
+                            System.arraycopy(tours.tour[route], 0, first, 0, a);
+                            System.arraycopy(tours.tour[other], b, first, a, sizeB - b);
+                            System.arraycopy(tours.tour[other], 0, second, 0, b);
+                            System.arraycopy(tours.tour[route], a, second, b, sizeA - a);
+                            tours.set(route, first, a + sizeB - b);
+                            tours.set(other, second, b + sizeA - a);
+                            improved = true;
+                            break;
+                        }
+                    }
+                }
+            }
+            return improved;
+        }
+
+        /**
+         * Or-opt and 2-opt within each tour changed since it was last improved. Candidates are ranked by their
+         * travel time delta, which both moves compute in constant time; only an improving one is replayed to check
+         * the deadlines, since moving or reversing stops shifts every later arrival.
+         */
+        private boolean improveTours(Tours tours) {
+            boolean improved = false;
+            for (int route = 0; route < vehicles && System.nanoTime() < deadline; route++) {
+                while (tours.dirty[route]) {
+                    tours.dirty[route] = false;
+                    if (moveWithinTour(tours, route) || reverseWithinTour(tours, route)) {
+                        improved = true;
+                    }
+                }
+            }
+            return improved;
+        }
+
+        private boolean moveWithinTour(Tours tours, int route) {
+            int size = tours.size[route];
+            int[] tour = tours.tour[route];
+            for (int i = 0; i < size; i++) {
+                for (int length = 1; length <= MAX_SEGMENT && i + length <= size; length++) {
+                    double saving = tours.removalSaving(route, i, length);
+                    if (saving == Double.NEGATIVE_INFINITY) {
+                        continue;
+                    }
+                    int head = tour[i];
+                    int tail = tour[i + length - 1];
+                    double internal = 0;
+                    for (int p = i + 1; p < i + length; p++) {
+                        internal += problem.between(tour[p - 1], tour[p]);
+                    }
+                    for (int q = 0; q <= size; q++) {
+                        if (q >= i && q <= i + length) {
+                            continue;
+                        }
+                        int before = q == 0 ? -1 : tour[q - 1];
+                        double added = tours.leg(route, before, head) + internal;
+                        if (q < size) {
+                            added += problem.between(tail, tour[q]) - tours.leg(route, before, tour[q]);
+                        }
+                        if (saving - added > EPSILON && moveIfOnTime(tours, route, i, length, q)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean moveIfOnTime(Tours tours, int route, int i, int length, int q) {
+            int size = tours.size[route];
+            int[] tour = tours.tour[route];
+            first = ensure(first, size);
+            int k = 0;
+            for (int p = 0; p <= size; p++) {
+                if (p == q) {
+                    System.arraycopy(tour, i, first, k, length);
+                    k += length;
+                }
+                if (p < size && (p < i || p >= i + length)) {
+                    first[k++] = tour[p];
+                }
+            }
+            if (tours.replay(route, first, size) == Double.POSITIVE_INFINITY) {
+                return false;
+            }
+            tours.set(route, first, size);
+            return true;
+        }
+
+        private boolean reverseWithinTour(Tours tours, int route) {
+            int size = tours.size[route];
+            int[] tour = tours.tour[route];
+            for (int i = 0; i < size - 1; i++) {
+                int before = i == 0 ? -1 : tour[i - 1];
+                double forward = 0;
+                double backward = 0;
+                for (int j = i + 1; j < size; j++) {
+                    forward += problem.between(tour[j - 1], tour[j]);
+                    backward += problem.between(tour[j], tour[j - 1]);
+                    double current = tours.leg(route, before, tour[i]) + forward;
+                    double reversed = tours.leg(route, before, tour[j]) + backward;
+                    if (j + 1 < size) {
+                        current += problem.between(tour[j], tour[j + 1]);
+                        reversed += problem.between(tour[i], tour[j + 1]);
+                    }
+                    if (current - reversed > EPSILON && reverseIfOnTime(tours, route, i, j)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean reverseIfOnTime(Tours tours, int route, int i, int j) {
+            int size = tours.size[route];
+            first = ensure(first, size);
+            System.arraycopy(tours.tour[route], 0, first, 0, size);
+            for (int l = i, r = j; l < r; l++, r--) {
+                int swap = first[l];
+                first[l] = first[r];
+                first[r] = swap;
+            }
+            if (tours.replay(route, first, size) == Double.POSITIVE_INFINITY) {
+                return false;
+            }
+            tours.set(route, first, size);
+            return true;
+        }
+
+        private void insert(Tours tours, int route, int position, Segment inserted) {
+            int size = tours.size[route];
+            first = ensure(first, size + inserted.length);
+            System.arraycopy(tours.tour[route], 0, first, 0, position);
+            System.arraycopy(inserted.stops, 0, first, position, inserted.length);
+            System.arraycopy(tours.tour[route], position, first, position + inserted.length, size - position);
+            tours.set(route, first, size + inserted.length);
+        }
+
+        private void remove(Tours tours, int route, int position, int length) {
+            int size = tours.size[route];
+            for (int p = position; p < position + length; p++) {
+                tours.routeOf[tours.tour[route][p]] = -1;
+            }
+            first = ensure(first, size - length);
+            System.arraycopy(tours.tour[route], 0, first, 0, position);
+            System.arraycopy(tours.tour[route], position + length, first, position, size - position - length);
+            tours.set(route, first, size - length);
+        }
+
+        private static int[] ensure(int[] buffer, int length) {
+            return buffer.length >= length ? buffer : new int[Math.max(length, buffer.length * 2)];
+        }
+    }
+
+    /**
+     * A worker's solution: the tours plus, per position, arrival time, load picked up before it and slack.
+     */
+    private final class Tours {
+
+        private final int[][] tour = new int[vehicles][];
+        private final int[] size = new int[vehicles];
+        private final double[][] arrival = new double[vehicles][];
+        private final double[][] loadBefore = new double[vehicles][];
+        private final double[][] slack = new double[vehicles][];
+        private final double[] travel = new double[vehicles];
+        private final boolean[] dirty = new boolean[vehicles];
+        private final int[] routeOf = new int[stops];
+        private final int[] positionOf = new int[stops];
+
+        private Tours() {
+            Arrays.fill(routeOf, -1);
+            for (int route = 0; route < vehicles; route++) {
+                allocate(route, 8);
+                slack[route][0] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        private void allocate(int route, int length) {
+            tour[route] = new int[length];
+            arrival[route] = new double[length];
+            loadBefore[route] = new double[length + 1];
+            slack[route] = new double[length + 1];
+        }
+
+        private void copyFrom(Tours other) {
+            for (int route = 0; route < vehicles; route++) {
+                if (tour[route].length < other.size[route]) {
+                    allocate(route, other.tour[route].length);
+                }
+                int length = other.size[route];
+                System.arraycopy(other.tour[route], 0, tour[route], 0, length);
+                System.arraycopy(other.arrival[route], 0, arrival[route], 0, length);
+                System.arraycopy(other.loadBefore[route], 0, loadBefore[route], 0, length + 1);
+                System.arraycopy(other.slack[route], 0, slack[route], 0, length + 1);
+                size[route] = length;
+                travel[route] = other.travel[route];
+                dirty[route] = other.dirty[route];
+            }
+            System.arraycopy(other.routeOf, 0, routeOf, 0, stops);
+            System.arraycopy(other.positionOf, 0, positionOf, 0, stops);
+        }
+
+        /**
+         * Replaces a tour and recomputes its arrivals, loads and slack.
+         */
+        private void set(int route, int[] stops, int length) {
+            if (tour[route].length < length) {
+                allocate(route, Math.max(length, tour[route].length * 2));
+            }
+            System.arraycopy(stops, 0, tour[route], 0, length);
+            size[route] = length;
+            double time = 0;
+            double driven = 0;
+            int previous = -1;
+            for (int p = 0; p < length; p++) {
+                int stop = tour[route][p];
+                double leg = leg(route, previous, stop);
+                driven += leg;
+                arrival[route][p] = time + leg;
+                time = arrival[route][p] + problem.serviceSeconds();
+                loadBefore[route][p + 1] = loadBefore[route][p] + problem.demand()[stop];
+                routeOf[stop] = route;
+                positionOf[stop] = p;
+                previous = stop;
+            }
+            slack[route][length] = Double.POSITIVE_INFINITY;
+            for (int p = length - 1; p >= 0; p--) {
+                slack[route][p] = Math.min(slack[route][p + 1], problem.due()[tour[route][p]] - arrival[route][p]);
+            }
+            travel[route] = driven;
+            dirty[route] = true;
+        }
+
+        /**
+         * Travel time of a candidate ordering of a tour's stops, or infinity if it misses a deadline.
+         */
+        private double replay(int route, int[] stops, int length) {
+            double time = 0;
+            double driven = 0;
+            int previous = -1;
+            for (int p = 0; p < length; p++) {
+                int stop = stops[p];
+                double leg = leg(route, previous, stop);
+                driven += leg;
+                time += leg;
+                if (time > problem.due()[stop]) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                time += problem.serviceSeconds();
+                previous = stop;
+            }
+            return driven;
+        }
+
+        private double leg(int route, int from, int to) {
+            return from < 0 ? problem.fromStart(route, to) : problem.between(from, to);
+        }
+
+        /**
+         * When the vehicle leaves for position {@code p}: at the start, or after serving the stop before it.
+         */
+        private double departure(int route, int p) {
+            return p == 0 ? 0 : arrival[route][p - 1] + problem.serviceSeconds();
+        }
+
+        private double load(int route) {
+            return loadBefore[route][size[route]];
+        }
+
+        /**
+         * Extra travel time for inserting {@code segment} before position {@code p}, or infinity if that would
+         * overload the vehicle or make any stop miss its deadline.
+         */
+        private double insertionDelta(int route, int p, Segment segment) {
+            if (load(route) + segment.demand > problem.capacity()[route]) {
+                return Double.POSITIVE_INFINITY;
+            }
+            int previous = p == 0 ? -1 : tour[route][p - 1];
+            double toFirst = leg(route, previous, segment.first());
+            double arriveFirst = departure(route, p) + toFirst;
+            if (arriveFirst > segment.latestArrival) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double delta = toFirst + segment.internal;
+            if (p < size[route]) {
+                int next = tour[route][p];
+                double toNext = problem.between(segment.last(), next);
+                double arriveNext = arriveFirst + segment.span + problem.serviceSeconds() + toNext;
+                if (arriveNext - arrival[route][p] > slack[route][p]) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                delta += toNext - leg(route, previous, next);
+            }
+            return delta;
+        }
+
+        /**
+         * Travel time saved by taking positions {@code i .. i + length - 1} out of a tour, or negative infinity if
+         * the shortcut around them would make a later stop late.
+         */
+        private double removalSaving(int route, int i, int length) {
+            int previous = i == 0 ? -1 : tour[route][i - 1];
+            double saving = leg(route, previous, tour[route][i]);
+            for (int p = i + 1; p < i + length; p++) {
+                saving += problem.between(tour[route][p - 1], tour[route][p]);
+            }
+            int end = i + length;
+            if (end < size[route]) {
+                int next = tour[route][end];
+                double bypass = leg(route, previous, next);
+                if (departure(route, i) + bypass - arrival[route][end] > slack[route][end]) {
+                    return Double.NEGATIVE_INFINITY;
+                }
+                saving += problem.between(tour[route][end - 1], next) - bypass;
+            }
+            return saving;
+        }
+
+        private int assigned() {
+            return Arrays.stream(size).sum();
+        }
+
+        private int unassigned() {
+            return stops - assigned();
+        }
+
+        private double travel() {
+            return Arrays.stream(travel).sum();
+        }
+
+        private double cost() {
+            return travel() + UNASSIGNED_PENALTY * unassigned();
+        }
+
+        private DispatchSolution toSolution() {
+            int[][] tours = new int[vehicles][];
+            for (int route = 0; route < vehicles; route++) {
+                tours[route] = Arrays.copyOf(tour[route], size[route]);
+            }
+            int[] unserved = IntStream.range(0, stops).filter(stop -> routeOf[stop] < 0).toArray();
+            return new DispatchSolution(tours, unserved, travel());
+        }
+    }
+
+    /**
+     * Up to {@link #MAX_SEGMENT} consecutive stops with their total demand, the travel time between them, the
+     * time from arriving at the first to arriving at the last, and the latest arrival at the first stop that
+     * still meets every deadline in the segment.
+     */
+    private final class Segment {
+
+        private final int[] stops = new int[MAX_SEGMENT];
+        private int length;
+        private double demand;
+        private double internal;
+        private double span;
+        private double latestArrival;
+
+        private int first() {
+            return stops[0];
+        }
+
+        private int last() {
+            return stops[length - 1];
+        }
+
+        private void single(int stop) {
+            stops[0] = stop;
+            length = 1;
+            demand = problem.demand()[stop];
+            internal = 0;
+            span = 0;
+            latestArrival = problem.due()[stop];
+        }
+
+        private void of(Tours tours, int route, int i, int count) {
+            single(tours.tour[route][i]);
+            for (int p = 1; p < count; p++) {
+                int stop = tours.tour[route][i + p];
+                double leg = problem.between(stops[p - 1], stop);
+                stops[p] = stop;
+                internal += leg;
+                span += problem.serviceSeconds() + leg;
+                demand += problem.demand()[stop];
+                latestArrival = Math.min(latestArrival, problem.due()[stop] - span);
+            }
+            length = count;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.logistics.platform.dispatch;
+
+import com.logistics.platform.entity.RouteEntity;
+import com.logistics.platform.entity.VehicleEntity;
+import com.logistics.platform.exception.DispatchConflictException;
+import com.logistics.platform.repository.OrderRepository;
+import com.logistics.platform.repository.RouteRepository;
+import com.logistics.platform.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a solved plan in one transaction: the planned orders move from pending to assigned and every tour
+ * becomes one route row per leg. If any order left the pending state while the plan was being solved nothing
+ * is written, since the plan was computed for a different set of orders.
+ */
+@Component
+@RequiredArgsConstructor
+public class DispatchStore {
+
+    private final OrderRepository orderRepository;
+    private final RouteRepository routeRepository;
+    private final VehicleRepository vehicleRepository;
+
+    /**
+     * Saves the legs of each tour and returns the ids of the created routes, per tour and in driving order.
+     */
+    @Transactional
+    public List<List<UUID>> save(List<Tour> tours, Set<UUID> orderIds) {
+        int assigned = orderRepository.updateStatus(orderIds, DispatchPlanner.PENDING, DispatchPlanner.ASSIGNED);
+        if (assigned != orderIds.size()) {
+            throw new DispatchConflictException("Orders changed while the dispatch plan was being solved, plan again");
+        }
+        List<List<UUID>> routeIds = new ArrayList<>(tours.size());
+        for (Tour tour : tours) {
+            VehicleEntity vehicle = vehicleRepository.getReferenceById(tour.vehicleId());
+            List<RouteEntity> legs = new ArrayList<>(tour.legs().size());
+            for (Leg leg : tour.legs()) {
+                legs.add(RouteEntity.builder()
+                        .vehicle(vehicle)
+                        .origin(leg.origin())
+                        .destination(leg.destination())
+                        .estimatedTime(String.valueOf(leg.seconds()))
+                        .build());
+            }
+            routeIds.add(routeRepository.saveAll(legs).stream().map(RouteEntity::getId).toList());
+        }
+        return routeIds;
+    }
+
+    public record Tour(UUID vehicleId, List<Leg> legs) {
+    }
+
+    public record Leg(String origin, String destination, long seconds) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.logistics.platform.domain;
+
+import com.logistics.platform.domain.enums.BatchItemStatus;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BatchItemResultDTO<T> {
+
+    int index;
+
+    BatchItemStatus status;
+
+    T item;
+
+    String error;
+}
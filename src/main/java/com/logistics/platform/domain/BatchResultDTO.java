@@ -0,0 +1,19 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class BatchResultDTO<T> {
+
+    List<BatchItemResultDTO<T>> results;
+
+    int created;
+
+    int updated;
+
+    int failed;
+}
@@ -0,0 +1,24 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class DispatchPlanDTO {
+
+    int pendingOrders;
+
+    int assignedOrders;
+
+    long travelSeconds;
+
+    long solveMs;
+
+    List<DispatchTourDTO> tours;
+
+    List<UUID> unassignedOrderIds;
+}
@@ -0,0 +1,22 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class DispatchTourDTO {
+
+    UUID vehicleId;
+
+    List<UUID> orderIds;
+
+    List<UUID> routeIds;
+
+    double load;
+
+    long travelSeconds;
+}
@@ -0,0 +1,31 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ImportReportDTO {
+
+    String file;
+
+    String target;
+
+    long resumedAfterLine;
+
+    long lastLine;
+
+    long imported;
+
+    long skipped;
+
+    long rejected;
+
+    int chunks;
+
+    String rejectsFile;
+
+    long durationMs;
+
+    long rowsPerSecond;
+}
@@ -0,0 +1,14 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class NearbyVehicleDTO {
+
+    VehicleDTO vehicle;
+
+    /** Straight-line distance from the query point, in meters. */
+    long distanceMeters;
+}
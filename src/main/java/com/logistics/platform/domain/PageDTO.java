@@ -0,0 +1,17 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class PageDTO<T> {
+
+    List<T> items;
+
+    String nextCursor;
+
+    boolean hasMore;
+}
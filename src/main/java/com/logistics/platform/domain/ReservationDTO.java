@@ -0,0 +1,19 @@
+package com.logistics.platform.domain;
+
+import com.logistics.platform.domain.enums.ReservationType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class ReservationDTO {
+
+    @NotNull(message = "Reservation type must be provided")
+    ReservationType type;
+
+    @NotNull(message = "Amount must be provided")
+    @Positive(message = "Amount must be positive")
+    Integer amount;
+}
@@ -0,0 +1,14 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class TelemetryAckDTO {
+
+    int accepted;
+
+    /** Pings without a vehicle, with coordinates out of range or stamped too far in the future. */
+    int rejected;
+}
@@ -0,0 +1,21 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Value
+@Builder(toBuilder = true)
+public class TelemetryPingDTO {
+
+    UUID vehicleId;
+
+    Double latitude;
+
+    Double longitude;
+
+    /** When the device took the reading; the time of receipt when absent. */
+    Instant recordedAt;
+}
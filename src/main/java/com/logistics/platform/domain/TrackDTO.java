@@ -0,0 +1,20 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder(toBuilder = true)
+public class TrackDTO {
+
+    UUID vehicleId;
+
+    List<TrackPointDTO> points;
+
+    /** Where the next page starts when the range holds more points than were returned, otherwise null. */
+    Instant nextFrom;
+}
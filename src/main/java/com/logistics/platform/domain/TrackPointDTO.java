@@ -0,0 +1,17 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+@Builder(toBuilder = true)
+public class TrackPointDTO {
+
+    Instant recordedAt;
+
+    double latitude;
+
+    double longitude;
+}
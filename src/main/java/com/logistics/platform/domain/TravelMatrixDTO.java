@@ -0,0 +1,19 @@
+package com.logistics.platform.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class TravelMatrixDTO {
+
+    int sources;
+
+    int targets;
+
+    List<Long> durations;
+
+    List<Long> distances;
+}
@@ -0,0 +1,18 @@
+package com.logistics.platform.domain;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder(toBuilder = true)
+public class TravelMatrixRequestDTO {
+
+    @NotEmpty(message = "At least one source must be provided")
+    List<String> sources;
+
+    @NotEmpty(message = "At least one target must be provided")
+    List<String> targets;
+}
@@ -1,9 +1,12 @@
 package com.logistics.platform.domain;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Value;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Value
@@ -23,4 +26,15 @@ public class VehicleDTO {
     Float capacity;
 
     String currentLocation;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    Double longitude;
+
+    /** When the position was recorded; an update that moves the vehicle must carry the value the client last read. */
+    Instant positionRecordedAt;
 }
@@ -1,5 +1,7 @@
 package com.logistics.platform.domain;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Value;
@@ -15,9 +17,20 @@ public class WarehouseDTO {
     @NotNull(message = "Location must be provided")
     String location;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    Double longitude;
+
     Integer capacity;
 
     Integer availableSpace;
 
     UUID managerId;
+
+    /** Version the client last read; an update carrying a stale version is rejected. */
+    Long version;
 }
@@ -0,0 +1,7 @@
+package com.logistics.platform.domain.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.logistics.platform.domain.enums;
+
+public enum ReservationType {
+    RESERVE,
+    RELEASE
+}
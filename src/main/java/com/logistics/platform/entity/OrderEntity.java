@@ -8,7 +8,10 @@ import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_client_id", columnList = "client_id"),
+        @Index(name = "idx_orders_status_estimated_delivery", columnList = "status, estimated_delivery_time")
+})
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +21,7 @@ public class OrderEntity {
     @Column(columnDefinition = "uuid", updatable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private UserEntity client;
 
@@ -7,7 +7,9 @@ import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "packages")
+@Table(name = "packages", indexes = {
+        @Index(name = "idx_packages_order_id_status", columnList = "order_id, status")
+})
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +19,7 @@ public class PackageEntity {
     @Column(columnDefinition = "uuid", updatable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
     private OrderEntity order;
 
@@ -3,11 +3,14 @@ package com.logistics.platform.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", indexes = {
+        @Index(name = "idx_vehicles_driver_id", columnList = "driver_id")
+})
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +20,7 @@ public class VehicleEntity {
     @Column(columnDefinition = "uuid", updatable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "driver_id")
     private UserEntity driver;
 
@@ -29,4 +32,7 @@ public class VehicleEntity {
 
     private Float capacity;
     private String currentLocation;
+    private Double latitude;
+    private Double longitude;
+    private Instant positionRecordedAt;
 }
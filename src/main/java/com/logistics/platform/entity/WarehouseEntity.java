@@ -7,7 +7,10 @@ import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "warehouses")
+@Table(name = "warehouses", indexes = {
+        @Index(name = "idx_warehouses_manager_id", columnList = "manager_id"),
+        @Index(name = "idx_warehouses_location", columnList = "location")
+})
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,10 +23,16 @@ public class WarehouseEntity {
     @Column(nullable = false)
     private String location;
 
+    private Double latitude;
+    private Double longitude;
+
     private Integer capacity;
     private Integer availableSpace;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id")
     private UserEntity manager;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class DispatchConflictException extends RuntimeException {
+    public DispatchConflictException(String message) {
+        super(message);
+    }
+}
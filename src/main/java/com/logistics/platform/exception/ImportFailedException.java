@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class ImportFailedException extends RuntimeException {
+    public ImportFailedException(String message) {
+        super(message);
+    }
+}
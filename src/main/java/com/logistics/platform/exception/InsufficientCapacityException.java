@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class InsufficientCapacityException extends RuntimeException {
+    public InsufficientCapacityException(String message) {
+        super(message);
+    }
+}
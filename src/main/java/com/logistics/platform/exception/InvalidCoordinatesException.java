@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class InvalidCoordinatesException extends RuntimeException {
+    public InvalidCoordinatesException(String message) {
+        super(message);
+    }
+}
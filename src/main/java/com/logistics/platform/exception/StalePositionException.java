@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class StalePositionException extends RuntimeException {
+    public StalePositionException(String message) {
+        super(message);
+    }
+}
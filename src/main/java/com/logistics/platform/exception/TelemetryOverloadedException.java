@@ -0,0 +1,7 @@
+package com.logistics.platform.exception;
+
+public class TelemetryOverloadedException extends RuntimeException {
+    public TelemetryOverloadedException(String message) {
+        super(message);
+    }
+}
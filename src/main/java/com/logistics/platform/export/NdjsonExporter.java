@@ -0,0 +1,48 @@
+package com.logistics.platform.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows produced by a service straight to the response as newline-delimited JSON.
+ * <p>
+ * Nothing is buffered beyond Jackson's own output buffer: every row is serialized as soon as the
+ * producer hands it over, and the stream is flushed once per {@link #CHUNK_SIZE} rows so the client
+ * sees progress while the database cursor is still open.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+    /** Rows per JDBC fetch, per persistence-context clear and per response flush. */
+    public static final int CHUNK_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                int[] written = {0};
+                producer.accept(row -> {
+                    try {
+                        objectMapper.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                        if (++written[0] % CHUNK_SIZE == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+}
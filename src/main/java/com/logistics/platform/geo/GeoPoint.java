@@ -0,0 +1,55 @@
+package com.logistics.platform.geo;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A WGS84 position in degrees.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private static final Pattern COORDINATES = Pattern.compile("\\s*(-?\\d{1,2}(?:\\.\\d+)?)\\s*,\\s*(-?\\d{1,3}(?:\\.\\d+)?)\\s*");
+
+    /**
+     * The point written as {@code "lat,lon"}, or {@code null} when {@code place} is a free-text address or out
+     * of range.
+     */
+    public static GeoPoint parse(String place) {
+        if (place == null) {
+            return null;
+        }
+        Matcher matcher = COORDINATES.matcher(place);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return of(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)));
+    }
+
+    /**
+     * The given coordinates when both are present and in range, otherwise whatever {@code place} spells out.
+     */
+    public static GeoPoint resolve(Double latitude, Double longitude, String place) {
+        GeoPoint point = latitude == null || longitude == null ? null : of(latitude, longitude);
+        return point != null ? point : parse(place);
+    }
+
+    /**
+     * The point at {@code latitude, longitude}, or {@code null} when either is out of range.
+     */
+    public static GeoPoint of(double latitude, double longitude) {
+        return Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180 ? new GeoPoint(latitude, longitude) : null;
+    }
+
+    /**
+     * Great-circle distance in meters.
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.logistics.platform.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NearbyLimits {
+
+    @Value("${geo.nearby.default-radius-meters:10000}")
+    private double defaultRadiusMeters;
+
+    @Value("${geo.nearby.max-radius-meters:100000}")
+    private double maxRadiusMeters;
+
+    @Value("${geo.nearby.default-results:10}")
+    private int defaultResults;
+
+    @Value("${geo.nearby.max-results:100}")
+    private int maxResults;
+
+    public double radius(Double requested) {
+        if (requested == null || !(requested > 0)) {
+            return Math.min(defaultRadiusMeters, maxRadiusMeters);
+        }
+        return Math.min(requested, maxRadiusMeters);
+    }
+
+    public int results(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return Math.min(defaultResults, maxResults);
+        }
+        return Math.min(requested, maxResults);
+    }
+}
@@ -0,0 +1,281 @@
+package com.logistics.platform.geo;
+
+import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.VehiclePosition;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of vehicle positions answering "k nearest within a radius".
+ * <p>
+ * Positions are bucketed into a lat/lon grid of {@value #CELL_DEGREES}° cells. Coordinates sit in dense,
+ * slot-indexed primitive arrays, and every occupied cell lists its slots, so adding, moving or removing a vehicle
+ * is O(1). A query walks square rings of cells outward from the query point and stops as soon as no unvisited
+ * cell can hold anything closer than the k-th candidate; when the rings would cover more cells than are
+ * occupied it scans the occupied cells instead.
+ * <p>
+ * The index is filled from the database on startup and then fed by the vehicle service once each write has
+ * committed, so it reflects writes made through this instance only.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleLocationIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double CELL_METERS = Math.toRadians(CELL_DEGREES) * GeoPoint.EARTH_RADIUS_METERS;
+
+    private final VehicleRepository vehicleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private UUID[] ids = new UUID[16];
+    private double[] lats = new double[16];
+    private double[] lons = new double[16];
+    private long[] cellOf = new long[16];
+    private int[] positionInCell = new int[16];
+    private int size;
+
+    @PostConstruct
+    void load() {
+        List<VehiclePosition> positions = vehicleRepository.findPositions();
+        positions.forEach(position -> put(position.id(), position.latitude(), position.longitude()));
+        log.info("Indexed the positions of {} vehicles", positions.size());
+    }
+
+    /**
+     * Places {@code vehicleId} at the given coordinates, replacing its previous position if any.
+     */
+    public void put(UUID vehicleId, double latitude, double longitude) {
+        long cell = cellKey(row(latitude), column(longitude));
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(vehicleId);
+            if (slot == null) {
+                slot = append(vehicleId);
+                link(slot, cell);
+            } else if (cellOf[slot] != cell) {
+                unlink(slot);
+                link(slot, cell);
+            }
+            lats[slot] = latitude;
+            lons[slot] = longitude;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID vehicleId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(vehicleId);
+            if (slot == null) {
+                return;
+            }
+            unlink(slot);
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                lats[slot] = lats[last];
+                lons[slot] = lons[last];
+                cellOf[slot] = cellOf[last];
+                positionInCell[slot] = positionInCell[last];
+                cells.get(cellOf[slot]).slots[positionInCell[slot]] = slot;
+                slots.put(ids[slot], slot);
+            }
+            ids[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} vehicles within {@code radiusMeters} of the given point, nearest first.
+     */
+    public List<Neighbour> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+        lock.readLock().lock();
+        try {
+            if (size == 0 || limit <= 0) {
+                return List.of();
+            }
+            Nearest nearest = new Nearest(Math.min(limit, size), radiusMeters);
+            double bandDegrees = Math.toDegrees(radiusMeters / GeoPoint.EARTH_RADIUS_METERS) + CELL_DEGREES;
+            double minCellMeters = CELL_METERS * Math.cos(Math.toRadians(Math.min(90, Math.abs(latitude) + bandDegrees)));
+            long rings = minCellMeters > 1e-6 ? (long) Math.ceil(radiusMeters / minCellMeters) + 1 : Long.MAX_VALUE;
+            if (rings == Long.MAX_VALUE || 2 * rings + 1 > COLUMNS || (2 * rings + 1) * (2 * rings + 1) > cells.size()) {
+                cells.values().forEach(cell -> scan(cell, latitude, longitude, nearest));
+                return nearest.toList();
+            }
+            int row = row(latitude);
+            int column = column(longitude);
+            for (int ring = 0; ring <= rings; ring++) {
+                if (ring == 0) {
+                    visit(row, column, latitude, longitude, nearest);
+                }
+                for (int offset = -ring; ring > 0 && offset <= ring; offset++) {
+                    visit(row - ring, column + offset, latitude, longitude, nearest);
+                    visit(row + ring, column + offset, latitude, longitude, nearest);
+                    if (offset != -ring && offset != ring) {
+                        visit(row + offset, column - ring, latitude, longitude, nearest);
+                        visit(row + offset, column + ring, latitude, longitude, nearest);
+                    }
+                }
+                if (nearest.full() && nearest.worst() <= ring * minCellMeters) {
+                    break;
+                }
+            }
+            return nearest.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void visit(int row, int column, double latitude, double longitude, Nearest nearest) {
+        Cell cell = cells.get(cellKey(row, Math.floorMod(column, COLUMNS)));
+        if (cell != null) {
+            scan(cell, latitude, longitude, nearest);
+        }
+    }
+
+    private void scan(Cell cell, double latitude, double longitude, Nearest nearest) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            nearest.offer(slot, GeoPoint.distanceMeters(latitude, longitude, lats[slot], lons[slot]));
+        }
+    }
+
+    private int append(UUID vehicleId) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            lats = Arrays.copyOf(lats, capacity);
+            lons = Arrays.copyOf(lons, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+            positionInCell = Arrays.copyOf(positionInCell, capacity);
+        }
+        ids[size] = vehicleId;
+        slots.put(vehicleId, size);
+        return size++;
+    }
+
+    private void link(int slot, long key) {
+        cellOf[slot] = key;
+        cells.computeIfAbsent(key, k -> new Cell()).add(slot);
+    }
+
+    private void unlink(int slot) {
+        Cell cell = cells.get(cellOf[slot]);
+        cell.remove(positionInCell[slot]);
+        if (cell.size == 0) {
+            cells.remove(cellOf[slot]);
+        }
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor(longitude / CELL_DEGREES), COLUMNS);
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row << 32 | column;
+    }
+
+    /**
+     * A vehicle found by {@link #nearest}, with its indexed position.
+     */
+    public record Neighbour(UUID vehicleId, double latitude, double longitude, double distanceMeters) {
+    }
+
+    private final class Cell {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size] = slot;
+            positionInCell[slot] = size++;
+        }
+
+        void remove(int position) {
+            int last = --size;
+            if (position != last) {
+                slots[position] = slots[last];
+                positionInCell[slots[position]] = position;
+            }
+        }
+    }
+
+    /**
+     * The closest candidates seen so far, kept sorted by distance.
+     */
+    private final class Nearest {
+        private final double[] meters;
+        private final int[] candidates;
+        private final double radiusMeters;
+        private int count;
+
+        Nearest(int limit, double radiusMeters) {
+            this.meters = new double[limit];
+            this.candidates = new int[limit];
+            this.radiusMeters = radiusMeters;
+        }
+
+        void offer(int slot, double distance) {
+            if (distance > radiusMeters || full() && distance >= worst()) {
+                return;
+            }
+            int i = full() ? count - 1 : count++;
+            while (i > 0 && meters[i - 1] > distance) {
+                meters[i] = meters[i - 1];
+                candidates[i] = candidates[i - 1];
+                i--;
+            }
+            meters[i] = distance;
+            candidates[i] = slot;
+        }
+
+        boolean full() {
+            return count == meters.length;
+        }
+
+        double worst() {
+            return meters[count - 1];
+        }
+
+        List<Neighbour> toList() {
+            List<Neighbour> neighbours = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int slot = candidates[i];
+                neighbours.add(new Neighbour(ids[slot], lats[slot], lons[slot], meters[i]));
+            }
+            return neighbours;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.logistics.platform.ingest;
+
+import java.io.Reader;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Database side of the manifest importer.
+ */
+public interface ImportStore {
+
+    /**
+     * Streams every id of {@code table} to {@code sink}.
+     */
+    void loadIds(String table, Consumer<UUID> sink);
+
+    /**
+     * Loads one chunk of CSV records in a single transaction and returns how many rows were inserted; rows
+     * whose id already exists are skipped.
+     */
+    long copy(ImportTarget target, Reader csv);
+}
@@ -0,0 +1,152 @@
+package com.logistics.platform.ingest;
+
+import com.logistics.platform.exception.InvalidImportFileException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tables the manifest importer can load, with the columns each fills and how a row is checked and turned into
+ * a COPY record.
+ * <p>
+ * Manifest fields use the DTO names ({@code orderId}, {@code clientId}, ...). Rows without an id get a
+ * name-based UUID derived from the file's content hash and the line, so replaying a chunk after a crash
+ * produces the same ids and is skipped instead of duplicated, while another file under the same name does not.
+ */
+public enum ImportTarget {
+
+    PACKAGES("packages", "orders",
+            List.of("id", "order_id", "description", "weight", "status")) {
+        @Override
+        String[] toRecord(Map<String, String> fields, Set<UUID> parents) {
+            UUID orderId = parent(fields, "orderId", parents, "Order");
+            return new String[]{
+                    optionalUuid(fields, "id"),
+                    orderId.toString(),
+                    fields.get("description"),
+                    optionalNumber(fields, "weight"),
+                    required(fields, "status")
+            };
+        }
+    },
+
+    ORDERS("orders", "users",
+            List.of("id", "client_id", "status", "origin", "destination", "estimated_delivery_time")) {
+        @Override
+        String[] toRecord(Map<String, String> fields, Set<UUID> parents) {
+            UUID clientId = parent(fields, "clientId", parents, "Client");
+            return new String[]{
+                    optionalUuid(fields, "id"),
+                    clientId.toString(),
+                    required(fields, "status"),
+                    required(fields, "origin"),
+                    required(fields, "destination"),
+                    optionalTimestamp(fields, "estimatedDeliveryTime")
+            };
+        }
+    };
+
+    private final String table;
+    private final String parentTable;
+    private final List<String> columns;
+
+    ImportTarget(String table, String parentTable, List<String> columns) {
+        this.table = table;
+        this.parentTable = parentTable;
+        this.columns = columns;
+    }
+
+    public static ImportTarget fromTable(String table) {
+        for (ImportTarget target : values()) {
+            if (target.table.equalsIgnoreCase(table)) {
+                return target;
+            }
+        }
+        throw new InvalidImportFileException("Unknown import target: " + table);
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String parentTable() {
+        return parentTable;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Checks a manifest row and returns its column values, the id always filled in.
+     *
+     * @throws IllegalArgumentException with a reason suitable for the rejects file
+     */
+    public String[] record(Map<String, String> fields, Set<UUID> parents, String fileKey, long line) {
+        String[] record = toRecord(fields, parents);
+        if (record[0] == null) {
+            record[0] = UUID.nameUUIDFromBytes((fileKey + ":" + line).getBytes(StandardCharsets.UTF_8)).toString();
+        }
+        return record;
+    }
+
+    abstract String[] toRecord(Map<String, String> fields, Set<UUID> parents);
+
+    private static String required(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " must be provided");
+        }
+        return value;
+    }
+
+    private static UUID parent(Map<String, String> fields, String name, Set<UUID> parents, String label) {
+        UUID id = uuid(required(fields, name), name);
+        if (!parents.contains(id)) {
+            throw new IllegalArgumentException(label + " not found with id: " + id);
+        }
+        return id;
+    }
+
+    private static String optionalUuid(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : uuid(value, name).toString();
+    }
+
+    private static String optionalNumber(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Float.toString(Float.parseFloat(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number: " + value);
+        }
+    }
+
+    private static String optionalTimestamp(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim()).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " is not an ISO date-time: " + value);
+        }
+    }
+
+    private static UUID uuid(String value, String name) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " is not a UUID: " + value);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.logistics.platform.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.platform.domain.ImportReportDTO;
+import com.logistics.platform.exception.ImportFailedException;
+import com.logistics.platform.exception.InvalidImportFileException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streams a CSV or NDJSON manifest from the import directory into {@code packages} or {@code orders}.
+ * <p>
+ * Parent ids are preloaded once, so each row is checked with a set lookup instead of a query. Valid rows
+ * are buffered into chunks and handed to the {@link ImportStore}; rows that fail validation go to
+ * {@code <file>.rejects} with their line number and reason. After every committed chunk the last consumed
+ * line is written to {@code <file>.progress} together with the SHA-256 of the file, and a rerun of the same
+ * content continues after it. The checkpoint is removed once the whole file is imported, and one left by a
+ * file of different content is ignored, so a new manifest under an old name is imported from the start.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManifestImporter {
+
+    private static final String REJECTS_HEADER = "line,error,row\n";
+
+    private final ImportStore importStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ingest.directory:imports}")
+    private String directory;
+
+    @Value("${ingest.chunk-size:50000}")
+    private int chunkSize;
+
+    public ImportReportDTO importFile(ImportTarget target, String fileName) {
+        Path file = resolve(fileName);
+        Path progress = file.resolveSibling(file.getFileName() + ".progress");
+        Path rejects = file.resolveSibling(file.getFileName() + ".rejects");
+        long started = System.nanoTime();
+
+        try {
+            String fileKey = contentHash(file);
+            long resumeAfter = readCheckpoint(progress, fileKey);
+            Set<UUID> parents = new HashSet<>();
+            importStore.loadIds(target.parentTable(), parents::add);
+
+            Progress totals = new Progress(resumeAfter);
+            Chunk chunk = new Chunk();
+            try (ManifestReader reader = ManifestReader.open(file, objectMapper);
+                 BufferedWriter rejectsOut = openRejects(rejects, resumeAfter == 0)) {
+                for (ManifestReader.Row row = reader.next(); row != null; row = reader.next()) {
+                    if (row.line() <= resumeAfter) {
+                        continue;
+                    }
+                    chunk.lastLine = row.line();
+                    if (row.fields() == null) {
+                        chunk.reject(row, "Malformed row");
+                    } else {
+                        try {
+                            chunk.add(target.record(row.fields(), parents, fileKey, row.line()));
+                        } catch (IllegalArgumentException e) {
+                            chunk.reject(row, e.getMessage());
+                        }
+                    }
+                    if (chunk.size() >= chunkSize) {
+                        commit(target, chunk, totals, rejectsOut, progress, fileKey);
+                    }
+                }
+                if (chunk.lastLine > totals.lastLine) {
+                    commit(target, chunk, totals, rejectsOut, progress, fileKey);
+                }
+            }
+            Files.deleteIfExists(progress);
+
+            long durationMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+            log.info("Imported {} into {}: {} rows, {} skipped, {} rejected in {} ms",
+                    file.getFileName(), target.table(), totals.imported, totals.skipped, totals.rejected, durationMs);
+            return ImportReportDTO.builder()
+                    .file(file.getFileName().toString())
+                    .target(target.table())
+                    .resumedAfterLine(resumeAfter)
+                    .lastLine(totals.lastLine)
+                    .imported(totals.imported)
+                    .skipped(totals.skipped)
+                    .rejected(totals.rejected)
+                    .chunks(totals.chunks)
+                    .rejectsFile(rejects.getFileName().toString())
+                    .durationMs(durationMs)
+                    .rowsPerSecond((totals.imported + totals.skipped) * 1000 / durationMs)
+                    .build();
+        } catch (IOException e) {
+            throw new ImportFailedException("Import of " + file.getFileName() + " failed: " + e.getMessage());
+        }
+    }
+
+    private void commit(ImportTarget target, Chunk chunk, Progress totals, BufferedWriter rejectsOut, Path progress,
+                        String fileKey) throws IOException {
+        long imported = chunk.rows == 0 ? 0 : importStore.copy(target, new StringReader(chunk.records.toString()));
+        rejectsOut.append(chunk.rejects);
+        rejectsOut.flush();
+        writeCheckpoint(progress, chunk.lastLine, fileKey);
+
+        totals.imported += imported;
+        totals.skipped += chunk.rows - imported;
+        totals.rejected += chunk.rejected;
+        totals.lastLine = chunk.lastLine;
+        totals.chunks++;
+        log.debug("Committed chunk {} up to line {}", totals.chunks, chunk.lastLine);
+        chunk.clear();
+    }
+
+    private Path resolve(String fileName) {
+        Path base = Path.of(directory).toAbsolutePath().normalize();
+        Path file = base.resolve(fileName).normalize();
+        if (!file.startsWith(base) || !Files.isRegularFile(file)) {
+            throw new InvalidImportFileException("Import file not found: " + fileName);
+        }
+        return file;
+    }
+
+    /**
+     * The line to resume after, or 0 when there is no checkpoint or it was written for other content.
+     */
+    private static long readCheckpoint(Path progress, String fileKey) throws IOException {
+        if (!Files.exists(progress)) {
+            return 0;
+        }
+        String[] checkpoint = Files.readString(progress).trim().split(" ");
+        if (checkpoint.length != 2 || !checkpoint[1].equals(fileKey)) {
+            log.info("Ignoring checkpoint {} written for other content", progress.getFileName());
+            return 0;
+        }
+        try {
+            return Long.parseLong(checkpoint[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidImportFileException("Unreadable checkpoint " + progress.getFileName());
+        }
+    }
+
+    private static void writeCheckpoint(Path progress, long line, String fileKey) throws IOException {
+        Path temp = progress.resolveSibling(progress.getFileName() + ".tmp");
+        Files.writeString(temp, line + " " + fileKey);
+        Files.move(temp, progress, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String contentHash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static BufferedWriter openRejects(Path rejects, boolean fresh) throws IOException {
+        if (fresh) {
+            Files.deleteIfExists(rejects);
+        }
+        boolean exists = Files.exists(rejects);
+        BufferedWriter writer = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write(REJECTS_HEADER);
+        }
+        return writer;
+    }
+
+    private static void appendCsv(StringBuilder out, String value) {
+        if (value != null) {
+            out.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private static final class Progress {
+        long lastLine;
+        long imported;
+        long skipped;
+        long rejected;
+        int chunks;
+
+        Progress(long lastLine) {
+            this.lastLine = lastLine;
+        }
+    }
+
+    private static final class Chunk {
+        final StringBuilder records = new StringBuilder();
+        final StringBuilder rejects = new StringBuilder();
+        int rows;
+        int rejected;
+        long lastLine;
+
+        void add(String[] record) {
+            for (int i = 0; i < record.length; i++) {
+                if (i > 0) {
+                    records.append(',');
+                }
+                appendCsv(records, record[i]);
+            }
+            records.append('\n');
+            rows++;
+        }
+
+        void reject(ManifestReader.Row row, String reason) {
+            rejects.append(row.line()).append(',');
+            appendCsv(rejects, reason);
+            rejects.append(',');
+            appendCsv(rejects, row.raw());
+            rejects.append('\n');
+            rejected++;
+        }
+
+        int size() {
+            return rows + rejected;
+        }
+
+        void clear() {
+            records.setLength(0);
+            rejects.setLength(0);
+            rows = 0;
+            rejected = 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.logistics.platform.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a manifest one physical line at a time, as CSV with a header row or as NDJSON.
+ * <p>
+ * Rows are numbered by their line in the file, which is what checkpoints and the rejects file refer to.
+ * CSV records must not span lines.
+ */
+public final class ManifestReader implements Closeable {
+
+    public record Row(long line, Map<String, String> fields, String raw) {
+    }
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final List<String> header;
+    private long line;
+
+    private ManifestReader(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        if (objectMapper == null) {
+            String first = reader.readLine();
+            if (first == null) {
+                throw new IOException("CSV manifest has no header row");
+            }
+            line = 1;
+            this.header = parseCsv(first.startsWith("\uFEFF") ? first.substring(1) : first).stream()
+                    .map(name -> name == null ? "" : name.trim())
+                    .toList();
+        } else {
+            this.header = List.of();
+        }
+    }
+
+    public static ManifestReader open(Path file, ObjectMapper objectMapper) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            boolean json = name.endsWith(".ndjson") || name.endsWith(".jsonl");
+            return new ManifestReader(reader, json ? objectMapper : null);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the next non-blank row, or {@code null} at the end of the file. A line that cannot be parsed
+     * comes back with {@code null} fields.
+     */
+    public Row next() throws IOException {
+        String raw;
+        do {
+            raw = reader.readLine();
+            if (raw == null) {
+                return null;
+            }
+            line++;
+        } while (raw.isBlank());
+        return new Row(line, objectMapper == null ? csvFields(raw) : jsonFields(raw), raw);
+    }
+
+    private Map<String, String> csvFields(String raw) {
+        List<String> values = parseCsv(raw);
+        if (values == null || values.size() != header.size()) {
+            return null;
+        }
+        Map<String, String> fields = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> jsonFields(String raw) {
+        try {
+            JsonNode node = objectMapper.readTree(raw);
+            if (node == null || !node.isObject()) {
+                return null;
+            }
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                fields.put(field.getKey(), value.isNull() ? null : value.asText());
+            });
+            return fields;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Splits one RFC 4180 line. Empty unquoted values become {@code null}; returns {@code null} when a
+     * quoted value is not closed.
+     */
+    static List<String> parseCsv(String raw) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                values.add(value.isEmpty() && !wasQuoted ? null : value.toString());
+                value.setLength(0);
+                wasQuoted = false;
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.isEmpty() && !wasQuoted ? null : value.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
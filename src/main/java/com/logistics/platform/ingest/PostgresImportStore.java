@@ -0,0 +1,73 @@
+package com.logistics.platform.ingest;
+
+import com.logistics.platform.exception.ImportFailedException;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Loads chunks with PostgreSQL {@code COPY ... FROM STDIN}.
+ * <p>
+ * Each chunk is copied into a temporary staging table and moved with {@code INSERT ... ON CONFLICT DO
+ * NOTHING} in the same transaction, so a chunk replayed after a crash inserts nothing twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostgresImportStore implements ImportStore {
+
+    private static final int ID_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void loadIds(String table, Consumer<UUID> sink) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("select id from " + table);
+            statement.setFetchSize(ID_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) row -> sink.accept(row.getObject(1, UUID.class)));
+    }
+
+    @Override
+    public long copy(ImportTarget target, Reader csv) {
+        String columns = String.join(", ", target.columns());
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create temp table import_stage (like " + target.table()
+                        + " including defaults) on commit drop");
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "copy import_stage (" + columns + ") from stdin with (format csv)", csv);
+                long inserted = statement.executeUpdate("insert into " + target.table() + " (" + columns + ") "
+                        + "select " + columns + " from import_stage on conflict (id) do nothing");
+                connection.commit();
+                return inserted;
+            } catch (SQLException | IOException e) {
+                rollback(connection);
+                throw new ImportFailedException("Copy into " + target.table() + " failed: " + e.getMessage());
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // the connection is broken; the pool discards it
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.logistics.platform.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds the sampling draw of the request being served on the current thread.
+ * <p>
+ * The draw is made once per request so every sampled category either logs the whole request or none of
+ * it, and so a logger that checks {@code isDebugEnabled()} before logging sees the same answer twice.
+ */
+public final class LogSampling {
+
+    private static final ThreadLocal<double[]> DRAW = new ThreadLocal<>();
+
+    private LogSampling() {
+    }
+
+    public static void begin() {
+        DRAW.set(new double[]{ThreadLocalRandom.current().nextDouble()});
+    }
+
+    /**
+     * Carries a draw taken by {@link #current()} over to the thread that finishes the request.
+     */
+    public static void resume(double draw) {
+        DRAW.set(new double[]{draw});
+    }
+
+    public static void end() {
+        DRAW.remove();
+    }
+
+    /**
+     * Returns the current request's draw in {@code [0, 1)}, or {@code NaN} outside a request.
+     */
+    public static double current() {
+        double[] draw = DRAW.get();
+        return draw == null ? Double.NaN : draw[0];
+    }
+}
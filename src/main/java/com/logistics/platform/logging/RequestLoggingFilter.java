@@ -0,0 +1,86 @@
+package com.logistics.platform.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Draws the request's log sample and writes one structured line per completed request.
+ * <p>
+ * The route is the matched handler pattern rather than the raw URI, so ids never end up in the
+ * {@code route} field. Responses of 400 and above are logged at WARN so request sampling never drops them.
+ * A request that goes async, such as a login or an export, is logged once the async work completes, with its
+ * final status and full duration, under the same sampling draw.
+ */
+@Slf4j(topic = "waypoint.requests")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LogSampling.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start, LogSampling.current()));
+            } else {
+                logCompleted(request, response, start);
+            }
+            LogSampling.end();
+        }
+    }
+
+    private static void logCompleted(HttpServletRequest request, HttpServletResponse response, long start) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        int status = response.getStatus();
+        (status >= 400 ? log.atWarn() : log.atInfo())
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route != null ? route : "unmatched")
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", (System.nanoTime() - start) / 1_000_000)
+                .log("{} {} -> {}", request.getMethod(), route != null ? route : "unmatched", status);
+    }
+
+    private record CompletionListener(HttpServletRequest request, HttpServletResponse response, long start, double draw)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            LogSampling.resume(draw);
+            try {
+                logCompleted(request, response, start);
+            } finally {
+                LogSampling.end();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
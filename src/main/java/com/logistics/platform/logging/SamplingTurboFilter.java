@@ -0,0 +1,71 @@
+package com.logistics.platform.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Keeps only a fraction of the requests' INFO-and-below events for the configured categories.
+ * <p>
+ * Categories are configured as {@code logger-prefix:rate} pairs separated by commas, e.g.
+ * {@code org.hibernate.SQL:0.01,waypoint.requests:0.05}; the longest matching prefix wins. WARN and ERROR
+ * always pass, as does anything logged outside a request (startup, scheduled jobs).
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String categories = "";
+    private String[] prefixes = new String[0];
+    private double[] rates = new double[0];
+
+    public void setCategories(String categories) {
+        this.categories = categories;
+    }
+
+    @Override
+    public void start() {
+        String[][] parsed = Arrays.stream(categories.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split(":", 2))
+                .filter(pair -> pair.length == 2)
+                .sorted(Comparator.comparingInt((String[] pair) -> pair[0].length()).reversed())
+                .toArray(String[][]::new);
+
+        prefixes = new String[parsed.length];
+        rates = new double[parsed.length];
+        for (int i = 0; i < parsed.length; i++) {
+            prefixes[i] = parsed[i][0].trim();
+            try {
+                rates[i] = Math.max(0.0, Math.min(1.0, Double.parseDouble(parsed[i][1].trim())));
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring invalid sampling rate for " + prefixes[i] + ": " + parsed[i][1]);
+                rates[i] = 1.0;
+            }
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || prefixes.length == 0 || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        double draw = LogSampling.current();
+        if (Double.isNaN(draw)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String name = logger.getName();
+        for (int i = 0; i < prefixes.length; i++) {
+            if (name.startsWith(prefixes[i])) {
+                return draw < rates[i] ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,75 @@
+package com.logistics.platform.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.BaseStream;
+
+/**
+ * Observes every public method of the {@code *ServiceImpl} classes as {@code waypoint.service}, which yields
+ * both a timer and a span named after the class and method.
+ * <p>
+ * The timer is tagged with the class, the method and, as {@code error}, the simple name of the exception thrown
+ * ({@code none} on success), so the number of series is fixed by the code rather than by the traffic. The advice runs outside the
+ * caching and transactional ones, so a sample includes cache lookups and the commit. Methods returning a
+ * {@link Publisher} or a {@link BaseStream} only assemble work that runs later and are not observed; those
+ * returning a {@link CompletionStage} are observed until it completes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceObservationAspect {
+
+    static final String METRIC = "waypoint.service";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(public * com.logistics.platform.service.impl.*ServiceImpl.*(..))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (Publisher.class.isAssignableFrom(method.getReturnType())
+                || BaseStream.class.isAssignableFrom(method.getReturnType())) {
+            return joinPoint.proceed();
+        }
+        String target = joinPoint.getTarget().getClass().getSimpleName();
+        Observation observation = Observation.createNotStarted(METRIC, observationRegistry)
+                .contextualName(target + "." + method.getName())
+                .lowCardinalityKeyValue("class", target)
+                .lowCardinalityKeyValue("method", method.getName());
+        if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return observation.observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+        }
+        observation.start();
+        Object result;
+        try (Observation.Scope scope = observation.openScope()) {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+        if (result == null) {
+            observation.stop();
+            return null;
+        }
+        return ((CompletionStage<?>) result).whenComplete((value, error) -> {
+            if (error != null) {
+                observation.error(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+            observation.stop();
+        });
+    }
+}
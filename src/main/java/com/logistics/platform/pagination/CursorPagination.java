@@ -0,0 +1,62 @@
+package com.logistics.platform.pagination;
+
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over UUID primary keys.
+ * <p>
+ * A cursor is the URL-safe Base64 form of the last id on the previous page. Clients must treat it as
+ * opaque; repositories fetch {@code limit + 1} rows ordered by id so the extra row tells us whether
+ * another page exists without issuing a count query.
+ */
+public final class CursorPagination {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorPagination() {
+    }
+
+    public static String encode(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != 16) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static <E, T> PageDTO<T> toPage(List<E> rows, int limit, Function<E, UUID> idOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> window = hasMore ? rows.subList(0, limit) : rows;
+        List<T> items = window.stream().map(mapper).toList();
+        String nextCursor = hasMore ? encode(idOf.apply(window.get(window.size() - 1))) : null;
+
+        return PageDTO.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
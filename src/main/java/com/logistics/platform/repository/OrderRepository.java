@@ -1,13 +1,64 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.OrderEntity;
+import com.logistics.platform.export.NdjsonExporter;
+import jakarta.persistence.QueryHint;
+import com.logistics.platform.repository.projection.OrderView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
-    List<OrderEntity> findByClientId(UUID clientId);
+    String VIEW = "select new com.logistics.platform.repository.projection.OrderView("
+            + "o.id, o.client.id, o.status, o.origin, o.destination, o.estimatedDeliveryTime) "
+            + "from OrderEntity o";
+
+    @Query(VIEW)
+    List<OrderView> findAllViews();
+
+    @Query(VIEW + " order by o.id")
+    List<OrderView> findViewsOrderByIdAsc(Limit limit);
+
+    @Query(VIEW + " where o.id > :id order by o.id")
+    List<OrderView> findViewsByIdGreaterThan(UUID id, Limit limit);
+
+    @Query(VIEW + " where o.client.id = :clientId")
+    List<OrderView> findViewsByClientId(UUID clientId);
+
+    @Query(VIEW + " where o.status = :status order by o.id")
+    List<OrderView> findViewsByStatus(String status);
+
+    /**
+     * Moves the given orders from one status to another, skipping any that are no longer in {@code from};
+     * returns how many were moved.
+     */
+    @Modifying
+    @Query("update OrderEntity o set o.status = :to where o.id in :ids and o.status = :from")
+    int updateStatus(Collection<UUID> ids, String from, String to);
+
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + NdjsonExporter.CHUNK_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o from OrderEntity o")
+    Stream<OrderEntity> streamAll();
+
+    @Query("select o.id from OrderEntity o where o.id in :ids")
+    Set<UUID> findExistingIds(Collection<UUID> ids);
 }
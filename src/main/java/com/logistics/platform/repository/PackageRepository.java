@@ -1,13 +1,51 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.PackageEntity;
+import com.logistics.platform.export.NdjsonExporter;
+import jakarta.persistence.QueryHint;
+import com.logistics.platform.repository.projection.OrderLoadView;
+import com.logistics.platform.repository.projection.PackageView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface PackageRepository extends JpaRepository<PackageEntity, UUID> {
-    List<PackageEntity> findByOrderId(UUID orderId);
+    String VIEW = "select new com.logistics.platform.repository.projection.PackageView("
+            + "p.id, p.order.id, p.description, p.weight, p.status) from PackageEntity p";
+
+    @Query(VIEW)
+    List<PackageView> findAllViews();
+
+    @Query(VIEW + " order by p.id")
+    List<PackageView> findViewsOrderByIdAsc(Limit limit);
+
+    @Query(VIEW + " where p.id > :id order by p.id")
+    List<PackageView> findViewsByIdGreaterThan(UUID id, Limit limit);
+
+    @Query(VIEW + " where p.order.id = :orderId")
+    List<PackageView> findViewsByOrderId(UUID orderId);
+
+    @Query("select new com.logistics.platform.repository.projection.OrderLoadView(p.order.id, sum(p.weight)) "
+            + "from PackageEntity p where p.order.status = :status group by p.order.id")
+    List<OrderLoadView> sumWeightsByOrderStatus(String status);
+
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + NdjsonExporter.CHUNK_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from PackageEntity p")
+    Stream<PackageEntity> streamAll();
 }
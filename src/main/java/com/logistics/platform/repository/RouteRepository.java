@@ -1,13 +1,47 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.RouteEntity;
+import com.logistics.platform.export.NdjsonExporter;
+import jakarta.persistence.QueryHint;
+import com.logistics.platform.repository.projection.RouteView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface RouteRepository extends JpaRepository<RouteEntity, UUID> {
-    List<RouteEntity> findByVehicleId(UUID vehicleId);
+    String VIEW = "select new com.logistics.platform.repository.projection.RouteView("
+            + "r.id, r.vehicle.id, r.origin, r.destination, r.estimatedTime, r.trafficConditions) "
+            + "from RouteEntity r";
+
+    @Query(VIEW)
+    List<RouteView> findAllViews();
+
+    @Query(VIEW + " order by r.id")
+    List<RouteView> findViewsOrderByIdAsc(Limit limit);
+
+    @Query(VIEW + " where r.id > :id order by r.id")
+    List<RouteView> findViewsByIdGreaterThan(UUID id, Limit limit);
+
+    @Query(VIEW + " where r.vehicle.id = :vehicleId")
+    List<RouteView> findViewsByVehicleId(UUID vehicleId);
+
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + NdjsonExporter.CHUNK_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select r from RouteEntity r")
+    Stream<RouteEntity> streamAll();
 }
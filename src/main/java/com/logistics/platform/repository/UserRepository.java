@@ -1,12 +1,29 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+    List<UserEntity> findAllByOrderByIdAsc(Limit limit);
+    List<UserEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
     boolean existsByEmail(String email);
     UserEntity findByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("select u.id from UserEntity u where u.id in :ids")
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.password = :hash where u.id = :id and u.password = :current")
+    int replacePasswordHash(UUID id, String current, String hash);
+}
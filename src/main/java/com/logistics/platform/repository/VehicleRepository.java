@@ -1,13 +1,39 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.VehicleEntity;
+import com.logistics.platform.repository.projection.VehiclePosition;
+import com.logistics.platform.repository.projection.VehicleView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<VehicleEntity, UUID> {
+    String VIEW = "select new com.logistics.platform.repository.projection.VehicleView("
+            + "v.id, d.id, v.type, v.licensePlate, v.capacity, v.currentLocation, v.latitude, v.longitude, v.positionRecordedAt) "
+            + "from VehicleEntity v left join v.driver d";
+
+    @Query(VIEW)
+    List<VehicleView> findAllViews();
+
+    @Query(VIEW + " order by v.id")
+    List<VehicleView> findViewsOrderByIdAsc(Limit limit);
+
+    @Query(VIEW + " where v.id > :id order by v.id")
+    List<VehicleView> findViewsByIdGreaterThan(UUID id, Limit limit);
+
+    @Query(VIEW + " where v.id in :ids")
+    List<VehicleView> findViewsByIdIn(Collection<UUID> ids);
+
+    @Query("select new com.logistics.platform.repository.projection.VehiclePosition(v.id, v.latitude, v.longitude) "
+            + "from VehicleEntity v where v.latitude is not null and v.longitude is not null")
+    List<VehiclePosition> findPositions();
+
     Optional<VehicleEntity> findByLicensePlate(String licensePlate);
 }
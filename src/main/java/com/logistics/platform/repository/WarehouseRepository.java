@@ -1,13 +1,50 @@
 package com.logistics.platform.repository;
 
 import com.logistics.platform.entity.WarehouseEntity;
+import com.logistics.platform.repository.projection.WarehouseView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface WarehouseRepository extends JpaRepository<WarehouseEntity, UUID> {
+    String VIEW = "select new com.logistics.platform.repository.projection.WarehouseView("
+            + "w.id, w.location, w.latitude, w.longitude, w.capacity, w.availableSpace, m.id, w.version) "
+            + "from WarehouseEntity w left join w.manager m";
+
+    @Query(VIEW)
+    List<WarehouseView> findAllViews();
+
+    @Query(VIEW + " order by w.id")
+    List<WarehouseView> findViewsOrderByIdAsc(Limit limit);
+
+    @Query(VIEW + " where w.id > :id order by w.id")
+    List<WarehouseView> findViewsByIdGreaterThan(UUID id, Limit limit);
+
     Optional<WarehouseEntity> findByLocation(String location);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update WarehouseEntity w set w.availableSpace = w.availableSpace - :amount, w.version = w.version + 1 "
+            + "where w.id = :id and w.availableSpace >= :amount")
+    int reserveSpace(UUID id, int amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update WarehouseEntity w set w.availableSpace = w.availableSpace + :amount, w.version = w.version + 1 "
+            + "where w.id = :id and (w.capacity is null or w.availableSpace + :amount <= w.capacity)")
+    int releaseSpace(UUID id, int amount);
+
+    /**
+     * Adds {@code amount} back without failing, capped at the capacity in case it was lowered meanwhile.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update WarehouseEntity w set w.availableSpace = case "
+            + "when w.capacity is not null and w.availableSpace + :amount > w.capacity then w.capacity "
+            + "else w.availableSpace + :amount end, w.version = w.version + 1 where w.id = :id")
+    int returnSpace(UUID id, int amount);
 }
@@ -0,0 +1,9 @@
+package com.logistics.platform.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Total package weight of one order.
+ */
+public record OrderLoadView(UUID orderId, Double weight) {
+}
@@ -0,0 +1,14 @@
+package com.logistics.platform.repository.projection;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One order as listed.
+ */
+@Table("orders")
+public record OrderView(@Id UUID id, UUID clientId, String status, String origin, String destination, LocalDateTime estimatedDeliveryTime) {
+}
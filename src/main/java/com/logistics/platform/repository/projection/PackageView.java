@@ -0,0 +1,13 @@
+package com.logistics.platform.repository.projection;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * One package as listed.
+ */
+@Table("packages")
+public record PackageView(@Id UUID id, UUID orderId, String description, Float weight, String status) {
+}
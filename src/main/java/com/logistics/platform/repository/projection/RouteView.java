@@ -0,0 +1,13 @@
+package com.logistics.platform.repository.projection;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * One route as listed.
+ */
+@Table("routes")
+public record RouteView(@Id UUID id, UUID vehicleId, String origin, String destination, String estimatedTime, String trafficConditions) {
+}
@@ -0,0 +1,9 @@
+package com.logistics.platform.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Last known coordinates of one vehicle.
+ */
+public record VehiclePosition(UUID id, Double latitude, Double longitude) {
+}
@@ -0,0 +1,11 @@
+package com.logistics.platform.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One vehicle as listed.
+ */
+public record VehicleView(UUID id, UUID driverId, String type, String licensePlate, Float capacity, String currentLocation, Double latitude, Double longitude,
+                          Instant positionRecordedAt) {
+}
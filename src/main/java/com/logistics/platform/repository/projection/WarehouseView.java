@@ -0,0 +1,9 @@
+package com.logistics.platform.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * One warehouse as listed.
+ */
+public record WarehouseView(UUID id, String location, Double latitude, Double longitude, Integer capacity, Integer availableSpace, UUID managerId, Long version) {
+}
@@ -0,0 +1,8 @@
+/**
+ * Read-only rows that the repositories select instead of entities.
+ * <p>
+ * A view carries an association as its foreign key id only, so listing rows never loads or proxies the associated
+ * entities. The {@code @Table}-annotated views are also the row types of the reactive read repositories, which map
+ * them straight from their tables.
+ */
+package com.logistics.platform.repository.projection;
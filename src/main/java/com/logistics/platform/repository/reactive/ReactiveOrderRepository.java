@@ -0,0 +1,23 @@
+package com.logistics.platform.repository.reactive;
+
+import com.logistics.platform.repository.projection.OrderView;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking, read-only access to orders over R2DBC. Rows are emitted as the driver decodes them, so a slow
+ * subscriber stops reading from the socket instead of buffering the result set.
+ */
+public interface ReactiveOrderRepository extends Repository<OrderView, UUID> {
+
+    Mono<OrderView> findById(UUID id);
+
+    Flux<OrderView> findAllByOrderByIdAsc();
+
+    Flux<OrderView> findByIdGreaterThanOrderByIdAsc(UUID after);
+
+    Flux<OrderView> findByClientIdOrderByIdAsc(UUID clientId);
+}
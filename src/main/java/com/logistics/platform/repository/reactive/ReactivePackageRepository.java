@@ -0,0 +1,22 @@
+package com.logistics.platform.repository.reactive;
+
+import com.logistics.platform.repository.projection.PackageView;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC access to packages, streamed the same way as {@link ReactiveOrderRepository}.
+ */
+public interface ReactivePackageRepository extends Repository<PackageView, UUID> {
+
+    Mono<PackageView> findById(UUID id);
+
+    Flux<PackageView> findAllByOrderByIdAsc();
+
+    Flux<PackageView> findByIdGreaterThanOrderByIdAsc(UUID after);
+
+    Flux<PackageView> findByOrderIdOrderByIdAsc(UUID orderId);
+}
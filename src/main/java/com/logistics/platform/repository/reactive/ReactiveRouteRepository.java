@@ -0,0 +1,22 @@
+package com.logistics.platform.repository.reactive;
+
+import com.logistics.platform.repository.projection.RouteView;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC access to routes, streamed the same way as {@link ReactiveOrderRepository}.
+ */
+public interface ReactiveRouteRepository extends Repository<RouteView, UUID> {
+
+    Mono<RouteView> findById(UUID id);
+
+    Flux<RouteView> findAllByOrderByIdAsc();
+
+    Flux<RouteView> findByIdGreaterThanOrderByIdAsc(UUID after);
+
+    Flux<RouteView> findByVehicleIdOrderByIdAsc(UUID vehicleId);
+}
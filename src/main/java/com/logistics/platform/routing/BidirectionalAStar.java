@@ -0,0 +1,121 @@
+package com.logistics.platform.routing;
+
+import java.util.Arrays;
+
+/**
+ * Point-to-point travel times over a {@link RoadGraph} with bidirectional A*.
+ * <p>
+ * Both searches use the average potential {@code p(v) = (h(v, target) - h(source, v)) / 2}, where {@code h} is
+ * straight-line distance over the graph's top speed. The forward search orders nodes by {@code d(v) + p(v)} and
+ * the backward one by {@code d(v) - p(v)}, so both run on the same reduced edge costs and the search can stop as
+ * soon as the two smallest queued keys add up to the best meeting point found so far.
+ * <p>
+ * All per-query state lives in primitive arrays borrowed from a {@link SearchStatePool} of one state per core
+ * and is invalidated with a generation counter instead of being cleared, so a query only touches the nodes it
+ * actually visits.
+ */
+public final class BidirectionalAStar implements ShortestPath {
+
+    private final RoadGraph graph;
+    private final SearchStatePool<SearchSpace> spaces;
+
+    public BidirectionalAStar(RoadGraph graph) {
+        this.graph = graph;
+        this.spaces = new SearchStatePool<>(() -> new SearchSpace(graph.nodeCount()));
+    }
+
+    @Override
+    public double travelSeconds(int source, int target) {
+        if (source == target) {
+            return 0;
+        }
+        SearchSpace space = spaces.acquire();
+        try {
+            return search(space, source, target);
+        } finally {
+            spaces.release(space);
+        }
+    }
+
+    private double search(SearchSpace space, int source, int target) {
+        space.begin(source, target);
+        Frontier forward = space.forward;
+        Frontier backward = space.backward;
+        forward.reach(source, 0, space.potential(source));
+        backward.reach(target, 0, -space.potential(target));
+
+        double best = Double.POSITIVE_INFINITY;
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            if (forward.queue.minKey() + backward.queue.minKey() >= best) {
+                break;
+            }
+            boolean fromSource = forward.queue.minKey() <= backward.queue.minKey();
+            Frontier current = fromSource ? forward : backward;
+            Frontier other = fromSource ? backward : forward;
+            int[] first = fromSource ? graph.firstOut() : graph.firstIn();
+            int[] adjacent = fromSource ? graph.head() : graph.tail();
+            float[] seconds = fromSource ? graph.outSeconds() : graph.inSeconds();
+
+            int node = current.queue.pop();
+            if (!current.settle(node)) {
+                continue;
+            }
+            double distance = current.distance[node];
+            for (int e = first[node], end = first[node + 1]; e < end; e++) {
+                int next = adjacent[e];
+                double candidate = distance + seconds[e];
+                if (current.improves(next, candidate)) {
+                    double potential = space.potential(next);
+                    current.reach(next, candidate, candidate + (fromSource ? potential : -potential));
+                    if (other.visited(next)) {
+                        best = Math.min(best, candidate + other.distance[next]);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private final class SearchSpace {
+
+        private final Frontier forward;
+        private final Frontier backward;
+        private final double[] potential;
+        private final int[] potentialStamp;
+        private int generation;
+        private double sourceLat;
+        private double sourceLon;
+        private double targetLat;
+        private double targetLon;
+
+        private SearchSpace(int nodes) {
+            this.forward = new Frontier(nodes);
+            this.backward = new Frontier(nodes);
+            this.potential = new double[nodes];
+            this.potentialStamp = new int[nodes];
+        }
+
+        private void begin(int source, int target) {
+            if (++generation == Integer.MAX_VALUE) {
+                generation = 1;
+                Arrays.fill(potentialStamp, 0);
+            }
+            forward.begin();
+            backward.begin();
+            sourceLat = graph.lat(source);
+            sourceLon = graph.lon(source);
+            targetLat = graph.lat(target);
+            targetLon = graph.lon(target);
+        }
+
+        private double potential(int node) {
+            if (potentialStamp[node] != generation) {
+                double toTarget = RoadGraph.distanceMeters(graph.lat(node), graph.lon(node), targetLat, targetLon);
+                double fromSource = RoadGraph.distanceMeters(sourceLat, sourceLon, graph.lat(node), graph.lon(node));
+                potential[node] = (toTarget - fromSource) / (2 * graph.maxSpeed());
+                potentialStamp[node] = generation;
+            }
+            return potential[node];
+        }
+    }
+}
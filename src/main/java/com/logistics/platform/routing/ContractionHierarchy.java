@@ -0,0 +1,384 @@
+package com.logistics.platform.routing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction hierarchy over a {@link RoadGraph}: every node has a rank, and shortcuts added during
+ * preprocessing preserve all travel times when only edges towards higher-ranked nodes are followed.
+ * <p>
+ * A query is a bidirectional Dijkstra in which the forward search follows the upward edges and the backward
+ * search follows the downward edges in reverse, so both climb the hierarchy and settle a few hundred nodes even on
+ * a regional network. Each side stops once its smallest queued distance cannot improve the best meeting point,
+ * and nodes that are provably reached too expensively are stalled rather than expanded.
+ * <p>
+ * A travel-time matrix uses buckets instead of one query per pair: a backward search from every target leaves
+ * its distance at each node of its search space, then a forward search from every source scans the buckets of
+ * the nodes it settles. Both phases run one search per task, so the cost is {@code sources + targets} upward
+ * searches rather than {@code sources * targets} queries. Edges carry their length in metres so the matrix also
+ * reports the road distance along each fastest path.
+ * <p>
+ * Searches work in per-node arrays borrowed from a {@link SearchStatePool} of one state per core, so the heap
+ * they take does not grow with the number of request threads.
+ * <p>
+ * The hierarchy is written to a flat little-endian file (header, then the CSR arrays) and served straight from a
+ * read-only memory mapping, so a restart maps the file instead of contracting the graph again and the pages are
+ * shared with the OS cache. A file is only reused for the graph whose {@link RoadGraph#fingerprint()} it records.
+ */
+public final class ContractionHierarchy implements ShortestPath {
+
+    private static final int MAGIC = 0x57504348;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+
+    private final int nodes;
+    private final long fingerprint;
+    private final IntBuffer upFirst;
+    private final IntBuffer upHead;
+    private final FloatBuffer upSeconds;
+    private final FloatBuffer upMeters;
+    private final IntBuffer downFirst;
+    private final IntBuffer downTail;
+    private final FloatBuffer downSeconds;
+    private final FloatBuffer downMeters;
+    private final SearchStatePool<SearchState> states;
+
+    ContractionHierarchy(int nodes, long fingerprint, IntBuffer upFirst, IntBuffer upHead, FloatBuffer upSeconds, FloatBuffer upMeters,
+                         IntBuffer downFirst, IntBuffer downTail, FloatBuffer downSeconds, FloatBuffer downMeters) {
+        this.nodes = nodes;
+        this.fingerprint = fingerprint;
+        this.upFirst = upFirst;
+        this.upHead = upHead;
+        this.upSeconds = upSeconds;
+        this.upMeters = upMeters;
+        this.downFirst = downFirst;
+        this.downTail = downTail;
+        this.downSeconds = downSeconds;
+        this.downMeters = downMeters;
+        this.states = new SearchStatePool<>(() -> new SearchState(nodes));
+    }
+
+    public static ContractionHierarchy build(RoadGraph graph) {
+        return new HierarchyBuilder(graph).build();
+    }
+
+    /**
+     * Maps a hierarchy written by {@link #write(Path)}. Returns empty if the file does not exist, has another
+     * format version or was built from a different graph.
+     */
+    public static Optional<ContractionHierarchy> load(Path file, RoadGraph graph) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            int nodes = buffer.getInt(8);
+            int upEdges = buffer.getInt(12);
+            int downEdges = buffer.getInt(16);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getLong(24) != graph.fingerprint()
+                    || nodes != graph.nodeCount() || channel.size() != size(nodes, upEdges, downEdges)) {
+                return Optional.empty();
+            }
+            int offset = HEADER_BYTES;
+            IntBuffer upFirst = ints(buffer, offset, nodes + 1);
+            IntBuffer upHead = ints(buffer, offset += 4 * (nodes + 1), upEdges);
+            FloatBuffer upSeconds = floats(buffer, offset += 4 * upEdges, upEdges);
+            FloatBuffer upMeters = floats(buffer, offset += 4 * upEdges, upEdges);
+            IntBuffer downFirst = ints(buffer, offset += 4 * upEdges, nodes + 1);
+            IntBuffer downTail = ints(buffer, offset += 4 * (nodes + 1), downEdges);
+            FloatBuffer downSeconds = floats(buffer, offset += 4 * downEdges, downEdges);
+            FloatBuffer downMeters = floats(buffer, offset + 4 * downEdges, downEdges);
+            return Optional.of(new ContractionHierarchy(nodes, graph.fingerprint(),
+                    upFirst, upHead, upSeconds, upMeters, downFirst, downTail, downSeconds, downMeters));
+        }
+    }
+
+    /**
+     * Writes the hierarchy next to {@code file} and moves it into place, so a crash never leaves a torn file
+     * behind for the next start to map.
+     */
+    public void write(Path file) throws IOException {
+        int upEdges = upHead.limit();
+        int downEdges = downTail.limit();
+        long size = size(nodes, upEdges, downEdges);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Contraction hierarchy of " + size + " bytes is too large to map");
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            writeTo(temporary, size, upEdges, downEdges);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    private void writeTo(Path temporary, long size, int upEdges, int downEdges) throws IOException {
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(nodes).putInt(upEdges).putInt(downEdges).putInt(0).putLong(fingerprint);
+            buffer.asIntBuffer().put(upFirst.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * (nodes + 1));
+            buffer.asIntBuffer().put(upHead.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * upEdges);
+            buffer.asFloatBuffer().put(upSeconds.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * upEdges);
+            buffer.asFloatBuffer().put(upMeters.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * upEdges);
+            buffer.asIntBuffer().put(downFirst.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * (nodes + 1));
+            buffer.asIntBuffer().put(downTail.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * downEdges);
+            buffer.asFloatBuffer().put(downSeconds.duplicate().rewind());
+            buffer.position(buffer.position() + 4 * downEdges);
+            buffer.asFloatBuffer().put(downMeters.duplicate().rewind());
+            mapped.force();
+        }
+    }
+
+    /**
+     * Upward plus downward edges, i.e. original edges and shortcuts.
+     */
+    public int edgeCount() {
+        return upHead.limit() + downTail.limit();
+    }
+
+    @Override
+    public double travelSeconds(int source, int target) {
+        if (source == target) {
+            return 0;
+        }
+        SearchState state = states.acquire();
+        try {
+            return search(state.forward, state.backward, source, target);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    private double search(Frontier forward, Frontier backward, int source, int target) {
+        forward.begin();
+        backward.begin();
+        forward.reach(source, 0, 0);
+        backward.reach(target, 0, 0);
+
+        double best = Double.POSITIVE_INFINITY;
+        while (true) {
+            boolean forwardOpen = !forward.queue.isEmpty() && forward.queue.minKey() < best;
+            boolean backwardOpen = !backward.queue.isEmpty() && backward.queue.minKey() < best;
+            if (!forwardOpen && !backwardOpen) {
+                return best;
+            }
+            boolean upward = forwardOpen && (!backwardOpen || forward.queue.minKey() <= backward.queue.minKey());
+            Frontier current = upward ? forward : backward;
+            Frontier other = upward ? backward : forward;
+            IntBuffer first = upward ? upFirst : downFirst;
+            IntBuffer adjacent = upward ? upHead : downTail;
+            FloatBuffer seconds = upward ? upSeconds : downSeconds;
+
+            int node = current.queue.pop();
+            if (!current.settle(node)) {
+                continue;
+            }
+            double distance = current.distance[node];
+            if (other.visited(node)) {
+                best = Math.min(best, distance + other.distance[node]);
+            }
+            if (upward ? stalled(current, node, distance, downFirst, downTail, downSeconds)
+                    : stalled(current, node, distance, upFirst, upHead, upSeconds)) {
+                continue;
+            }
+            for (int e = first.get(node), end = first.get(node + 1); e < end; e++) {
+                int next = adjacent.get(e);
+                double candidate = distance + seconds.get(e);
+                if (current.improves(next, candidate)) {
+                    current.reach(next, candidate, candidate);
+                }
+            }
+        }
+    }
+
+    @Override
+    public TravelMatrix matrix(int[] sources, int[] targets, boolean distances) {
+        UpwardSpace[] backward = IntStream.range(0, targets.length).parallel()
+                .mapToObj(column -> upwardSpace(targets[column], false))
+                .toArray(UpwardSpace[]::new);
+
+        int[] first = new int[nodes + 1];
+        for (UpwardSpace space : backward) {
+            for (int i = 0; i < space.size; i++) {
+                first[space.node[i] + 1]++;
+            }
+        }
+        for (int node = 0; node < nodes; node++) {
+            first[node + 1] += first[node];
+        }
+        int[] cursor = Arrays.copyOf(first, nodes);
+        int[] bucketTarget = new int[first[nodes]];
+        double[] bucketSeconds = new double[bucketTarget.length];
+        double[] bucketMeters = distances ? new double[bucketTarget.length] : null;
+        for (int column = 0; column < targets.length; column++) {
+            UpwardSpace space = backward[column];
+            for (int i = 0; i < space.size; i++) {
+                int slot = cursor[space.node[i]]++;
+                bucketTarget[slot] = column;
+                bucketSeconds[slot] = space.seconds[i];
+                if (bucketMeters != null) {
+                    bucketMeters[slot] = space.meters[i];
+                }
+            }
+        }
+
+        int columns = targets.length;
+        double[] seconds = new double[sources.length * columns];
+        double[] meters = distances ? new double[seconds.length] : null;
+        Arrays.fill(seconds, Double.POSITIVE_INFINITY);
+        if (meters != null) {
+            Arrays.fill(meters, Double.NaN);
+        }
+        IntStream.range(0, sources.length).parallel().forEach(row -> {
+            UpwardSpace forward = upwardSpace(sources[row], true);
+            for (int i = 0; i < forward.size; i++) {
+                int node = forward.node[i];
+                for (int b = first[node], end = first[node + 1]; b < end; b++) {
+                    int cell = row * columns + bucketTarget[b];
+                    double candidate = forward.seconds[i] + bucketSeconds[b];
+                    if (candidate < seconds[cell]) {
+                        seconds[cell] = candidate;
+                        if (meters != null) {
+                            meters[cell] = forward.meters[i] + bucketMeters[b];
+                        }
+                    }
+                }
+            }
+        });
+        return new TravelMatrix(sources.length, columns, seconds, meters);
+    }
+
+    /**
+     * Runs a search that only climbs the hierarchy, upward from a source or backward along downward edges from a
+     * target, and returns every node it settles without stalling.
+     */
+    private UpwardSpace upwardSpace(int origin, boolean upward) {
+        SearchState state = states.acquire();
+        try {
+            return upwardSpace(state.forward, state.length, origin, upward);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    private UpwardSpace upwardSpace(Frontier frontier, double[] length, int origin, boolean upward) {
+        IntBuffer first = upward ? upFirst : downFirst;
+        IntBuffer adjacent = upward ? upHead : downTail;
+        FloatBuffer seconds = upward ? upSeconds : downSeconds;
+        FloatBuffer meters = upward ? upMeters : downMeters;
+
+        frontier.begin();
+        frontier.reach(origin, 0, 0);
+        length[origin] = 0;
+        UpwardSpace space = new UpwardSpace();
+        while (!frontier.queue.isEmpty()) {
+            int node = frontier.queue.pop();
+            if (!frontier.settle(node)) {
+                continue;
+            }
+            double distance = frontier.distance[node];
+            if (upward ? stalled(frontier, node, distance, downFirst, downTail, downSeconds)
+                    : stalled(frontier, node, distance, upFirst, upHead, upSeconds)) {
+                continue;
+            }
+            space.add(node, distance, length[node]);
+            for (int e = first.get(node), end = first.get(node + 1); e < end; e++) {
+                int next = adjacent.get(e);
+                double candidate = distance + seconds.get(e);
+                if (frontier.improves(next, candidate)) {
+                    frontier.reach(next, candidate, candidate);
+                    length[next] = length[node] + meters.get(e);
+                }
+            }
+        }
+        return space;
+    }
+
+    /**
+     * Stall-on-demand: a node reached more cheaply through a higher-ranked neighbour the search already knows is
+     * not on any shortest path the search could complete, so its edges need not be relaxed.
+     */
+    private static boolean stalled(Frontier frontier, int node, double distance, IntBuffer first, IntBuffer adjacent, FloatBuffer seconds) {
+        for (int e = first.get(node), end = first.get(node + 1); e < end; e++) {
+            int higher = adjacent.get(e);
+            if (frontier.visited(higher) && frontier.distance[higher] + seconds.get(e) < distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long size(int nodes, int upEdges, int downEdges) {
+        return HEADER_BYTES + 4L * (2L * (nodes + 1) + 3L * upEdges + 3L * downEdges);
+    }
+
+    private static final class SearchState {
+
+        private final Frontier forward;
+        private final Frontier backward;
+        private final double[] length;
+
+        private SearchState(int nodes) {
+            this.forward = new Frontier(nodes);
+            this.backward = new Frontier(nodes);
+            this.length = new double[nodes];
+        }
+    }
+
+    /**
+     * Nodes settled by one upward search with their travel time and distance from the search's origin.
+     */
+    private static final class UpwardSpace {
+
+        private int[] node = new int[64];
+        private double[] seconds = new double[64];
+        private double[] meters = new double[64];
+        private int size;
+
+        private void add(int settled, double travelSeconds, double lengthMeters) {
+            if (size == node.length) {
+                node = Arrays.copyOf(node, size * 2);
+                seconds = Arrays.copyOf(seconds, size * 2);
+                meters = Arrays.copyOf(meters, size * 2);
+            }
+            node[size] = settled;
+            seconds[size] = travelSeconds;
+            meters[size] = lengthMeters;
+            size++;
+        }
+    }
+
+    private static IntBuffer ints(ByteBuffer buffer, int offset, int count) {
+        return buffer.slice(offset, 4 * count).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static FloatBuffer floats(ByteBuffer buffer, int offset, int count) {
+        return buffer.slice(offset, 4 * count).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+    }
+}
@@ -0,0 +1,53 @@
+package com.logistics.platform.routing;
+
+import java.util.Arrays;
+
+/**
+ * One side of a bidirectional search: tentative distances, which nodes were reached and settled, and the
+ * queue. State is invalidated with a generation counter so starting a new query costs nothing.
+ */
+final class Frontier {
+
+    final double[] distance;
+    private final int[] reached;
+    private final int[] settled;
+    final MinHeap queue = new MinHeap();
+    private int generation;
+
+    Frontier(int nodes) {
+        this.distance = new double[nodes];
+        this.reached = new int[nodes];
+        this.settled = new int[nodes];
+    }
+
+    void begin() {
+        if (++generation == Integer.MAX_VALUE) {
+            generation = 1;
+            Arrays.fill(reached, 0);
+            Arrays.fill(settled, 0);
+        }
+        queue.clear();
+    }
+
+    boolean visited(int node) {
+        return reached[node] == generation;
+    }
+
+    boolean improves(int node, double candidate) {
+        return settled[node] != generation && (reached[node] != generation || candidate < distance[node]);
+    }
+
+    void reach(int node, double candidate, double key) {
+        distance[node] = candidate;
+        reached[node] = generation;
+        queue.push(node, key);
+    }
+
+    boolean settle(int node) {
+        if (settled[node] == generation) {
+            return false;
+        }
+        settled[node] = generation;
+        return true;
+    }
+}
@@ -0,0 +1,271 @@
+package com.logistics.platform.routing;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Contracts the nodes of a {@link RoadGraph} one at a time, cheapest first, into a {@link ContractionHierarchy}.
+ * <p>
+ * The cost of a node is its edge difference (twice the shortcuts its contraction would add, minus the edges it
+ * removes) plus the number of already contracted neighbours, which spreads contraction evenly over the map.
+ * Costs are refreshed lazily when a node reaches the front of the queue. A shortcut {@code u -> w} is skipped when
+ * a witness search from {@code u} that avoids the contracted node finds a path at least as fast; the search gives
+ * up after {@link #WITNESS_SETTLE_LIMIT} nodes, which can only add superfluous shortcuts, never drop needed ones.
+ * <p>
+ * A contracted node is unlinked from its neighbours, so the working adjacency only ever holds the remaining graph.
+ * Shortcuts carry the summed length of the edges they replace, so distances survive contraction as well.
+ */
+final class HierarchyBuilder {
+
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final RoadGraph graph;
+    private final int nodes;
+    private final Adjacency out;
+    private final Adjacency in;
+    private final Adjacency up;
+    private final Adjacency down;
+    private final int[] contractedNeighbours;
+
+    private final double[] witnessDistance;
+    private final int[] witnessStamp;
+    private final MinHeap witnessQueue = new MinHeap();
+    private int witnessGeneration;
+
+    HierarchyBuilder(RoadGraph graph) {
+        this.graph = graph;
+        this.nodes = graph.nodeCount();
+        this.out = new Adjacency(nodes);
+        this.in = new Adjacency(nodes);
+        this.up = new Adjacency(nodes);
+        this.down = new Adjacency(nodes);
+        this.contractedNeighbours = new int[nodes];
+        this.witnessDistance = new double[nodes];
+        this.witnessStamp = new int[nodes];
+
+        int[] firstOut = graph.firstOut();
+        for (int node = 0; node < nodes; node++) {
+            for (int e = firstOut[node]; e < firstOut[node + 1]; e++) {
+                if (graph.head()[e] != node) {
+                    addEdge(node, graph.head()[e], graph.outSeconds()[e], graph.outMeters()[e]);
+                }
+            }
+        }
+    }
+
+    ContractionHierarchy build() {
+        MinHeap order = new MinHeap();
+        for (int node = 0; node < nodes; node++) {
+            order.push(node, priority(node));
+        }
+        while (!order.isEmpty()) {
+            int node = order.pop();
+            double priority = priority(node);
+            if (!order.isEmpty() && priority > order.minKey()) {
+                order.push(node, priority);
+                continue;
+            }
+            contract(node, false);
+        }
+        return new ContractionHierarchy(nodes, graph.fingerprint(),
+                up.first(), up.targets(), up.weights(), up.lengths(),
+                down.first(), down.targets(), down.weights(), down.lengths());
+    }
+
+    private double priority(int node) {
+        int degree = out.size[node] + in.size[node];
+        return 2.0 * contract(node, true) - degree + contractedNeighbours[node];
+    }
+
+    /**
+     * Counts, and unless simulating adds, the shortcuts needed to remove {@code node}.
+     */
+    private int contract(int node, boolean simulate) {
+        int shortcuts = 0;
+        for (int i = 0; i < in.size[node]; i++) {
+            int source = in.to[node][i];
+            double toNode = in.weight[node][i];
+            double limit = -1;
+            for (int j = 0; j < out.size[node]; j++) {
+                int target = out.to[node][j];
+                if (target != source) {
+                    limit = Math.max(limit, toNode + out.weight[node][j]);
+                }
+            }
+            if (limit < 0) {
+                continue;
+            }
+            witnessSearch(source, node, limit);
+            for (int j = 0; j < out.size[node]; j++) {
+                int target = out.to[node][j];
+                if (target == source) {
+                    continue;
+                }
+                float via = (float) (toNode + out.weight[node][j]);
+                if (witnessStamp[target] != witnessGeneration || witnessDistance[target] > via) {
+                    shortcuts++;
+                    if (!simulate) {
+                        addEdge(source, target, via, in.meters[node][i] + out.meters[node][j]);
+                    }
+                }
+            }
+        }
+        if (!simulate) {
+            for (int i = 0; i < out.size[node]; i++) {
+                int target = out.to[node][i];
+                up.add(node, target, out.weight[node][i], out.meters[node][i]);
+                in.remove(target, node);
+                contractedNeighbours[target]++;
+            }
+            for (int i = 0; i < in.size[node]; i++) {
+                int source = in.to[node][i];
+                down.add(node, source, in.weight[node][i], in.meters[node][i]);
+                out.remove(source, node);
+                contractedNeighbours[source]++;
+            }
+        }
+        return shortcuts;
+    }
+
+    private void witnessSearch(int source, int avoid, double limit) {
+        if (++witnessGeneration == Integer.MAX_VALUE) {
+            witnessGeneration = 1;
+            Arrays.fill(witnessStamp, 0);
+        }
+        witnessQueue.clear();
+        witnessDistance[source] = 0;
+        witnessStamp[source] = witnessGeneration;
+        witnessQueue.push(source, 0);
+        int settled = 0;
+        while (!witnessQueue.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+            double distance = witnessQueue.minKey();
+            int node = witnessQueue.pop();
+            if (distance > witnessDistance[node]) {
+                continue;
+            }
+            if (distance > limit) {
+                break;
+            }
+            for (int i = 0; i < out.size[node]; i++) {
+                int next = out.to[node][i];
+                if (next == avoid) {
+                    continue;
+                }
+                double candidate = distance + out.weight[node][i];
+                if (witnessStamp[next] != witnessGeneration || candidate < witnessDistance[next]) {
+                    witnessDistance[next] = candidate;
+                    witnessStamp[next] = witnessGeneration;
+                    witnessQueue.push(next, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds {@code source -> target}, or replaces the existing edge if this one is faster; parallel edges are never
+     * kept.
+     */
+    private void addEdge(int source, int target, float seconds, float meters) {
+        int existing = out.indexOf(source, target);
+        if (existing >= 0) {
+            if (out.weight[source][existing] > seconds) {
+                int reverse = in.indexOf(target, source);
+                out.weight[source][existing] = seconds;
+                out.meters[source][existing] = meters;
+                in.weight[target][reverse] = seconds;
+                in.meters[target][reverse] = meters;
+            }
+            return;
+        }
+        out.add(source, target, seconds, meters);
+        in.add(target, source, seconds, meters);
+    }
+
+    /**
+     * Per-node growable edge lists, packed into CSR once the hierarchy is complete.
+     */
+    private static final class Adjacency {
+
+        private final int[][] to;
+        private final float[][] weight;
+        private final float[][] meters;
+        private final int[] size;
+
+        private Adjacency(int nodes) {
+            this.to = new int[nodes][];
+            this.weight = new float[nodes][];
+            this.meters = new float[nodes][];
+            this.size = new int[nodes];
+            for (int node = 0; node < nodes; node++) {
+                to[node] = new int[4];
+                weight[node] = new float[4];
+                meters[node] = new float[4];
+            }
+        }
+
+        private void add(int node, int target, float seconds, float length) {
+            int i = size[node];
+            if (i == to[node].length) {
+                to[node] = Arrays.copyOf(to[node], i * 2);
+                weight[node] = Arrays.copyOf(weight[node], i * 2);
+                meters[node] = Arrays.copyOf(meters[node], i * 2);
+            }
+            to[node][i] = target;
+            weight[node][i] = seconds;
+            meters[node][i] = length;
+            size[node] = i + 1;
+        }
+
+        private void remove(int node, int target) {
+            int i = indexOf(node, target);
+            if (i >= 0) {
+                int last = --size[node];
+                to[node][i] = to[node][last];
+                weight[node][i] = weight[node][last];
+                meters[node][i] = meters[node][last];
+            }
+        }
+
+        private int indexOf(int node, int target) {
+            for (int i = 0; i < size[node]; i++) {
+                if (to[node][i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private IntBuffer first() {
+            int[] first = new int[size.length + 1];
+            for (int node = 0; node < size.length; node++) {
+                first[node + 1] = first[node] + size[node];
+            }
+            return IntBuffer.wrap(first);
+        }
+
+        private IntBuffer targets() {
+            int[] packed = new int[Arrays.stream(size).sum()];
+            for (int node = 0, offset = 0; node < size.length; offset += size[node], node++) {
+                System.arraycopy(to[node], 0, packed, offset, size[node]);
+            }
+            return IntBuffer.wrap(packed);
+        }
+
+        private FloatBuffer weights() {
+            return pack(weight);
+        }
+
+        private FloatBuffer lengths() {
+            return pack(meters);
+        }
+
+        private FloatBuffer pack(float[][] values) {
+            float[] packed = new float[Arrays.stream(size).sum()];
+            for (int node = 0, offset = 0; node < size.length; offset += size[node], node++) {
+                System.arraycopy(values[node], 0, packed, offset, size[node]);
+            }
+            return FloatBuffer.wrap(packed);
+        }
+    }
+}
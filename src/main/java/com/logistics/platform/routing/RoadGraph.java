@@ -0,0 +1,296 @@
+package com.logistics.platform.routing;
+
+import java.util.Arrays;
+
+/**
+ * Immutable road network in compressed sparse row form.
+ * <p>
+ * Nodes are dense ints. The outgoing edges of node {@code u} are {@code firstOut[u] .. firstOut[u + 1] - 1} in
+ * {@code head}/{@code outSeconds}; the incoming edges are laid out the same way in {@code tail}/{@code inSeconds}
+ * so the backward search walks contiguous memory too. Edge weights are travel times in seconds; every edge also
+ * carries its length in metres, which searches sum along the fastest path to report road distance. Nodes are also
+ * bucketed into a coarse lat/lon grid, sorted by cell, to snap coordinates to the nearest node.
+ */
+public final class RoadGraph {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double CELL_DEGREES = 0.01;
+
+    private final double[] lat;
+    private final double[] lon;
+    private final int[] firstOut;
+    private final int[] head;
+    private final float[] outSeconds;
+    private final float[] outMeters;
+    private final int[] firstIn;
+    private final int[] tail;
+    private final float[] inSeconds;
+    private final float[] inMeters;
+    private final double maxSpeed;
+    private final long[] cellKeys;
+    private final int[] cellNodes;
+
+    private RoadGraph(double[] lat, double[] lon, int[] from, int[] to, float[] seconds, float[] meters, int edges) {
+        this.lat = lat;
+        this.lon = lon;
+        int nodes = lat.length;
+        this.firstOut = new int[nodes + 1];
+        this.head = new int[edges];
+        this.outSeconds = new float[edges];
+        this.outMeters = new float[edges];
+        this.firstIn = new int[nodes + 1];
+        this.tail = new int[edges];
+        this.inSeconds = new float[edges];
+        this.inMeters = new float[edges];
+        fill(from, to, seconds, meters, edges, firstOut, head, outSeconds, outMeters);
+        fill(to, from, seconds, meters, edges, firstIn, tail, inSeconds, inMeters);
+
+        double speed = 1;
+        for (int e = 0; e < edges; e++) {
+            if (seconds[e] > 0) {
+                speed = Math.max(speed, distanceMeters(lat[from[e]], lon[from[e]], lat[to[e]], lon[to[e]]) / seconds[e]);
+            }
+        }
+        this.maxSpeed = speed;
+
+        long[] sorted = new long[nodes];
+        for (int node = 0; node < nodes; node++) {
+            sorted[node] = cellKey(cellRow(lat[node]), cellColumn(lon[node])) << 32 | node;
+        }
+        Arrays.sort(sorted);
+        this.cellKeys = new long[nodes];
+        this.cellNodes = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            cellKeys[i] = sorted[i] >>> 32;
+            cellNodes[i] = (int) sorted[i];
+        }
+    }
+
+    private static void fill(int[] source, int[] target, float[] seconds, float[] meters, int edges,
+                             int[] first, int[] adjacent, float[] weights, float[] lengths) {
+        for (int e = 0; e < edges; e++) {
+            first[source[e] + 1]++;
+        }
+        for (int node = 0; node + 1 < first.length; node++) {
+            first[node + 1] += first[node];
+        }
+        int[] cursor = Arrays.copyOf(first, first.length - 1);
+        for (int e = 0; e < edges; e++) {
+            int slot = cursor[source[e]]++;
+            adjacent[slot] = target[e];
+            weights[slot] = seconds[e];
+            lengths[slot] = meters[e];
+        }
+    }
+
+    public int nodeCount() {
+        return lat.length;
+    }
+
+    public int edgeCount() {
+        return head.length;
+    }
+
+    /**
+     * Hash over coordinates, topology and weights, so data derived from one graph is never reused for another.
+     */
+    public long fingerprint() {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, lat.length);
+        hash = mix(hash, head.length);
+        for (int node = 0; node < lat.length; node++) {
+            hash = mix(hash, Double.doubleToLongBits(lat[node]));
+            hash = mix(hash, Double.doubleToLongBits(lon[node]));
+            hash = mix(hash, firstOut[node + 1]);
+        }
+        for (int e = 0; e < head.length; e++) {
+            hash = mix(hash, (long) head[e] << 32 | Float.floatToIntBits(outSeconds[e]));
+            hash = mix(hash, Float.floatToIntBits(outMeters[e]));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    double lat(int node) {
+        return lat[node];
+    }
+
+    double lon(int node) {
+        return lon[node];
+    }
+
+    int[] firstOut() {
+        return firstOut;
+    }
+
+    int[] head() {
+        return head;
+    }
+
+    float[] outSeconds() {
+        return outSeconds;
+    }
+
+    float[] outMeters() {
+        return outMeters;
+    }
+
+    int[] firstIn() {
+        return firstIn;
+    }
+
+    int[] tail() {
+        return tail;
+    }
+
+    float[] inSeconds() {
+        return inSeconds;
+    }
+
+    float[] inMeters() {
+        return inMeters;
+    }
+
+    /**
+     * Fastest speed found on any edge, in metres per second. Straight-line distance divided by it never
+     * overestimates a travel time, which keeps the A* potentials admissible.
+     */
+    double maxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Returns the node closest to the given point, or {@code -1} if none lies within {@code maxMeters}.
+     */
+    public int nearestNode(double latitude, double longitude, double maxMeters) {
+        double cellMeters = CELL_DEGREES * Math.PI / 180 * EARTH_RADIUS_METERS * Math.max(0.05, Math.cos(Math.toRadians(latitude)));
+        int rings = (int) Math.ceil(maxMeters / cellMeters) + 1;
+        int row = cellRow(latitude);
+        int column = cellColumn(longitude);
+        int best = -1;
+        double bestMeters = maxMeters;
+        for (int r = row - rings; r <= row + rings; r++) {
+            for (int c = column - rings; c <= column + rings; c++) {
+                long key = cellKey(r, c);
+                for (int i = lowerBound(key); i < cellKeys.length && cellKeys[i] == key; i++) {
+                    int node = cellNodes[i];
+                    double meters = distanceMeters(latitude, longitude, lat[node], lon[node]);
+                    if (meters <= bestMeters) {
+                        bestMeters = meters;
+                        best = node;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = cellKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Packs a cell into 31 bits: rows span 18,001 values and columns 36,001 at this cell size. */
+    private static long cellKey(int row, int column) {
+        return (long) (row + 9000) << 16 | (column + 18000);
+    }
+
+    private static int cellRow(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int cellColumn(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects nodes and directed edges into growable primitive arrays before they are packed.
+     */
+    public static final class Builder {
+
+        private double[] lat = new double[1024];
+        private double[] lon = new double[1024];
+        private int nodes;
+        private int[] from = new int[4096];
+        private int[] to = new int[4096];
+        private float[] seconds = new float[4096];
+        private float[] meters = new float[4096];
+        private int edges;
+
+        public int addNode(double latitude, double longitude) {
+            if (nodes == lat.length) {
+                lat = Arrays.copyOf(lat, nodes * 2);
+                lon = Arrays.copyOf(lon, nodes * 2);
+            }
+            lat[nodes] = latitude;
+            lon[nodes] = longitude;
+            return nodes++;
+        }
+
+        /**
+         * Adds an edge whose length is the straight-line distance between its ends.
+         */
+        public Builder addEdge(int source, int target, double travelSeconds) {
+            checkNode(source, target, source);
+            checkNode(source, target, target);
+            return addEdge(source, target, travelSeconds, distanceMeters(lat[source], lon[source], lat[target], lon[target]));
+        }
+
+        public Builder addEdge(int source, int target, double travelSeconds, double lengthMeters) {
+            checkNode(source, target, source);
+            checkNode(source, target, target);
+            if (!(travelSeconds >= 0)) {
+                throw new IllegalArgumentException("Edge " + source + " -> " + target + " has a negative travel time");
+            }
+            if (!(lengthMeters >= 0)) {
+                throw new IllegalArgumentException("Edge " + source + " -> " + target + " has a negative length");
+            }
+            if (edges == from.length) {
+                from = Arrays.copyOf(from, edges * 2);
+                to = Arrays.copyOf(to, edges * 2);
+                seconds = Arrays.copyOf(seconds, edges * 2);
+                meters = Arrays.copyOf(meters, edges * 2);
+            }
+            from[edges] = source;
+            to[edges] = target;
+            seconds[edges] = (float) travelSeconds;
+            meters[edges] = (float) lengthMeters;
+            edges++;
+            return this;
+        }
+
+        public RoadGraph build() {
+            return new RoadGraph(Arrays.copyOf(lat, nodes), Arrays.copyOf(lon, nodes), from, to, seconds, meters, edges);
+        }
+
+        private void checkNode(int source, int target, int node) {
+            if (node < 0 || node >= nodes) {
+                throw new IllegalArgumentException("Edge " + source + " -> " + target + " references an unknown node");
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.logistics.platform.routing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link RoadGraph} from a CSV edge list with a header row.
+ * <p>
+ * Required columns are {@code from_node, from_lat, from_lon, to_node, to_lat, to_lon}; node ids are the source
+ * data's own (e.g. OSM node ids) and are renumbered densely. The edge length is {@code length_m}, defaulting to the
+ * straight-line distance, and the travel time comes from {@code travel_seconds} if present, otherwise from the
+ * length over {@code speed_kmh} (default 50). Edges are two-way unless {@code oneway} is {@code 1}, {@code true} or {@code yes}.
+ */
+public final class RoadGraphLoader {
+
+    private static final double DEFAULT_SPEED_KMH = 50;
+    private static final List<String> REQUIRED = List.of("from_node", "from_lat", "from_lon", "to_node", "to_lat", "to_lon");
+
+    private RoadGraphLoader() {
+    }
+
+    public static RoadGraph load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = reader.readLine();
+            if (first == null) {
+                throw new IOException("Road graph " + file + " has no header row");
+            }
+            List<String> header = Arrays.stream(first.replace("\uFEFF", "").split(",")).map(String::trim).toList();
+            for (String column : REQUIRED) {
+                if (!header.contains(column)) {
+                    throw new IOException("Road graph " + file + " is missing column " + column);
+                }
+            }
+            int fromNode = header.indexOf("from_node");
+            int fromLat = header.indexOf("from_lat");
+            int fromLon = header.indexOf("from_lon");
+            int toNode = header.indexOf("to_node");
+            int toLat = header.indexOf("to_lat");
+            int toLon = header.indexOf("to_lon");
+            int seconds = header.indexOf("travel_seconds");
+            int length = header.indexOf("length_m");
+            int speed = header.indexOf("speed_kmh");
+            int oneway = header.indexOf("oneway");
+
+            RoadGraph.Builder builder = RoadGraph.builder();
+            Map<Long, Integer> nodes = new HashMap<>();
+            String raw;
+            long line = 1;
+            while ((raw = reader.readLine()) != null) {
+                line++;
+                if (raw.isBlank()) {
+                    continue;
+                }
+                String[] values = raw.split(",", -1);
+                try {
+                    double sourceLat = Double.parseDouble(values[fromLat]);
+                    double sourceLon = Double.parseDouble(values[fromLon]);
+                    double targetLat = Double.parseDouble(values[toLat]);
+                    double targetLon = Double.parseDouble(values[toLon]);
+                    int source = nodes.computeIfAbsent(Long.parseLong(values[fromNode].trim()), id -> builder.addNode(sourceLat, sourceLon));
+                    int target = nodes.computeIfAbsent(Long.parseLong(values[toNode].trim()), id -> builder.addNode(targetLat, targetLon));
+
+                    double meters = present(values, length)
+                            ? Double.parseDouble(values[length])
+                            : RoadGraph.distanceMeters(sourceLat, sourceLon, targetLat, targetLon);
+                    double travelSeconds;
+                    if (present(values, seconds)) {
+                        travelSeconds = Double.parseDouble(values[seconds]);
+                    } else {
+                        double kmh = present(values, speed) ? Double.parseDouble(values[speed]) : DEFAULT_SPEED_KMH;
+                        travelSeconds = meters / (kmh / 3.6);
+                    }
+                    builder.addEdge(source, target, travelSeconds, meters);
+                    if (!present(values, oneway) || !isTrue(values[oneway])) {
+                        builder.addEdge(target, source, travelSeconds, meters);
+                    }
+                } catch (RuntimeException e) {
+                    throw new IOException("Road graph " + file + " line " + line + " is invalid: " + e.getMessage(), e);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static boolean present(String[] values, int column) {
+        return column >= 0 && column < values.length && !values[column].isBlank();
+    }
+
+    private static boolean isTrue(String value) {
+        String flag = value.trim().toLowerCase();
+        return flag.equals("1") || flag.equals("true") || flag.equals("yes");
+    }
+}
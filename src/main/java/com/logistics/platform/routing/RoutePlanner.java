@@ -0,0 +1,196 @@
+package com.logistics.platform.routing;
+
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.exception.BatchTooLargeException;
+import com.logistics.platform.geo.GeoPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Estimates travel times between two places given as {@code "lat,lon"}.
+ * <p>
+ * The road graph is loaded once from {@code routing.graph-file}; without one, or when either end is not a
+ * coordinate pair or lies further than {@code routing.max-snap-meters} from the road network, there is no
+ * estimate and callers keep whatever they were given. Results, including misses, are cached per origin and
+ * destination.
+ * <p>
+ * Travel-time matrices are not cached. They run on a dedicated fork-join pool of
+ * {@code routing.matrix.parallelism} threads, so a large matrix cannot starve the common pool.
+ */
+@Slf4j
+@Component
+public class RoutePlanner {
+
+    @Value("${routing.graph-file:}")
+    private String graphFile;
+
+    @Value("${routing.max-snap-meters:1000}")
+    private double maxSnapMeters;
+
+    @Value("${routing.contraction.enabled:true}")
+    private boolean contractionEnabled;
+
+    @Value("${routing.contraction.file:}")
+    private String contractionFile;
+
+    @Value("${routing.matrix.max-cells:1000000}")
+    private long maxMatrixCells;
+
+    @Value("${routing.matrix.parallelism:0}")
+    private int matrixParallelism;
+
+    private RoadGraph graph;
+    private ShortestPath search;
+    private ForkJoinPool matrixPool;
+
+    @PostConstruct
+    void loadGraph() {
+        if (graphFile == null || graphFile.isBlank()) {
+            log.info("No road graph configured, route times will not be estimated");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            graph = RoadGraphLoader.load(Path.of(graphFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load road graph " + graphFile, e);
+        }
+        log.info("Loaded road graph {} with {} nodes and {} edges in {} ms", graphFile, graph.nodeCount(), graph.edgeCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        search = contractionEnabled ? contractionHierarchy() : new BidirectionalAStar(graph);
+        matrixPool = new ForkJoinPool(matrixParallelism > 0 ? matrixParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (matrixPool != null) {
+            matrixPool.shutdownNow();
+        }
+    }
+
+    private ContractionHierarchy contractionHierarchy() {
+        Path file = Path.of(contractionFile == null || contractionFile.isBlank() ? graphFile + ".ch" : contractionFile);
+        try {
+            Optional<ContractionHierarchy> mapped = ContractionHierarchy.load(file, graph);
+            if (mapped.isPresent()) {
+                log.info("Mapped contraction hierarchy {} with {} edges", file, mapped.get().edgeCount());
+                return mapped.get();
+            }
+            long started = System.nanoTime();
+            ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+            log.info("Contracted road graph into {} edges in {} ms", hierarchy.edgeCount(), (System.nanoTime() - started) / 1_000_000);
+            try {
+                hierarchy.write(file);
+            } catch (IOException e) {
+                log.warn("Could not write contraction hierarchy {}, serving it from the heap: {}", file, e.toString());
+                return hierarchy;
+            }
+            return ContractionHierarchy.load(file, graph).orElse(hierarchy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare contraction hierarchy " + file, e);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROUTES, key = "#origin + '|' + #destination")
+    public Optional<Duration> estimate(String origin, String destination) {
+        if (search == null) {
+            return Optional.empty();
+        }
+        int source = snap(origin);
+        int target = snap(destination);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+        double seconds = search.travelSeconds(source, target);
+        return Double.isInfinite(seconds) ? Optional.empty() : Optional.of(Duration.ofSeconds((long) Math.ceil(seconds)));
+    }
+
+    /**
+     * Travel times and road distances from every origin to every destination, in the order given. Pairs with an
+     * end that cannot be placed on the road network are unreachable, as is everything when no graph is loaded.
+     * Repeated places are only searched once.
+     */
+    public TravelMatrix matrix(List<String> origins, List<String> destinations) {
+        return matrix(origins, destinations, true);
+    }
+
+    /**
+     * Like {@link #matrix(List, List)} but without road distances, which halves the memory a large matrix takes.
+     */
+    public TravelMatrix travelTimes(List<String> origins, List<String> destinations) {
+        return matrix(origins, destinations, false);
+    }
+
+    private TravelMatrix matrix(List<String> origins, List<String> destinations, boolean distances) {
+        long cells = (long) origins.size() * destinations.size();
+        if (cells > Integer.MAX_VALUE) {
+            throw new BatchTooLargeException("Matrix of " + cells + " cells is too large");
+        }
+        int[] sources = snapAll(origins);
+        int[] targets = snapAll(destinations);
+        int[] distinctSources = Arrays.stream(sources).filter(node -> node >= 0).distinct().sorted().toArray();
+        int[] distinctTargets = Arrays.stream(targets).filter(node -> node >= 0).distinct().sorted().toArray();
+        TravelMatrix distinct = distinctSources.length == 0 || distinctTargets.length == 0
+                ? new TravelMatrix(0, 0, new double[0], null)
+                : matrixPool.submit(() -> search.matrix(distinctSources, distinctTargets, distances)).join();
+
+        double[] seconds = new double[(int) cells];
+        double[] meters = distances ? new double[(int) cells] : null;
+        Arrays.fill(seconds, Double.POSITIVE_INFINITY);
+        if (meters != null) {
+            Arrays.fill(meters, Double.NaN);
+        }
+        for (int row = 0; row < sources.length; row++) {
+            if (sources[row] < 0) {
+                continue;
+            }
+            int source = Arrays.binarySearch(distinctSources, sources[row]);
+            for (int column = 0; column < targets.length; column++) {
+                if (targets[column] >= 0) {
+                    int target = Arrays.binarySearch(distinctTargets, targets[column]);
+                    seconds[row * targets.length + column] = distinct.seconds(source, target);
+                    if (meters != null) {
+                        meters[row * targets.length + column] = distinct.meters(source, target);
+                    }
+                }
+            }
+        }
+        return new TravelMatrix(sources.length, targets.length, seconds, meters);
+    }
+
+    /**
+     * Rejects a client-requested matrix above {@code routing.matrix.max-cells}.
+     */
+    public void checkMatrixSize(int origins, int destinations) {
+        long cells = (long) origins * destinations;
+        if (cells > maxMatrixCells) {
+            throw new BatchTooLargeException("Matrix of " + cells + " cells exceeds the limit of " + maxMatrixCells);
+        }
+    }
+
+    private int[] snapAll(List<String> places) {
+        int[] nodes = new int[places.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = search == null ? -1 : snap(places.get(i));
+        }
+        return nodes;
+    }
+
+    private int snap(String place) {
+        GeoPoint point = GeoPoint.parse(place);
+        return point == null ? -1 : graph.nearestNode(point.latitude(), point.longitude(), maxSnapMeters);
+    }
+}
@@ -0,0 +1,65 @@
+package com.logistics.platform.routing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of the per-node arrays a search works in.
+ * <p>
+ * At most {@code capacity} states are ever created, one per core by default, so the heap they take is bounded by
+ * the CPU count rather than by the number of threads that ever ran a query, and a virtual thread borrows warm
+ * arrays instead of allocating and zeroing its own. A search that finds every state in use waits for one; with
+ * one state per core that only happens when the cores are busy searching anyway.
+ */
+final class SearchStatePool<T> {
+
+    private final int capacity;
+    private final Supplier<T> factory;
+    private final ArrayBlockingQueue<T> idle;
+    private final AtomicInteger created = new AtomicInteger();
+
+    SearchStatePool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors(), factory);
+    }
+
+    SearchStatePool(int capacity, Supplier<T> factory) {
+        this.capacity = capacity;
+        this.factory = factory;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    T acquire() {
+        T state = idle.poll();
+        if (state != null) {
+            return state;
+        }
+        for (int count = created.get(); count < capacity; count = created.get()) {
+            if (created.compareAndSet(count, count + 1)) {
+                try {
+                    return factory.get();
+                } catch (RuntimeException | Error e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a route search", e);
+        }
+    }
+
+    void release(T state) {
+        idle.offer(state);
+    }
+
+    /**
+     * States created so far, never more than the capacity.
+     */
+    int created() {
+        return created.get();
+    }
+}
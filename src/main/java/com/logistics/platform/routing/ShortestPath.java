@@ -0,0 +1,42 @@
+package com.logistics.platform.routing;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Point-to-point travel time query over the nodes of a {@link RoadGraph}.
+ */
+public interface ShortestPath {
+
+    /**
+     * Returns the fastest travel time from {@code source} to {@code target} in seconds, or
+     * {@link Double#POSITIVE_INFINITY} if the target cannot be reached.
+     */
+    double travelSeconds(int source, int target);
+
+    /**
+     * Computes the travel times and road distances between all sources and targets.
+     */
+    default TravelMatrix matrix(int[] sources, int[] targets) {
+        return matrix(sources, targets, true);
+    }
+
+    /**
+     * Computes the travel times between all sources and targets, and the road distances only when
+     * {@code distances} is set. This default runs one point-to-point query per pair, spread over the common
+     * fork-join pool (or the pool it is called from), and leaves distances unknown.
+     */
+    default TravelMatrix matrix(int[] sources, int[] targets, boolean distances) {
+        double[] seconds = new double[sources.length * targets.length];
+        double[] meters = distances ? new double[seconds.length] : null;
+        if (meters != null) {
+            Arrays.fill(meters, Double.NaN);
+        }
+        IntStream.range(0, sources.length).parallel().forEach(row -> {
+            for (int column = 0; column < targets.length; column++) {
+                seconds[row * targets.length + column] = travelSeconds(sources[row], targets[column]);
+            }
+        });
+        return new TravelMatrix(sources.length, targets.length, seconds, meters);
+    }
+}
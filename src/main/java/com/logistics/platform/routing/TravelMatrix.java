@@ -0,0 +1,17 @@
+package com.logistics.platform.routing;
+
+/**
+ * Travel times and road distances from every source to every target, stored row-major by source in two flat
+ * arrays. An unreachable pair has an infinite time; a distance is {@code NaN} when it is unknown, and
+ * {@code meters} is {@code null} when distances were not asked for.
+ */
+public record TravelMatrix(int sources, int targets, double[] seconds, double[] meters) {
+
+    public double seconds(int source, int target) {
+        return seconds[source * targets + target];
+    }
+
+    public double meters(int source, int target) {
+        return meters == null ? Double.NaN : meters[source * targets + target];
+    }
+}
@@ -0,0 +1,82 @@
+package com.logistics.platform.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded map from the SHA-256 digest of an already verified token to its claims.
+ * <p>
+ * Entries are dropped lazily once the token's {@code exp} has passed. When the map is full, expired
+ * entries are swept first and, if that is not enough, an arbitrary tenth of the map is evicted so that
+ * new tokens keep getting cached under a steady stream of distinct users.
+ */
+final class JwtClaimsCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<TokenDigest, Claims> entries = new ConcurrentHashMap<>();
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Claims get(TokenDigest digest, long nowMs) {
+        Claims claims = entries.get(digest);
+        if (claims == null) {
+            return null;
+        }
+        if (isExpired(claims, nowMs)) {
+            entries.remove(digest, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(TokenDigest digest, Claims claims, long nowMs) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            makeRoom(nowMs);
+        }
+        entries.put(digest, claims);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void makeRoom(long nowMs) {
+        entries.values().removeIf(claims -> isExpired(claims, nowMs));
+        int excess = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<TokenDigest> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static boolean isExpired(Claims claims, long nowMs) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= nowMs;
+    }
+
+    record TokenDigest(long w0, long w1, long w2, long w3) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer words = ByteBuffer.wrap(hash);
+                return new TokenDigest(words.getLong(), words.getLong(), words.getLong(), words.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+}
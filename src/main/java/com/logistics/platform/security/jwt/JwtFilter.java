@@ -1,5 +1,8 @@
 package com.logistics.platform.security.jwt;
 
+import com.logistics.platform.security.role.PrincipalCache;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,44 +11,56 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests carrying a bearer token.
+ * <p>
+ * Token verification and principal lookup are observed as {@code security.jwt}, tagged with the outcome, so a
+ * trace shows them apart from the rest of the filter chain.
+ */
 @Slf4j
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtFilter(JwtProvider jwtProvider, UserDetailsService userDetailsService) {
+    public JwtFilter(JwtProvider jwtProvider, PrincipalCache principalCache, ObservationRegistry observationRegistry) {
         this.jwtProvider = jwtProvider;
-        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        String token = jwtProvider.resolveToken(request);
-        log.info("Token from request: {}", token);
-
-        if (token != null && jwtProvider.validateToken(token)) {
-            String email = jwtProvider.getUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        Observation observation = Observation.createNotStarted("security.jwt", observationRegistry)
+                .contextualName("jwt authentication");
+        UserDetails userDetails = observation.observe(() -> authenticate(request, observation));
+        if (userDetails != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-            log.info("Loaded user details: {}", userDetails.getUsername());
-            log.info("Granted authorities: {}", userDetails.getAuthorities());
-
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.info("Token is valid");
+            log.debug("Authenticated {} with {}", userDetails.getUsername(), userDetails.getAuthorities());
         }
 
         chain.doFilter(request, response);
     }
+
+    private UserDetails authenticate(HttpServletRequest request, Observation observation) {
+        String token = jwtProvider.resolveToken(request);
+        UserDetails userDetails = jwtProvider.parseClaims(token)
+                .map(principalCache::resolve)
+                .orElse(null);
+        String outcome = userDetails != null ? "authenticated" : token == null ? "anonymous" : "rejected";
+        observation.lowCardinalityKeyValue("outcome", outcome);
+        return userDetails;
+    }
 }
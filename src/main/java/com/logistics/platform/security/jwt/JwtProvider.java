@@ -1,16 +1,28 @@
 package com.logistics.platform.security.jwt;
 
 import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.security.role.PrincipalCache;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
     @Value("${jwt.secret}")
@@ -19,46 +31,99 @@ public class JwtProvider {
     @Value("${jwt.expiration}")
     private long validityInMs;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private JwtClaimsCache claimsCache;
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        claimsCache = new JwtClaimsCache(cacheMaxSize);
+        cachedTimer = validationTimer("cached");
+        verifiedTimer = validationTimer("verified");
+        rejectedTimer = validationTimer("rejected");
+    }
+
+    /**
+     * {@code jwt.validation} by outcome; the share of {@code cached} samples is the claims cache hit rate.
+     */
+    private Timer validationTimer(String outcome) {
+        return Timer.builder("jwt.validation")
+                .description("Token verification, including claims cache lookups")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     public String createToken(String email, Role role) {
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("role", role.name())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + validityInMs))
-                .signWith(SignatureAlgorithm.HS256, Base64.getDecoder().decode(secretKey))
-                .compact();
+        return createToken(null, email, role);
     }
 
-    public String getUsername(String token) {
-        return Jwts.parser()
-                .setSigningKey(Base64.getDecoder().decode(secretKey))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public String createToken(UUID userId, String email, Role role) {
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder()
+                .subject(email)
+                .claim(PrincipalCache.ROLE_CLAIM, role.name())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validityInMs));
+        if (userId != null) {
+            builder.claim(PrincipalCache.USER_ID_CLAIM, userId.toString());
+        }
+        return builder
+                .signWith(signingKey, Jwts.SIG.HS256)
+                .compact();
     }
 
-    public boolean validateToken(String token) {
-        log.info("Attempting to validate token: {}", token);
+    /**
+     * Verifies the token once and returns its claims. Tokens that were verified before are served
+     * from a bounded cache keyed by their SHA-256 digest until they expire.
+     */
+    public Optional<Claims> parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        JwtClaimsCache.TokenDigest digest = JwtClaimsCache.TokenDigest.of(token);
+        Claims cached = claimsCache.get(digest, now);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(Base64.getDecoder().decode(secretKey))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            log.info("Validating token...");
-            log.info("Email: {}", claims.getSubject());
-            log.info("Role: {}", claims.get("role", String.class));
-            log.info("Expiration: {}", claims.getExpiration());
-
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            claimsCache.put(digest, claims, now);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("Token validation failed: {}", e.getMessage());
-            return false;
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("Token validation failed: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
+    public String getUsername(String token) {
+        return parseClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new MalformedJwtException("Invalid JWT token"));
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         return (bearerToken != null && bearerToken.startsWith("Bearer ")) ? bearerToken.substring(7) : null;
@@ -0,0 +1,150 @@
+package com.logistics.platform.security.password;
+
+import com.logistics.platform.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt on a fixed pool of platform threads, one per core by default, so hashing never runs on request threads
+ * and never takes more CPU than the pool has.
+ * <p>
+ * At most {@code queueCapacity} hashes wait for a thread. Beyond that a hash is refused at once with
+ * {@link PasswordHashingOverloadedException} rather than queued behind a login storm. The
+ * {@link PasswordEncoder} methods wait for the pool, so {@code DaoAuthenticationProvider} and user
+ * maintenance share the same bound. {@link #upgradeEncoding(String)} reports hashes of any other cost than the
+ * configured one, in either direction, so they can be replaced on the next successful login.
+ * <p>
+ * Each hash is timed as {@code security.password.hash} by operation and outcome, after waiting
+ * {@code security.password.queue.wait}.
+ */
+public class PasswordHasher implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final ThreadPoolExecutor pool;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHasher(int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.meterRegistry = meterRegistry;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hasher-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("security.password.queue.depth", pool, executor -> executor.getQueue().size())
+                .description("Password hashes waiting for a thread")
+                .register(meterRegistry);
+        queueWait = Timer.builder("security.password.queue.wait")
+                .description("Time a password hash waited for a thread")
+                .register(meterRegistry);
+        rejected = Counter.builder("security.password.rejected")
+                .description("Password hashes refused because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks {@code rawPassword} against {@code encodedPassword} on the hashing pool.
+     *
+     * @throws PasswordHashingOverloadedException when the queue is full
+     */
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit("matches", () -> encoder.matches(rawPassword, encodedPassword), matched -> matched ? "match" : "mismatch");
+    }
+
+    /**
+     * Hashes {@code rawPassword} at the configured cost on the hashing pool.
+     *
+     * @throws PasswordHashingOverloadedException when the queue is full
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit("encode", () -> encoder.encode(rawPassword), hash -> "encoded");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher cost = BCRYPT_COST.matcher(encodedPassword);
+        return !cost.find() || Integer.parseInt(cost.group(1)) != strength;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> hash, Function<T, String> outcome) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            pool.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    T value = hash.get();
+                    record(operation, outcome.apply(value), startedAt);
+                    result.complete(value);
+                } catch (RuntimeException e) {
+                    record(operation, "error", startedAt);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingOverloadedException("Too many password checks in progress, retry shortly");
+        }
+        return result;
+    }
+
+    private void record(String operation, String outcome, long startedAt) {
+        Timer.builder("security.password.hash")
+                .description("BCrypt work per attempt")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.logistics.platform.security.role;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.entity.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the principal behind a verified token without a database round trip on every request.
+ * <p>
+ * In stateless mode ({@code security.jwt.stateless=true}) the principal is rebuilt from the token's
+ * {@code sub}, {@code uid} and {@code role} claims; otherwise it is loaded through
+ * {@link UserDetailsService}. Either way the result is cached per subject for
+ * {@code security.principal-cache.ttl}. When principals are loaded, a change made on another node takes effect
+ * within that window; in stateless mode the role is the one in the token, so such a change only takes effect
+ * once the token expires. Changes made on this node take effect immediately through {@link #revoke(UUID)},
+ * which evicts the user and rejects every token issued to them before the current second. Token issue times
+ * have a resolution of one second, so a token issued again within that second stays valid.
+ * <p>
+ * Lookups are counted as {@code cache.gets} with {@code cache=principals}, next to the Caffeine regions.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
+    private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> revokedAt = new ConcurrentHashMap<>();
+
+    @Value("${security.jwt.stateless:false}")
+    private boolean stateless;
+
+    @Value("${security.principal-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.expiration}")
+    private long tokenValidityMs;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder("cache.gets").tag("cache", "principals").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "principals").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Returns the principal for the given verified claims, or {@code null} when the token has been
+     * revoked or the user no longer exists.
+     */
+    public UserDetails resolve(Claims claims) {
+        String subject = claims.getSubject();
+        UUID userId = userIdOf(claims);
+        if (subject == null || isRevoked(userId, claims.getIssuedAt())) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(subject);
+        if (cached != null && cached.expiresAt() > now && (userId == null || userId.equals(cached.userId()))) {
+            hits.increment();
+            return cached.details();
+        }
+        misses.increment();
+
+        UserDetailsImpl details = stateless ? fromClaims(subject, userId, claims) : null;
+        if (details == null) {
+            details = load(subject);
+            if (details == null) {
+                principals.remove(subject);
+                return null;
+            }
+        }
+
+        cache(subject, details, now);
+        return details;
+    }
+
+    /**
+     * Forgets the user's cached principal and rejects every token issued to them before the current second.
+     */
+    public void revoke(UUID userId) {
+        long now = System.currentTimeMillis();
+        revokedAt.put(userId, now - now % 1000);
+        revokedAt.values().removeIf(at -> at < now - tokenValidityMs);
+        principals.values().removeIf(cached -> userId.equals(cached.userId()));
+    }
+
+    private boolean isRevoked(UUID userId, Date issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        Long at = revokedAt.get(userId);
+        return at != null && (issuedAt == null || issuedAt.getTime() < at);
+    }
+
+    private UserDetailsImpl fromClaims(String subject, UUID userId, Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        try {
+            return new UserDetailsImpl(UserEntity.builder()
+                    .id(userId)
+                    .email(subject)
+                    .username(subject)
+                    .role(Role.valueOf(role))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private UserDetailsImpl load(String subject) {
+        try {
+            UserDetails details = userDetailsService.loadUserByUsername(subject);
+            return details instanceof UserDetailsImpl impl ? impl : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private void cache(String subject, UserDetailsImpl details, long now) {
+        if (ttl.isZero() || ttl.isNegative() || maxSize <= 0) {
+            return;
+        }
+        if (principals.size() >= maxSize) {
+            principals.values().removeIf(cached -> cached.expiresAt() <= now);
+            Iterator<String> keys = principals.keySet().iterator();
+            int excess = principals.size() - maxSize + Math.max(1, maxSize / 10);
+            while (excess-- > 0 && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        principals.put(subject, new CachedPrincipal(details, details.getUser().getId(), now + ttl.toMillis()));
+    }
+
+    private static UUID userIdOf(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record CachedPrincipal(UserDetailsImpl details, UUID userId, long expiresAt) {
+    }
+}
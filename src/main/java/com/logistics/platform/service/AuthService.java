@@ -4,8 +4,10 @@ import com.logistics.platform.domain.LoginDTO;
 import com.logistics.platform.domain.RegisterDTO;
 import com.logistics.platform.domain.UserDTO;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthService {
-    UserDTO loginUser(LoginDTO request);
+    CompletableFuture<UserDTO> loginUser(LoginDTO request);
 
     UserDTO registerUser(RegisterDTO request);
     String generateToken(UserDTO user);
@@ -1,14 +1,20 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.exception.OrderNotFoundException;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface OrderService {
     List<OrderDTO> findAllOrders();
+    PageDTO<OrderDTO> findOrdersPage(String cursor, int limit);
+    void streamAllOrders(Consumer<OrderDTO> sink);
     OrderDTO createOrder(OrderDTO orderDTO);
+    BatchResultDTO<OrderDTO> upsertOrders(List<OrderDTO> orders);
     OrderDTO findOrderById(UUID id) throws OrderNotFoundException;
     List<OrderDTO> findOrdersByClient(UUID clientId);
     OrderDTO updateOrderStatus(UUID id, String status) throws OrderNotFoundException;
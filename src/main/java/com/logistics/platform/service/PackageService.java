@@ -1,14 +1,20 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.exception.PackageNotFoundException;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PackageService {
     List<PackageDTO> findAllPackages();
+    PageDTO<PackageDTO> findPackagesPage(String cursor, int limit);
+    void streamAllPackages(Consumer<PackageDTO> sink);
     PackageDTO createPackage(PackageDTO packageDTO);
+    BatchResultDTO<PackageDTO> upsertPackages(List<PackageDTO> packages);
     PackageDTO findPackageById(UUID id) throws PackageNotFoundException;
     List<PackageDTO> findPackagesByOrder(UUID orderId);
     PackageDTO updatePackage(UUID id, PackageDTO updatedPackage) throws PackageNotFoundException;
@@ -0,0 +1,24 @@
+package com.logistics.platform.service;
+
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveReadService {
+    Flux<OrderDTO> streamOrders(UUID after);
+    Mono<OrderDTO> findOrderById(UUID id);
+    Flux<OrderDTO> streamOrdersByClient(UUID clientId);
+    Flux<OrderDTO> watchOrder(UUID id);
+    Flux<PackageDTO> streamPackages(UUID after);
+    Mono<PackageDTO> findPackageById(UUID id);
+    Flux<PackageDTO> streamPackagesByOrder(UUID orderId);
+    Flux<PackageDTO> watchPackage(UUID id);
+    Flux<RouteDTO> streamRoutes(UUID after);
+    Mono<RouteDTO> findRouteById(UUID id);
+    Flux<RouteDTO> streamRoutesByVehicle(UUID vehicleId);
+    Flux<RouteDTO> watchRoute(UUID id);
+}
@@ -1,16 +1,23 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.TravelMatrixDTO;
+import com.logistics.platform.domain.TravelMatrixRequestDTO;
 import com.logistics.platform.exception.RouteNotFoundException;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface RouteService {
     List<RouteDTO> findAllRoutes();
+    PageDTO<RouteDTO> findRoutesPage(String cursor, int limit);
+    void streamAllRoutes(Consumer<RouteDTO> sink);
     RouteDTO createRoute(RouteDTO routeDTO);
     RouteDTO findRouteById(UUID id) throws RouteNotFoundException;
     List<RouteDTO> findRoutesByVehicle(UUID vehicleId);
     RouteDTO updateRoute(UUID id, RouteDTO updatedRoute) throws RouteNotFoundException;
     void deleteRoute(UUID id) throws RouteNotFoundException;
+    TravelMatrixDTO travelMatrix(TravelMatrixRequestDTO request);
 }
@@ -1,5 +1,6 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.UserDTO;
 import com.logistics.platform.exception.UserNotFoundException;
 
@@ -8,6 +9,7 @@ import java.util.UUID;
 
 public interface UserService {
     List<UserDTO> findAllUsers();
+    PageDTO<UserDTO> findUsersPage(String cursor, int limit);
     UserDTO createUser(UserDTO userDTO, String password);
     UserDTO findUserById(UUID id) throws UserNotFoundException;
     UserDTO updateUser(UUID id, UserDTO userDTO, String password) throws UserNotFoundException;
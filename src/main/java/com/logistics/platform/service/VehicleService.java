@@ -1,17 +1,24 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.NearbyVehicleDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.TrackDTO;
 import com.logistics.platform.domain.VehicleDTO;
 import com.logistics.platform.exception.VehicleNotFoundException;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface VehicleService {
     List<VehicleDTO> findAllVehicles();
+    PageDTO<VehicleDTO> findVehiclesPage(String cursor, int limit);
     VehicleDTO createVehicle(VehicleDTO vehicleDTO);
     VehicleDTO findVehicleById(UUID id) throws VehicleNotFoundException;
     VehicleDTO findVehicleByLicensePlate(String plate) throws VehicleNotFoundException;
     VehicleDTO assignDriver(UUID vehicleId, UUID driverId) throws VehicleNotFoundException;
     VehicleDTO updateVehicle(UUID id, VehicleDTO updatedVehicle) throws VehicleNotFoundException;
     void deleteVehicle(UUID id) throws VehicleNotFoundException;
+    List<NearbyVehicleDTO> findNearbyVehicles(double latitude, double longitude, double radiusMeters, int limit);
+    TrackDTO findTrack(UUID id, Instant from, Instant to, int limit) throws VehicleNotFoundException;
 }
@@ -1,6 +1,8 @@
 package com.logistics.platform.service;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.WarehouseDTO;
+import com.logistics.platform.exception.InsufficientCapacityException;
 import com.logistics.platform.exception.WarehouseNotFoundException;
 
 import java.util.List;
@@ -8,9 +10,12 @@ import java.util.UUID;
 
 public interface WarehouseService {
     List<WarehouseDTO> findAllWarehouses();
+    PageDTO<WarehouseDTO> findWarehousesPage(String cursor, int limit);
     WarehouseDTO createWarehouse(WarehouseDTO warehouseDTO);
     WarehouseDTO findWarehouseById(UUID id) throws WarehouseNotFoundException;
     WarehouseDTO findWarehouseByLocation(String location) throws WarehouseNotFoundException;
     WarehouseDTO updateWarehouse(UUID id, WarehouseDTO updatedWarehouse) throws WarehouseNotFoundException;
     void deleteWarehouse(UUID id) throws WarehouseNotFoundException;
+    void reserveSpace(UUID id, int amount) throws WarehouseNotFoundException, InsufficientCapacityException;
+    void releaseSpace(UUID id, int amount) throws WarehouseNotFoundException, InsufficientCapacityException;
 }
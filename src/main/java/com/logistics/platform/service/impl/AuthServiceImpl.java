@@ -4,26 +4,39 @@ import com.logistics.platform.domain.LoginDTO;
 import com.logistics.platform.domain.RegisterDTO;
 import com.logistics.platform.domain.UserDTO;
 import com.logistics.platform.domain.enums.Role;
-import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.exception.AuthenticationException;
+import com.logistics.platform.exception.PasswordHashingOverloadedException;
 import com.logistics.platform.exception.UserAlreadyExistsException;
+import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.security.jwt.JwtProvider;
+import com.logistics.platform.security.password.PasswordHasher;
 import com.logistics.platform.service.AuthService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * Registration and login.
+ * <p>
+ * Password checks run on the {@link PasswordHasher} pool and the login continues on the application task
+ * executor, so neither a request thread nor a hashing thread waits on the other. A login whose stored hash has
+ * another cost than the configured one stores a fresh hash afterwards, off the response path.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordEncoder;
+    private final Executor applicationTaskExecutor;
 
     @Override
     public UserDTO registerUser(RegisterDTO request) {
@@ -47,24 +60,47 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public UserDTO loginUser(LoginDTO request) {
+    public CompletableFuture<UserDTO> loginUser(LoginDTO request) {
         Optional<UserEntity> userOpt = Optional.ofNullable(userRepository.findByEmail(request.getEmail()));
         UserEntity user = userOpt.orElseThrow(() -> new AuthenticationException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            System.out.println("Password does not match for email: " + request.getEmail());
-            throw new AuthenticationException("Invalid email or password");
-        }
+        return passwordEncoder.matchesAsync(request.getPassword(), user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        log.debug("Password does not match for email: {}", request.getEmail());
+                        throw new AuthenticationException("Invalid email or password");
+                    }
+                    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                        rehash(user, request.getPassword());
+                    }
+                    return UserDTO.builder()
+                            .id(user.getId())
+                            .email(user.getEmail())
+                            .username(user.getUsername())
+                            .build();
+                }, applicationTaskExecutor);
+    }
 
-        return UserDTO.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .username(user.getUsername())
-                .build();
+    /**
+     * Replaces the user's hash with one at the configured cost, unless the password changed meanwhile. A busy
+     * hashing pool just leaves it for a later login.
+     */
+    private void rehash(UserEntity user, String password) {
+        try {
+            passwordEncoder.encodeAsync(password)
+                    .thenAcceptAsync(hash -> userRepository.replacePasswordHash(user.getId(), user.getPassword(), hash),
+                            applicationTaskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Could not rehash the password of user {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (PasswordHashingOverloadedException e) {
+            log.debug("Skipped rehashing the password of user {}: {}", user.getId(), e.getMessage());
+        }
     }
 
     public String generateToken(UserDTO user) {
-        Role role = userRepository.findByEmail(user.getEmail()).getRole();
-        return jwtProvider.createToken(user.getEmail(), role);
+        UserEntity entity = userRepository.findByEmail(user.getEmail());
+        return jwtProvider.createToken(entity.getId(), entity.getEmail(), entity.getRole());
     }
 }
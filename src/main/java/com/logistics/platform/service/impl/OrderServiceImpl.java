@@ -1,20 +1,39 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.batch.BatchCollector;
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.enums.BatchItemStatus;
 import com.logistics.platform.entity.OrderEntity;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.exception.OrderNotFoundException;
 import com.logistics.platform.exception.UserNotFoundException;
+import com.logistics.platform.export.NdjsonExporter;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.OrderRepository;
 import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.repository.projection.OrderView;
 import com.logistics.platform.service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,15 +42,45 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderDTO> findAllOrders() {
-        return orderRepository.findAll().stream()
+        return orderRepository.findAllViews().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<OrderDTO> findOrdersPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<OrderView> rows = after == null
+                ? orderRepository.findViewsOrderByIdAsc(window)
+                : orderRepository.findViewsByIdGreaterThan(after, window);
+        return CursorPagination.toPage(rows, limit, OrderView::id, this::mapToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllOrders(Consumer<OrderDTO> sink) {
+        try (Stream<OrderEntity> rows = orderRepository.streamAll()) {
+            Iterator<OrderEntity> iterator = rows.iterator();
+            int streamed = 0;
+            while (iterator.hasNext()) {
+                sink.accept(mapToDTO(iterator.next()));
+                if (++streamed % NdjsonExporter.CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Transactional
     public OrderDTO createOrder(OrderDTO orderDTO) {
@@ -50,6 +99,69 @@ public class OrderServiceImpl implements OrderService {
         return mapToDTO(savedOrder);
     }
 
+    @Override
+    @Transactional
+    public BatchResultDTO<OrderDTO> upsertOrders(List<OrderDTO> orders) {
+        BatchCollector<OrderDTO> batch = new BatchCollector<>(orders, validator);
+        batch.failDuplicates(OrderDTO::getId);
+        int[] pending = batch.pending();
+
+        Set<UUID> clientIds = new HashSet<>();
+        Set<UUID> orderIds = new HashSet<>();
+        for (int index : pending) {
+            OrderDTO item = batch.item(index);
+            clientIds.add(item.getClientId());
+            if (item.getId() != null) {
+                orderIds.add(item.getId());
+            }
+        }
+        Set<UUID> knownClients = clientIds.isEmpty() ? Set.of() : userRepository.findExistingIds(clientIds);
+        Map<UUID, OrderEntity> existing = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+
+        List<Integer> written = new ArrayList<>(pending.length);
+        List<OrderEntity> entities = new ArrayList<>(pending.length);
+        for (int index : pending) {
+            OrderDTO item = batch.item(index);
+            if (!knownClients.contains(item.getClientId())) {
+                batch.fail(index, "Client not found with id: " + item.getClientId());
+                continue;
+            }
+            if (item.getId() == null) {
+                entities.add(OrderEntity.builder()
+                        .client(userRepository.getReferenceById(item.getClientId()))
+                        .status(item.getStatus())
+                        .origin(item.getOrigin())
+                        .destination(item.getDestination())
+                        .estimatedDeliveryTime(item.getEstimatedDeliveryTime())
+                        .build());
+            } else if (existing.containsKey(item.getId())) {
+                OrderEntity current = existing.get(item.getId());
+                entities.add(current.toBuilder()
+                        .client(item.getClientId().equals(current.getClient().getId())
+                                ? current.getClient()
+                                : userRepository.getReferenceById(item.getClientId()))
+                        .status(item.getStatus())
+                        .origin(item.getOrigin())
+                        .destination(item.getDestination())
+                        .estimatedDeliveryTime(item.getEstimatedDeliveryTime())
+                        .build());
+            } else {
+                batch.fail(index, "Order not found with id: " + item.getId());
+                continue;
+            }
+            written.add(index);
+        }
+
+        List<OrderEntity> saved = orderRepository.saveAll(entities);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = written.get(i);
+            BatchItemStatus status = batch.item(index).getId() == null ? BatchItemStatus.CREATED : BatchItemStatus.UPDATED;
+            batch.succeed(index, status, mapToDTO(saved.get(i)));
+        }
+        return batch.build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderDTO findOrderById(UUID id) {
@@ -61,7 +173,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<OrderDTO> findOrdersByClient(UUID clientId) {
-        return orderRepository.findByClientId(clientId).stream()
+        return orderRepository.findViewsByClientId(clientId).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -99,4 +211,15 @@ public class OrderServiceImpl implements OrderService {
                 .estimatedDeliveryTime(order.getEstimatedDeliveryTime())
                 .build();
     }
+
+    private OrderDTO mapToDTO(OrderView view) {
+        return OrderDTO.builder()
+                .id(view.id())
+                .clientId(view.clientId())
+                .status(view.status())
+                .origin(view.origin())
+                .destination(view.destination())
+                .estimatedDeliveryTime(view.estimatedDeliveryTime())
+                .build();
+    }
 }
@@ -1,20 +1,39 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.batch.BatchCollector;
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.enums.BatchItemStatus;
 import com.logistics.platform.entity.OrderEntity;
 import com.logistics.platform.entity.PackageEntity;
 import com.logistics.platform.exception.OrderNotFoundException;
 import com.logistics.platform.exception.PackageNotFoundException;
+import com.logistics.platform.export.NdjsonExporter;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.OrderRepository;
 import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.projection.PackageView;
 import com.logistics.platform.service.PackageService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,15 +42,45 @@ public class PackageServiceImpl implements PackageService {
 
     private final PackageRepository packageRepository;
     private final OrderRepository orderRepository;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
     public List<PackageDTO> findAllPackages() {
-        return packageRepository.findAll().stream()
+        return packageRepository.findAllViews().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<PackageDTO> findPackagesPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<PackageView> rows = after == null
+                ? packageRepository.findViewsOrderByIdAsc(window)
+                : packageRepository.findViewsByIdGreaterThan(after, window);
+        return CursorPagination.toPage(rows, limit, PackageView::id, this::mapToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPackages(Consumer<PackageDTO> sink) {
+        try (Stream<PackageEntity> rows = packageRepository.streamAll()) {
+            Iterator<PackageEntity> iterator = rows.iterator();
+            int streamed = 0;
+            while (iterator.hasNext()) {
+                sink.accept(mapToDTO(iterator.next()));
+                if (++streamed % NdjsonExporter.CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Transactional
     public PackageDTO createPackage(PackageDTO packageDTO) {
@@ -49,6 +98,67 @@ public class PackageServiceImpl implements PackageService {
         return mapToDTO(savedPackage);
     }
 
+    @Override
+    @Transactional
+    public BatchResultDTO<PackageDTO> upsertPackages(List<PackageDTO> packages) {
+        BatchCollector<PackageDTO> batch = new BatchCollector<>(packages, validator);
+        batch.failDuplicates(PackageDTO::getId);
+        int[] pending = batch.pending();
+
+        Set<UUID> orderIds = new HashSet<>();
+        Set<UUID> packageIds = new HashSet<>();
+        for (int index : pending) {
+            PackageDTO item = batch.item(index);
+            orderIds.add(item.getOrderId());
+            if (item.getId() != null) {
+                packageIds.add(item.getId());
+            }
+        }
+        Set<UUID> knownOrders = orderIds.isEmpty() ? Set.of() : orderRepository.findExistingIds(orderIds);
+        Map<UUID, PackageEntity> existing = packageRepository.findAllById(packageIds).stream()
+                .collect(Collectors.toMap(PackageEntity::getId, Function.identity()));
+
+        List<Integer> written = new ArrayList<>(pending.length);
+        List<PackageEntity> entities = new ArrayList<>(pending.length);
+        for (int index : pending) {
+            PackageDTO item = batch.item(index);
+            if (!knownOrders.contains(item.getOrderId())) {
+                batch.fail(index, "Order not found with id: " + item.getOrderId());
+                continue;
+            }
+            if (item.getId() == null) {
+                entities.add(PackageEntity.builder()
+                        .order(orderRepository.getReferenceById(item.getOrderId()))
+                        .description(item.getDescription())
+                        .weight(item.getWeight())
+                        .status(item.getStatus())
+                        .build());
+            } else if (existing.containsKey(item.getId())) {
+                PackageEntity current = existing.get(item.getId());
+                entities.add(current.toBuilder()
+                        .order(item.getOrderId().equals(current.getOrder().getId())
+                                ? current.getOrder()
+                                : orderRepository.getReferenceById(item.getOrderId()))
+                        .description(item.getDescription())
+                        .weight(item.getWeight())
+                        .status(item.getStatus())
+                        .build());
+            } else {
+                batch.fail(index, "Package not found with id: " + item.getId());
+                continue;
+            }
+            written.add(index);
+        }
+
+        List<PackageEntity> saved = packageRepository.saveAll(entities);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = written.get(i);
+            BatchItemStatus status = batch.item(index).getId() == null ? BatchItemStatus.CREATED : BatchItemStatus.UPDATED;
+            batch.succeed(index, status, mapToDTO(saved.get(i)));
+        }
+        return batch.build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PackageDTO findPackageById(UUID id) {
@@ -60,7 +170,7 @@ public class PackageServiceImpl implements PackageService {
     @Override
     @Transactional(readOnly = true)
     public List<PackageDTO> findPackagesByOrder(UUID orderId) {
-        return packageRepository.findByOrderId(orderId).stream()
+        return packageRepository.findViewsByOrderId(orderId).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -99,4 +209,14 @@ public class PackageServiceImpl implements PackageService {
                 .status(packageEntity.getStatus())
                 .build();
     }
+
+    private PackageDTO mapToDTO(PackageView view) {
+        return PackageDTO.builder()
+                .id(view.id())
+                .orderId(view.orderId())
+                .description(view.description())
+                .weight(view.weight())
+                .status(view.status())
+                .build();
+    }
 }
@@ -0,0 +1,136 @@
+package com.logistics.platform.service.impl;
+
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.exception.OrderNotFoundException;
+import com.logistics.platform.exception.PackageNotFoundException;
+import com.logistics.platform.exception.RouteNotFoundException;
+import com.logistics.platform.repository.projection.OrderView;
+import com.logistics.platform.repository.projection.PackageView;
+import com.logistics.platform.repository.projection.RouteView;
+import com.logistics.platform.repository.reactive.ReactiveOrderRepository;
+import com.logistics.platform.repository.reactive.ReactivePackageRepository;
+import com.logistics.platform.repository.reactive.ReactiveRouteRepository;
+import com.logistics.platform.service.ReactiveReadService;
+import com.logistics.platform.streaming.SnapshotFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactivePackageRepository packageRepository;
+    private final ReactiveRouteRepository routeRepository;
+    private final SnapshotFeed snapshotFeed;
+
+    @Override
+    public Flux<OrderDTO> streamOrders(UUID after) {
+        return (after == null ? orderRepository.findAllByOrderByIdAsc() : orderRepository.findByIdGreaterThanOrderByIdAsc(after))
+                .map(this::mapToDTO);
+    }
+
+    @Override
+    public Mono<OrderDTO> findOrderById(UUID id) {
+        return orderRepository.findById(id)
+                .map(this::mapToDTO)
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<OrderDTO> streamOrdersByClient(UUID clientId) {
+        return orderRepository.findByClientIdOrderByIdAsc(clientId).map(this::mapToDTO);
+    }
+
+    @Override
+    public Flux<OrderDTO> watchOrder(UUID id) {
+        return findOrderById(id).thenMany(snapshotFeed.watch("orders:" + id,
+                () -> orderRepository.findById(id).map(this::mapToDTO)));
+    }
+
+    @Override
+    public Flux<PackageDTO> streamPackages(UUID after) {
+        return (after == null ? packageRepository.findAllByOrderByIdAsc() : packageRepository.findByIdGreaterThanOrderByIdAsc(after))
+                .map(this::mapToDTO);
+    }
+
+    @Override
+    public Mono<PackageDTO> findPackageById(UUID id) {
+        return packageRepository.findById(id)
+                .map(this::mapToDTO)
+                .switchIfEmpty(Mono.error(() -> new PackageNotFoundException("Package not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<PackageDTO> streamPackagesByOrder(UUID orderId) {
+        return packageRepository.findByOrderIdOrderByIdAsc(orderId).map(this::mapToDTO);
+    }
+
+    @Override
+    public Flux<PackageDTO> watchPackage(UUID id) {
+        return findPackageById(id).thenMany(snapshotFeed.watch("packages:" + id,
+                () -> packageRepository.findById(id).map(this::mapToDTO)));
+    }
+
+    @Override
+    public Flux<RouteDTO> streamRoutes(UUID after) {
+        return (after == null ? routeRepository.findAllByOrderByIdAsc() : routeRepository.findByIdGreaterThanOrderByIdAsc(after))
+                .map(this::mapToDTO);
+    }
+
+    @Override
+    public Mono<RouteDTO> findRouteById(UUID id) {
+        return routeRepository.findById(id)
+                .map(this::mapToDTO)
+                .switchIfEmpty(Mono.error(() -> new RouteNotFoundException("Route not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<RouteDTO> streamRoutesByVehicle(UUID vehicleId) {
+        return routeRepository.findByVehicleIdOrderByIdAsc(vehicleId).map(this::mapToDTO);
+    }
+
+    @Override
+    public Flux<RouteDTO> watchRoute(UUID id) {
+        return findRouteById(id).thenMany(snapshotFeed.watch("routes:" + id,
+                () -> routeRepository.findById(id).map(this::mapToDTO)));
+    }
+
+    private OrderDTO mapToDTO(OrderView view) {
+        return OrderDTO.builder()
+                .id(view.id())
+                .clientId(view.clientId())
+                .status(view.status())
+                .origin(view.origin())
+                .destination(view.destination())
+                .estimatedDeliveryTime(view.estimatedDeliveryTime())
+                .build();
+    }
+
+    private PackageDTO mapToDTO(PackageView view) {
+        return PackageDTO.builder()
+                .id(view.id())
+                .orderId(view.orderId())
+                .description(view.description())
+                .weight(view.weight())
+                .status(view.status())
+                .build();
+    }
+
+    private RouteDTO mapToDTO(RouteView view) {
+        return RouteDTO.builder()
+                .id(view.id())
+                .vehicleId(view.vehicleId())
+                .origin(view.origin())
+                .destination(view.destination())
+                .estimatedTime(view.estimatedTime())
+                .trafficConditions(view.trafficConditions())
+                .build();
+    }
+}
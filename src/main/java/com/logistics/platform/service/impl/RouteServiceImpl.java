@@ -1,20 +1,36 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.TravelMatrixDTO;
+import com.logistics.platform.domain.TravelMatrixRequestDTO;
 import com.logistics.platform.entity.RouteEntity;
 import com.logistics.platform.entity.VehicleEntity;
 import com.logistics.platform.exception.RouteNotFoundException;
 import com.logistics.platform.exception.VehicleNotFoundException;
+import com.logistics.platform.export.NdjsonExporter;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.RouteRepository;
 import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.RouteView;
+import com.logistics.platform.routing.RoutePlanner;
+import com.logistics.platform.routing.TravelMatrix;
 import com.logistics.platform.service.RouteService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,15 +39,45 @@ public class RouteServiceImpl implements RouteService {
 
     private final RouteRepository routeRepository;
     private final VehicleRepository vehicleRepository;
+    private final RoutePlanner routePlanner;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
     public List<RouteDTO> findAllRoutes() {
-        return routeRepository.findAll().stream()
+        return routeRepository.findAllViews().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<RouteDTO> findRoutesPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<RouteView> rows = after == null
+                ? routeRepository.findViewsOrderByIdAsc(window)
+                : routeRepository.findViewsByIdGreaterThan(after, window);
+        return CursorPagination.toPage(rows, limit, RouteView::id, this::mapToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllRoutes(Consumer<RouteDTO> sink) {
+        try (Stream<RouteEntity> rows = routeRepository.streamAll()) {
+            Iterator<RouteEntity> iterator = rows.iterator();
+            int streamed = 0;
+            while (iterator.hasNext()) {
+                sink.accept(mapToDTO(iterator.next()));
+                if (++streamed % NdjsonExporter.CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Transactional
     public RouteDTO createRoute(RouteDTO routeDTO) {
@@ -42,7 +88,7 @@ public class RouteServiceImpl implements RouteService {
                 .vehicle(vehicle)
                 .origin(routeDTO.getOrigin())
                 .destination(routeDTO.getDestination())
-                .estimatedTime(routeDTO.getEstimatedTime())
+                .estimatedTime(estimatedTime(routeDTO))
                 .trafficConditions(routeDTO.getTrafficConditions())
                 .build();
 
@@ -61,7 +107,7 @@ public class RouteServiceImpl implements RouteService {
     @Override
     @Transactional(readOnly = true)
     public List<RouteDTO> findRoutesByVehicle(UUID vehicleId) {
-        return routeRepository.findByVehicleId(vehicleId).stream()
+        return routeRepository.findViewsByVehicleId(vehicleId).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -75,7 +121,7 @@ public class RouteServiceImpl implements RouteService {
         route = route.toBuilder()
                 .origin(updatedRoute.getOrigin())
                 .destination(updatedRoute.getDestination())
-                .estimatedTime(updatedRoute.getEstimatedTime())
+                .estimatedTime(estimatedTime(updatedRoute))
                 .trafficConditions(updatedRoute.getTrafficConditions())
                 .build();
 
@@ -92,6 +138,36 @@ public class RouteServiceImpl implements RouteService {
         routeRepository.deleteById(id);
     }
 
+    /**
+     * Pure computation over the road graph, so no connection is held while it runs.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TravelMatrixDTO travelMatrix(TravelMatrixRequestDTO request) {
+        routePlanner.checkMatrixSize(request.getSources().size(), request.getTargets().size());
+        TravelMatrix matrix = routePlanner.matrix(request.getSources(), request.getTargets());
+        return TravelMatrixDTO.builder()
+                .sources(matrix.sources())
+                .targets(matrix.targets())
+                .durations(Arrays.stream(matrix.seconds())
+                        .mapToObj(seconds -> Double.isInfinite(seconds) ? null : (long) Math.ceil(seconds))
+                        .toList())
+                .distances(Arrays.stream(matrix.meters())
+                        .mapToObj(meters -> Double.isNaN(meters) ? null : Math.round(meters))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Computed travel time in whole seconds when the route's ends can be placed on the road graph, otherwise
+     * the value the client sent.
+     */
+    private String estimatedTime(RouteDTO route) {
+        return routePlanner.estimate(route.getOrigin(), route.getDestination())
+                .map(duration -> String.valueOf(duration.toSeconds()))
+                .orElse(route.getEstimatedTime());
+    }
+
     private RouteDTO mapToDTO(RouteEntity route) {
         return RouteDTO.builder()
                 .id(route.getId())
@@ -102,4 +178,15 @@ public class RouteServiceImpl implements RouteService {
                 .trafficConditions(route.getTrafficConditions())
                 .build();
     }
+
+    private RouteDTO mapToDTO(RouteView view) {
+        return RouteDTO.builder()
+                .id(view.id())
+                .vehicleId(view.vehicleId())
+                .origin(view.origin())
+                .destination(view.destination())
+                .estimatedTime(view.estimatedTime())
+                .trafficConditions(view.trafficConditions())
+                .build();
+    }
 }
@@ -1,18 +1,26 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.UserDTO;
 import com.logistics.platform.domain.enums.Role;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.exception.UserNotFoundException;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.security.role.PrincipalCache;
 import com.logistics.platform.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,6 +32,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public List<UserDTO> findAllUsers() {
@@ -32,6 +41,17 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<UserDTO> findUsersPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<UserEntity> rows = after == null
+                ? userRepository.findAllByOrderByIdAsc(window)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(after, window);
+        return CursorPagination.toPage(rows, limit, UserEntity::getId, this::mapToDTO);
+    }
+
     @Override
     @Transactional
     public UserDTO createUser(UserDTO userDTO, String password) {
@@ -58,31 +78,41 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     @Transactional
     public UserDTO updateUser(UUID id, UserDTO userDTO, String password) {
 
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
+        boolean credentialsChanged = password != null
+                || !Objects.equals(user.getEmail(), userDTO.getEmail())
+                || user.getRole() != Role.USER;
+
         user = user.toBuilder()
                 .username(userDTO.getUsername())
-                .password(password != null ? passwordEncoder.encode(password) : passwordEncoder.encode(user.getPassword()))
+                .password(password != null ? passwordEncoder.encode(password) : user.getPassword())
                 .email(userDTO.getEmail())
                 .role(Role.USER)
                 .createdAt(LocalDateTime.now())
                  .build();
 
         UserEntity updatedUser = userRepository.save(user);
+        if (credentialsChanged) {
+            principalCache.revoke(id);
+        }
         return mapToDTO(updatedUser);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     @Transactional
     public void deleteUser(UUID id) {
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException("User not found with id: " + id);
         }
         userRepository.deleteById(id);
+        principalCache.revoke(id);
     }
 
     @Override
@@ -92,6 +122,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#email")
     @Transactional(readOnly = true)
     public UserDTO findByEmail(String email) {
         Optional<UserEntity> userOpt = Optional.ofNullable(userRepository.findByEmail(email));
@@ -1,19 +1,42 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.domain.NearbyVehicleDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.TrackDTO;
+import com.logistics.platform.domain.TrackPointDTO;
 import com.logistics.platform.domain.VehicleDTO;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.entity.VehicleEntity;
+import com.logistics.platform.exception.InvalidCoordinatesException;
+import com.logistics.platform.exception.StalePositionException;
 import com.logistics.platform.exception.UserNotFoundException;
 import com.logistics.platform.exception.VehicleNotFoundException;
+import com.logistics.platform.geo.GeoPoint;
+import com.logistics.platform.geo.VehicleLocationIndex;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.VehicleView;
 import com.logistics.platform.service.VehicleService;
+import com.logistics.platform.telemetry.PositionHistory;
+import com.logistics.platform.telemetry.VehiclePing;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,26 +46,43 @@ public class VehicleServiceImpl implements VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final VehicleLocationIndex locationIndex;
+    private final PositionHistory positionHistory;
 
     @Override
     @Transactional(readOnly = true)
     public List<VehicleDTO> findAllVehicles() {
-        return vehicleRepository.findAll().stream()
+        return vehicleRepository.findAllViews().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<VehicleDTO> findVehiclesPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<VehicleView> rows = after == null
+                ? vehicleRepository.findViewsOrderByIdAsc(window)
+                : vehicleRepository.findViewsByIdGreaterThan(after, window);
+        return CursorPagination.toPage(rows, limit, VehicleView::id, this::mapToDTO);
+    }
+
     @Override
     @Transactional
     public VehicleDTO createVehicle(VehicleDTO vehicleDTO) {
+        GeoPoint point = GeoPoint.resolve(vehicleDTO.getLatitude(), vehicleDTO.getLongitude(), vehicleDTO.getCurrentLocation());
         VehicleEntity vehicle = VehicleEntity.builder()
                 .type(vehicleDTO.getType())
                 .licensePlate(vehicleDTO.getLicensePlate())
                 .capacity(vehicleDTO.getCapacity())
                 .currentLocation(vehicleDTO.getCurrentLocation())
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
                 .build();
 
         VehicleEntity savedVehicle = vehicleRepository.save(vehicle);
+        reindexAfterCommit(savedVehicle);
         return mapToDTO(savedVehicle);
     }
 
@@ -55,6 +95,7 @@ public class VehicleServiceImpl implements VehicleService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.VEHICLES, key = "#plate")
     @Transactional(readOnly = true)
     public VehicleDTO findVehicleByLicensePlate(String plate) {
         VehicleEntity vehicle = vehicleRepository.findByLicensePlate(plate)
@@ -63,6 +104,7 @@ public class VehicleServiceImpl implements VehicleService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLES, allEntries = true)
     @Transactional
     public VehicleDTO assignDriver(UUID vehicleId, UUID driverId) {
         VehicleEntity vehicle = vehicleRepository.findById(vehicleId)
@@ -80,29 +122,129 @@ public class VehicleServiceImpl implements VehicleService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLES, allEntries = true)
     @Transactional
     public VehicleDTO updateVehicle(UUID id, VehicleDTO updatedVehicle) {
         VehicleEntity vehicle = vehicleRepository.findById(id)
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with id: " + id));
 
-        vehicle = vehicle.toBuilder()
+        VehicleEntity.VehicleEntityBuilder builder = vehicle.toBuilder()
                 .type(updatedVehicle.getType())
                 .licensePlate(updatedVehicle.getLicensePlate())
-                .capacity(updatedVehicle.getCapacity())
-                .currentLocation(updatedVehicle.getCurrentLocation())
-                .build();
+                .capacity(updatedVehicle.getCapacity());
+        if (movesVehicle(vehicle, updatedVehicle)) {
+            GeoPoint point = GeoPoint.resolve(updatedVehicle.getLatitude(), updatedVehicle.getLongitude(), updatedVehicle.getCurrentLocation());
+            builder.currentLocation(updatedVehicle.getCurrentLocation())
+                    .latitude(point != null ? point.latitude() : null)
+                    .longitude(point != null ? point.longitude() : null)
+                    .positionRecordedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        }
 
-        VehicleEntity savedVehicle = vehicleRepository.save(vehicle);
+        VehicleEntity savedVehicle = vehicleRepository.save(builder.build());
+        reindexAfterCommit(savedVehicle);
         return mapToDTO(savedVehicle);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.VEHICLES, allEntries = true)
     @Transactional
     public void deleteVehicle(UUID id) {
         if (!vehicleRepository.existsById(id)) {
             throw new VehicleNotFoundException("Vehicle not found with id: " + id);
         }
         vehicleRepository.deleteById(id);
+        afterCommit(() -> locationIndex.remove(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyVehicleDTO> findNearbyVehicles(double latitude, double longitude, double radiusMeters, int limit) {
+        if (GeoPoint.of(latitude, longitude) == null) {
+            throw new InvalidCoordinatesException("Coordinates out of range: " + latitude + "," + longitude);
+        }
+        List<VehicleLocationIndex.Neighbour> neighbours = locationIndex.nearest(latitude, longitude, radiusMeters, limit);
+        if (neighbours.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, VehicleView> views = vehicleRepository.findViewsByIdIn(neighbours.stream().map(VehicleLocationIndex.Neighbour::vehicleId).toList())
+                .stream()
+                .collect(Collectors.toMap(VehicleView::id, Function.identity()));
+        return neighbours.stream()
+                .filter(neighbour -> views.containsKey(neighbour.vehicleId()))
+                .map(neighbour -> NearbyVehicleDTO.builder()
+                        .vehicle(mapToDTO(views.get(neighbour.vehicleId())))
+                        .distanceMeters(Math.round(neighbour.distanceMeters()))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrackDTO findTrack(UUID id, Instant from, Instant to, int limit) {
+        if (!vehicleRepository.existsById(id)) {
+            throw new VehicleNotFoundException("Vehicle not found with id: " + id);
+        }
+        List<VehiclePing> pings = from.isBefore(to) ? positionHistory.findTrack(id, from, to, limit + 1) : List.of();
+        boolean hasMore = pings.size() > limit;
+        return TrackDTO.builder()
+                .vehicleId(id)
+                .points(pings.stream().limit(limit)
+                        .map(ping -> TrackPointDTO.builder()
+                                .recordedAt(Instant.ofEpochMilli(ping.recordedAt()))
+                                .latitude(ping.latitude())
+                                .longitude(ping.longitude())
+                                .build())
+                        .toList())
+                .nextFrom(hasMore ? Instant.ofEpochMilli(pings.get(limit).recordedAt()) : null)
+                .build();
+    }
+
+    /**
+     * Whether an update replaces the stored position, which includes clearing it. Once the stored position carries a
+     * recording time, a move must echo a {@code positionRecordedAt} no earlier than it; a client working from a copy
+     * read before the latest telemetry or edit gets a conflict instead of moving the vehicle back.
+     */
+    private static boolean movesVehicle(VehicleEntity vehicle, VehicleDTO update) {
+        if (Objects.equals(update.getLatitude(), vehicle.getLatitude()) && Objects.equals(update.getLongitude(), vehicle.getLongitude())
+                && Objects.equals(update.getCurrentLocation(), vehicle.getCurrentLocation())) {
+            return false;
+        }
+        Instant recordedAt = vehicle.getPositionRecordedAt();
+        if (recordedAt != null && (update.getPositionRecordedAt() == null || update.getPositionRecordedAt().isBefore(recordedAt))) {
+            throw new StalePositionException("Vehicle " + vehicle.getId() + " was moved at " + recordedAt
+                    + "; reload it and send its positionRecordedAt with the new position");
+        }
+        return true;
+    }
+
+    /**
+     * Moves the vehicle in the location index once the write is committed, so a rolled back update never shows up
+     * in nearby searches.
+     */
+    private void reindexAfterCommit(VehicleEntity vehicle) {
+        UUID id = vehicle.getId();
+        Double latitude = vehicle.getLatitude();
+        Double longitude = vehicle.getLongitude();
+        afterCommit(() -> {
+            if (latitude != null && longitude != null) {
+                locationIndex.put(id, latitude, longitude);
+            } else {
+                locationIndex.remove(id);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private VehicleDTO mapToDTO(VehicleEntity vehicle) {
@@ -113,6 +255,23 @@ public class VehicleServiceImpl implements VehicleService {
                 .licensePlate(vehicle.getLicensePlate())
                 .capacity(vehicle.getCapacity())
                 .currentLocation(vehicle.getCurrentLocation())
+                .latitude(vehicle.getLatitude())
+                .longitude(vehicle.getLongitude())
+                .positionRecordedAt(vehicle.getPositionRecordedAt())
+                .build();
+    }
+
+    private VehicleDTO mapToDTO(VehicleView view) {
+        return VehicleDTO.builder()
+                .id(view.id())
+                .driverId(view.driverId())
+                .type(view.type())
+                .licensePlate(view.licensePlate())
+                .capacity(view.capacity())
+                .currentLocation(view.currentLocation())
+                .latitude(view.latitude())
+                .longitude(view.longitude())
+                .positionRecordedAt(view.positionRecordedAt())
                 .build();
     }
 }
@@ -1,14 +1,23 @@
 package com.logistics.platform.service.impl;
 
+import com.logistics.platform.capacity.WarehouseCapacity;
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.WarehouseDTO;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.entity.WarehouseEntity;
 import com.logistics.platform.exception.UserNotFoundException;
 import com.logistics.platform.exception.WarehouseNotFoundException;
+import com.logistics.platform.geo.GeoPoint;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.repository.WarehouseRepository;
+import com.logistics.platform.repository.projection.WarehouseView;
 import com.logistics.platform.service.WarehouseService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,23 +32,38 @@ public class WarehouseServiceImpl implements WarehouseService {
 
     private final WarehouseRepository warehouseRepository;
     private final UserRepository userRepository;
+    private final WarehouseCapacity warehouseCapacity;
 
     @Override
     @Transactional(readOnly = true)
     public List<WarehouseDTO> findAllWarehouses() {
-        return warehouseRepository.findAll().stream()
+        return warehouseRepository.findAllViews().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<WarehouseDTO> findWarehousesPage(String cursor, int limit) {
+        UUID after = CursorPagination.decode(cursor);
+        Limit window = Limit.of(limit + 1);
+        List<WarehouseView> rows = after == null
+                ? warehouseRepository.findViewsOrderByIdAsc(window)
+                : warehouseRepository.findViewsByIdGreaterThan(after, window);
+        return CursorPagination.toPage(rows, limit, WarehouseView::id, this::mapToDTO);
+    }
+
     @Override
     @Transactional
     public WarehouseDTO createWarehouse(WarehouseDTO warehouseDTO) {
         UserEntity manager = userRepository.findById(warehouseDTO.getManagerId())
                 .orElseThrow(() -> new UserNotFoundException("Manager not found with id: " + warehouseDTO.getManagerId()));
 
+        GeoPoint point = GeoPoint.resolve(warehouseDTO.getLatitude(), warehouseDTO.getLongitude(), warehouseDTO.getLocation());
         WarehouseEntity warehouse = WarehouseEntity.builder()
                 .location(warehouseDTO.getLocation())
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
                 .capacity(warehouseDTO.getCapacity())
                 .availableSpace(warehouseDTO.getAvailableSpace())
                 .manager(manager)
@@ -58,6 +82,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.WAREHOUSES, key = "#location")
     @Transactional(readOnly = true)
     public WarehouseDTO findWarehouseByLocation(String location) {
         WarehouseEntity warehouse = warehouseRepository.findByLocation(location)
@@ -66,22 +91,29 @@ public class WarehouseServiceImpl implements WarehouseService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.WAREHOUSES, allEntries = true)
     @Transactional
     public WarehouseDTO updateWarehouse(UUID id, WarehouseDTO updatedWarehouse) {
         WarehouseEntity warehouse = warehouseRepository.findById(id)
                 .orElseThrow(() -> new WarehouseNotFoundException("Warehouse not found with id: " + id));
 
+        GeoPoint point = GeoPoint.resolve(updatedWarehouse.getLatitude(), updatedWarehouse.getLongitude(), updatedWarehouse.getLocation());
         warehouse = warehouse.toBuilder()
                 .location(updatedWarehouse.getLocation())
+                .latitude(point != null ? point.latitude() : null)
+                .longitude(point != null ? point.longitude() : null)
                 .capacity(updatedWarehouse.getCapacity())
                 .availableSpace(updatedWarehouse.getAvailableSpace())
+                .version(updatedWarehouse.getVersion() != null ? updatedWarehouse.getVersion() : warehouse.getVersion())
                 .build();
 
-        WarehouseEntity savedWarehouse = warehouseRepository.save(warehouse);
+        WarehouseEntity savedWarehouse = warehouseRepository.saveAndFlush(warehouse);
+        warehouseCapacity.discard(id);
         return mapToDTO(savedWarehouse);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.WAREHOUSES, allEntries = true)
     @Transactional
     public void deleteWarehouse(UUID id) {
         if (!warehouseRepository.existsById(id)) {
@@ -90,13 +122,43 @@ public class WarehouseServiceImpl implements WarehouseService {
         warehouseRepository.deleteById(id);
     }
 
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.WAREHOUSES, allEntries = true)
+    @Transactional
+    public void reserveSpace(UUID id, int amount) {
+        warehouseCapacity.reserve(id, amount);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.WAREHOUSES, allEntries = true)
+    @Transactional
+    public void releaseSpace(UUID id, int amount) {
+        warehouseCapacity.release(id, amount);
+    }
+
     private WarehouseDTO mapToDTO(WarehouseEntity warehouse) {
         return WarehouseDTO.builder()
                 .id(warehouse.getId())
                 .location(warehouse.getLocation())
+                .latitude(warehouse.getLatitude())
+                .longitude(warehouse.getLongitude())
                 .capacity(warehouse.getCapacity())
                 .availableSpace(warehouse.getAvailableSpace())
                 .managerId(warehouse.getManager() != null ? warehouse.getManager().getId() : null)
+                .version(warehouse.getVersion())
+                .build();
+    }
+
+    private WarehouseDTO mapToDTO(WarehouseView view) {
+        return WarehouseDTO.builder()
+                .id(view.id())
+                .location(view.location())
+                .latitude(view.latitude())
+                .longitude(view.longitude())
+                .capacity(view.capacity())
+                .availableSpace(view.availableSpace())
+                .managerId(view.managerId())
+                .version(view.version())
                 .build();
     }
 }
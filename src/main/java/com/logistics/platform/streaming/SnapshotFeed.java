@@ -0,0 +1,71 @@
+package com.logistics.platform.streaming;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Turns a point-in-time lookup into a stream of changes for dashboards.
+ * <p>
+ * Every watched key is polled by a single shared subscription no matter how many clients follow it, and only
+ * snapshots that differ from the previous one are emitted. The poll stops when the last client disconnects
+ * or when the row disappears. A client that cannot keep up skips straight to the latest snapshot.
+ */
+@Component
+public class SnapshotFeed {
+
+    @Value("${streaming.poll-interval:2s}")
+    private Duration pollInterval;
+
+    @Value("${streaming.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    private final Map<String, Flux<?>> feeds = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> watch(String key, Supplier<Mono<T>> snapshot) {
+        Flux<T> feed = (Flux<T>) feeds.computeIfAbsent(key, k -> poll(k, snapshot));
+        return feed.onBackpressureLatest();
+    }
+
+    /**
+     * The shared poll of one key. It only unregisters itself, since by the time it ends a client may already
+     * have started the next poll of the same key.
+     */
+    private <T> Flux<T> poll(String key, Supplier<Mono<T>> snapshot) {
+        AtomicReference<Flux<T>> self = new AtomicReference<>();
+        Flux<T> feed = Flux.interval(Duration.ZERO, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> snapshot.get().map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .takeWhile(Optional::isPresent)
+                .map(Optional::get)
+                .distinctUntilChanged()
+                .doFinally(signal -> feeds.remove(key, self.get()))
+                .replay(1)
+                .refCount();
+        self.set(feed);
+        return feed;
+    }
+
+    /**
+     * Wraps updates as server-sent events, with a comment line every heartbeat interval so idle proxies keep
+     * the connection open and dead clients are noticed on the next write.
+     */
+    public <T> Flux<ServerSentEvent<T>> asEvents(String event, Flux<T> updates) {
+        return updates.publish(shared -> Flux.merge(
+                shared.map(update -> ServerSentEvent.builder(update).event(event).build()),
+                Flux.interval(heartbeatInterval)
+                        .onBackpressureDrop()
+                        .map(tick -> ServerSentEvent.<T>builder().comment("heartbeat").build())
+                        .takeUntilOther(shared.then())));
+    }
+}
@@ -0,0 +1,119 @@
+package com.logistics.platform.telemetry;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only store of every position ping in {@code vehicle_positions}.
+ * <p>
+ * On PostgreSQL, where the table is partitioned by day, a flush is loaded with one {@code COPY}; elsewhere
+ * with batched inserts. Rows are four columns without a surrogate key, so a ping costs a few dozen bytes
+ * plus its index entry. Partitions, downsampling and retention are handled by
+ * {@link PositionHistoryMaintenance}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PositionHistory {
+
+    static final String TABLE = "vehicle_positions";
+
+    private static final String SELECT_TRACK = "select recorded_at, latitude, longitude from " + TABLE
+            + " where vehicle_id = ? and recorded_at >= ? and recorded_at < ? order by recorded_at limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    @Value("${history.retention:90d}")
+    private Duration retention;
+
+    private volatile Boolean partitioned;
+
+    /**
+     * Whether the table is the partitioned PostgreSQL layout.
+     */
+    boolean partitioned() {
+        Boolean known = partitioned;
+        if (known == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                known = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException e) {
+                known = false;
+            }
+            partitioned = known;
+        }
+        return known;
+    }
+
+    /**
+     * First day (UTC) still kept; anything recorded before it is dropped.
+     */
+    LocalDate oldestKept() {
+        return LocalDate.now(ZoneOffset.UTC).minusDays(retention.toDays());
+    }
+
+    /**
+     * Stores {@code pings}, skipping those already past retention.
+     */
+    public void append(List<VehiclePing> pings) {
+        long horizon = oldestKept().atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        pings = pings.stream().filter(ping -> ping.recordedAt() >= horizon).toList();
+        if (pings.isEmpty()) {
+            return;
+        }
+        if (!partitioned()) {
+            jdbcTemplate.batchUpdate("insert into " + TABLE + " (vehicle_id, recorded_at, latitude, longitude) values (?, ?, ?, ?)",
+                    pings, pings.size(), (statement, ping) -> {
+                        statement.setObject(1, ping.vehicleId());
+                        statement.setTimestamp(2, new Timestamp(ping.recordedAt()));
+                        statement.setDouble(3, ping.latitude());
+                        statement.setDouble(4, ping.longitude());
+                    });
+            return;
+        }
+        StringBuilder csv = new StringBuilder(pings.size() * 80);
+        for (VehiclePing ping : pings) {
+            csv.append(ping.vehicleId()).append(',')
+                    .append(Instant.ofEpochMilli(ping.recordedAt())).append(',')
+                    .append(ping.latitude()).append(',')
+                    .append(ping.longitude()).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "copy " + TABLE + " (vehicle_id, recorded_at, latitude, longitude) from stdin with (format csv)",
+                        new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Positions of {@code vehicleId} recorded in {@code [from, to)}, oldest first, at most {@code limit}.
+     */
+    public List<VehiclePing> findTrack(UUID vehicleId, Instant from, Instant to, int limit) {
+        return jdbcTemplate.query(SELECT_TRACK,
+                (row, index) -> new VehiclePing(vehicleId, row.getDouble(2), row.getDouble(3), row.getTimestamp(1).getTime()),
+                vehicleId, Timestamp.from(from), Timestamp.from(to), limit);
+    }
+}
@@ -0,0 +1,187 @@
+package com.logistics.platform.telemetry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps {@code vehicle_positions} bounded.
+ * <p>
+ * Every {@code history.maintenance-interval}:
+ * <ul>
+ *     <li>on PostgreSQL, day partitions (UTC) exist from the retention horizon to {@value #DAYS_AHEAD} days
+ *     ahead, so inserts never miss one;</li>
+ *     <li>data older than {@code history.retention} goes, by dropping whole partitions where the table is
+ *     partitioned;</li>
+ *     <li>each day older than {@code history.downsample.after} is thinned once to the newest position per
+ *     vehicle and {@code history.downsample.interval}. A partition is rewritten into a fresh table and swapped
+ *     in rather than deleted from, so it leaves no dead rows behind. Finished days are recorded in
+ *     {@code vehicle_position_days}.</li>
+ * </ul>
+ * On PostgreSQL every step takes a transaction-scoped advisory lock, so when several instances run only one
+ * of them does the work.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PositionHistoryMaintenance {
+
+    private static final int DAYS_AHEAD = 2;
+    private static final long ADVISORY_LOCK = 0x5750_4f53L;
+    private static final String PARTITION_PREFIX = PositionHistory.TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final PositionHistory positionHistory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${history.downsample.after:7d}")
+    private Duration downsampleAfter;
+
+    @Value("${history.downsample.interval:1m}")
+    private Duration downsampleInterval;
+
+    @Scheduled(fixedDelayString = "${history.maintenance-interval:1h}")
+    public void maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate oldestKept = positionHistory.oldestKept();
+        try {
+            if (positionHistory.partitioned()) {
+                locked(() -> createPartitions(oldestKept, today.plusDays(DAYS_AHEAD)));
+            }
+            locked(() -> expire(oldestKept));
+            downsample(oldestKept, today.minusDays(downsampleAfter.toDays()));
+        } catch (RuntimeException e) {
+            log.warn("Position history maintenance failed", e);
+        }
+    }
+
+    private void createPartitions(LocalDate from, LocalDate to) {
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            jdbcTemplate.execute("create table if not exists " + partition(day) + " partition of " + PositionHistory.TABLE
+                    + " for values from ('" + day + " 00:00:00+00') to ('" + day.plusDays(1) + " 00:00:00+00')");
+        }
+    }
+
+    private void expire(LocalDate oldestKept) {
+        if (positionHistory.partitioned()) {
+            List<String> partitions = jdbcTemplate.queryForList("select c.relname from pg_inherits i "
+                    + "join pg_class c on c.oid = i.inhrelid where i.inhparent = '" + PositionHistory.TABLE + "'::regclass", String.class);
+            for (String partition : partitions) {
+                LocalDate day = partitionDay(partition);
+                if (day != null && day.isBefore(oldestKept)) {
+                    jdbcTemplate.execute("drop table if exists " + partition);
+                    log.info("Dropped position history partition {}", partition);
+                }
+            }
+        } else {
+            jdbcTemplate.update("delete from " + PositionHistory.TABLE + " where recorded_at < ?", start(oldestKept));
+        }
+        jdbcTemplate.update("delete from vehicle_position_days where partition_day < ?", Date.valueOf(oldestKept));
+    }
+
+    /**
+     * Thins every day in {@code [oldestKept, before)} that has not been thinned yet.
+     */
+    private void downsample(LocalDate oldestKept, LocalDate before) {
+        if (!oldestKept.isBefore(before)) {
+            return;
+        }
+        Set<LocalDate> done = new HashSet<>(jdbcTemplate.queryForList("select partition_day from vehicle_position_days where partition_day >= ?",
+                LocalDate.class, Date.valueOf(oldestKept)));
+        for (LocalDate day = oldestKept; day.isBefore(before); day = day.plusDays(1)) {
+            if (done.contains(day)) {
+                continue;
+            }
+            LocalDate target = day;
+            locked(() -> {
+                if (positionHistory.partitioned()) {
+                    rewritePartition(target);
+                } else {
+                    deleteWithinBuckets(target);
+                }
+                jdbcTemplate.update("insert into vehicle_position_days (partition_day, downsampled_at) values (?, ?)",
+                        Date.valueOf(target), Timestamp.from(Instant.now()));
+            });
+        }
+    }
+
+    private void rewritePartition(LocalDate day) {
+        String partition = partition(day);
+        if (jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, partition) != Boolean.TRUE) {
+            return;
+        }
+        String bucket = "date_bin(interval '" + downsampleInterval.toSeconds() + " seconds', recorded_at, timestamptz '2000-01-01 00:00:00+00')";
+        String thinned = partition + "_thin";
+        jdbcTemplate.execute("create table " + thinned + " (like " + PositionHistory.TABLE + " including defaults)");
+        int kept = jdbcTemplate.update("insert into " + thinned + " (vehicle_id, recorded_at, latitude, longitude) "
+                + "select distinct on (vehicle_id, " + bucket + ") vehicle_id, recorded_at, latitude, longitude from " + partition
+                + " order by vehicle_id, " + bucket + ", recorded_at desc");
+        jdbcTemplate.execute("alter table " + PositionHistory.TABLE + " detach partition " + partition);
+        jdbcTemplate.execute("drop table " + partition);
+        jdbcTemplate.execute("alter table " + thinned + " rename to " + partition);
+        jdbcTemplate.execute("alter table " + PositionHistory.TABLE + " attach partition " + partition
+                + " for values from ('" + day + " 00:00:00+00') to ('" + day.plusDays(1) + " 00:00:00+00')");
+        log.info("Downsampled position history of {} to {} rows", day, kept);
+    }
+
+    private void deleteWithinBuckets(LocalDate day) {
+        Timestamp from = start(day);
+        Timestamp to = start(day.plusDays(1));
+        long seconds = downsampleInterval.toSeconds();
+        int deleted = jdbcTemplate.update("delete from " + PositionHistory.TABLE
+                + " where recorded_at >= ? and recorded_at < ? and (vehicle_id, recorded_at) not in ("
+                + "select vehicle_id, max(recorded_at) from " + PositionHistory.TABLE
+                + " where recorded_at >= ? and recorded_at < ?"
+                + " group by vehicle_id, floor(extract(epoch from recorded_at) / ?))", from, to, from, to, seconds);
+        log.info("Downsampled position history of {}, removing {} rows", day, deleted);
+    }
+
+    /**
+     * Runs {@code step} in a transaction, skipping it while another instance holds the maintenance lock.
+     */
+    private void locked(Runnable step) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (positionHistory.partitioned()
+                    && jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK) != Boolean.TRUE) {
+                return;
+            }
+            step.run();
+        });
+    }
+
+    private static String partition(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_DAY.format(day);
+    }
+
+    private static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_DAY);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Timestamp start(LocalDate day) {
+        return Timestamp.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
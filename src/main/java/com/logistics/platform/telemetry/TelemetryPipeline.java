@@ -0,0 +1,169 @@
+package com.logistics.platform.telemetry;
+
+import com.logistics.platform.domain.TelemetryAckDTO;
+import com.logistics.platform.domain.TelemetryPingDTO;
+import com.logistics.platform.exception.TelemetryOverloadedException;
+import com.logistics.platform.geo.GeoPoint;
+import com.logistics.platform.geo.VehicleLocationIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Takes vehicle position pings off the request thread and writes positions in periodic batches.
+ * <p>
+ * Accepted pings go into a {@link TelemetryRing} of {@code telemetry.buffer-size} slots, so receiving a batch
+ * costs one compare-and-set plus the copies and never waits on the database. Every
+ * {@code telemetry.flush-interval} the ring is drained, pings are coalesced to the newest one per vehicle, and
+ * the survivors are written by the {@link TelemetryStore} in one transaction and moved in the
+ * {@link VehicleLocationIndex}. However often a truck reports, it costs at most one row update per flush. Every
+ * drained ping is also appended to the {@link PositionHistory}. When the ring is full a batch is refused as a
+ * whole and the sender should retry.
+ * <p>
+ * Pings recorded more than {@code telemetry.max-clock-skew} ahead, or on a UTC day that
+ * {@link PositionHistoryMaintenance} already thins ({@code history.downsample.after}), are rejected as invalid, so
+ * a backdated ping never lands in a day that has been downsampled for good.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelemetryPipeline {
+
+    private final TelemetryStore telemetryStore;
+    private final VehicleLocationIndex locationIndex;
+    private final PositionHistory positionHistory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${telemetry.buffer-size:131072}")
+    private int bufferSize;
+
+    @Value("${telemetry.max-clock-skew:1m}")
+    private Duration maxClockSkew;
+
+    @Value("${history.downsample.after:7d}")
+    private Duration downsampleAfter;
+
+    private final Lock flushLock = new ReentrantLock();
+    private TelemetryRing ring;
+    private Counter accepted;
+    private Counter invalid;
+    private Counter overloaded;
+    private Counter written;
+
+    @PostConstruct
+    void start() {
+        ring = new TelemetryRing(bufferSize);
+        Gauge.builder("telemetry.buffer.pending", ring, TelemetryRing::pending)
+                .description("Pings waiting for the next flush")
+                .register(meterRegistry);
+        accepted = Counter.builder("telemetry.pings.accepted").register(meterRegistry);
+        invalid = Counter.builder("telemetry.pings.rejected").tag("reason", "invalid").register(meterRegistry);
+        overloaded = Counter.builder("telemetry.pings.rejected").tag("reason", "overloaded").register(meterRegistry);
+        written = Counter.builder("telemetry.positions.written")
+                .description("Vehicle rows updated by telemetry flushes")
+                .register(meterRegistry);
+        log.info("Telemetry buffer holds {} pings", ring.capacity());
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    /**
+     * Queues the valid pings of {@code pings}; invalid ones are counted and dropped.
+     *
+     * @throws TelemetryOverloadedException when the buffer has no room for the batch
+     */
+    public TelemetryAckDTO accept(List<TelemetryPingDTO> pings) {
+        long now = System.currentTimeMillis();
+        long latest = now + maxClockSkew.toMillis();
+        long earliest = LocalDate.now(ZoneOffset.UTC).minusDays(downsampleAfter.toDays())
+                .atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        List<VehiclePing> valid = new ArrayList<>(pings.size());
+        for (TelemetryPingDTO ping : pings) {
+            long recordedAt = ping.getRecordedAt() == null ? now : ping.getRecordedAt().toEpochMilli();
+            if (ping.getVehicleId() == null || ping.getLatitude() == null || ping.getLongitude() == null
+                    || GeoPoint.of(ping.getLatitude(), ping.getLongitude()) == null || recordedAt > latest || recordedAt < earliest) {
+                continue;
+            }
+            valid.add(new VehiclePing(ping.getVehicleId(), ping.getLatitude(), ping.getLongitude(), recordedAt));
+        }
+        int rejected = pings.size() - valid.size();
+        invalid.increment(rejected);
+        if (!valid.isEmpty() && !ring.offer(valid)) {
+            overloaded.increment(valid.size());
+            throw new TelemetryOverloadedException("Telemetry buffer is full, retry the batch later");
+        }
+        accepted.increment(valid.size());
+        return TelemetryAckDTO.builder()
+                .accepted(valid.size())
+                .rejected(rejected)
+                .build();
+    }
+
+    /**
+     * Writes the newest queued position of every vehicle that reported since the last flush, and appends all
+     * queued pings to the history.
+     */
+    @Scheduled(fixedDelayString = "${telemetry.flush-interval:1s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<VehiclePing> drained = new ArrayList<>(ring.pending());
+            Map<UUID, VehiclePing> newest = new HashMap<>();
+            ring.drain((vehicleId, latitude, longitude, recordedAt) -> {
+                VehiclePing ping = new VehiclePing(vehicleId, latitude, longitude, recordedAt);
+                drained.add(ping);
+                VehiclePing known = newest.get(vehicleId);
+                if (known == null || known.recordedAt() <= recordedAt) {
+                    newest.put(vehicleId, ping);
+                }
+            });
+            if (drained.isEmpty()) {
+                return;
+            }
+            writePositions(newest.values());
+            appendHistory(drained);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writePositions(Collection<VehiclePing> positions) {
+        try {
+            List<VehiclePing> applied = telemetryStore.savePositions(positions);
+            applied.forEach(ping -> locationIndex.put(ping.vehicleId(), ping.latitude(), ping.longitude()));
+            written.increment(applied.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not write {} vehicle positions; they are superseded by the next pings", positions.size(), e);
+        }
+    }
+
+    private void appendHistory(List<VehiclePing> pings) {
+        try {
+            positionHistory.append(pings);
+        } catch (RuntimeException e) {
+            log.warn("Could not append {} pings to the position history", pings.size(), e);
+        }
+    }
+}
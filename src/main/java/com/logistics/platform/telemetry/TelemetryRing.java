@@ -0,0 +1,99 @@
+package com.logistics.platform.telemetry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer queue of position pings over primitive arrays.
+ * <p>
+ * Producers claim a contiguous run of sequence numbers with one compare-and-set, fill the slots and mark each
+ * one published by storing its sequence number plus one; nothing is written unless the whole run fits, so a
+ * batch is either queued completely or refused. The consumer reads published slots in sequence order and
+ * only then advances its cursor, which is what frees the slots for the next lap.
+ */
+final class TelemetryRing {
+
+    private final int mask;
+    private final long[] vehicleHigh;
+    private final long[] vehicleLow;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final long[] recordedAt;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    TelemetryRing(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.vehicleHigh = new long[capacity];
+        this.vehicleLow = new long[capacity];
+        this.latitude = new double[capacity];
+        this.longitude = new double[capacity];
+        this.recordedAt = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Pings claimed by producers and not yet drained, including ones still being written.
+     */
+    int pending() {
+        return (int) (claimed.get() - consumed.get());
+    }
+
+    /**
+     * Queues all of {@code pings}, or none of them when they do not fit.
+     */
+    boolean offer(List<VehiclePing> pings) {
+        int count = pings.size();
+        long start;
+        do {
+            start = claimed.get();
+            if (start + count - consumed.get() > capacity()) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(start, start + count));
+
+        for (int i = 0; i < count; i++) {
+            VehiclePing ping = pings.get(i);
+            long sequence = start + i;
+            int slot = (int) (sequence & mask);
+            vehicleHigh[slot] = ping.vehicleId().getMostSignificantBits();
+            vehicleLow[slot] = ping.vehicleId().getLeastSignificantBits();
+            latitude[slot] = ping.latitude();
+            longitude[slot] = ping.longitude();
+            recordedAt[slot] = ping.recordedAt();
+            published.set(slot, sequence + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Hands every published ping to {@code sink} in the order they were claimed. Only one thread may drain.
+     */
+    int drain(Sink sink) {
+        long next = consumed.get();
+        long start = next;
+        while (true) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next + 1) {
+                break;
+            }
+            sink.accept(new UUID(vehicleHigh[slot], vehicleLow[slot]), latitude[slot], longitude[slot], recordedAt[slot]);
+            next++;
+        }
+        consumed.lazySet(next);
+        return (int) (next - start);
+    }
+
+    @FunctionalInterface
+    interface Sink {
+        void accept(UUID vehicleId, double latitude, double longitude, long recordedAt);
+    }
+}
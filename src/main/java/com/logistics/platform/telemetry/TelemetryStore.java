@@ -0,0 +1,93 @@
+package com.logistics.platform.telemetry;
+
+import com.logistics.platform.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the latest position of each vehicle with batched JDBC updates.
+ * <p>
+ * A position only replaces one that was recorded earlier, so a ping that arrives late never moves a vehicle
+ * back. {@code current_location} is rewritten as {@code "lat,lon"} so routing and dispatch see the same place.
+ * Once the positions are committed, the cached plate lookups of the moved vehicles are evicted, so a lookup by
+ * plate is as fresh as one by id.
+ */
+@Component
+@RequiredArgsConstructor
+public class TelemetryStore {
+
+    private static final String UPDATE_POSITION = "update vehicles "
+            + "set latitude = ?, longitude = ?, current_location = ?, position_recorded_at = ? "
+            + "where id = ? and (position_recorded_at is null or position_recorded_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    @Value("${telemetry.flush-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Stores {@code positions} and returns the ones that were applied, leaving out unknown vehicles and
+     * positions older than the stored one.
+     */
+    @Transactional
+    public List<VehiclePing> savePositions(Collection<VehiclePing> positions) {
+        List<VehiclePing> rows = List.copyOf(positions);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_POSITION, rows, batchSize, (statement, ping) -> {
+            Timestamp recordedAt = new Timestamp(ping.recordedAt());
+            statement.setDouble(1, ping.latitude());
+            statement.setDouble(2, ping.longitude());
+            statement.setString(3, String.format(Locale.ROOT, "%.6f,%.6f", ping.latitude(), ping.longitude()));
+            statement.setTimestamp(4, recordedAt);
+            statement.setObject(5, ping.vehicleId());
+            statement.setTimestamp(6, recordedAt);
+        });
+        List<VehiclePing> applied = new ArrayList<>(rows.size());
+        int row = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied.add(rows.get(row));
+                }
+                row++;
+            }
+        }
+        evictPlatesAfterCommit(applied);
+        return applied;
+    }
+
+    private void evictPlatesAfterCommit(List<VehiclePing> applied) {
+        Cache vehicles = cacheManager.getCache(CacheConfig.VEHICLES);
+        if (vehicles == null || applied.isEmpty()) {
+            return;
+        }
+        List<String> plates = new ArrayList<>(applied.size());
+        for (int from = 0; from < applied.size(); from += batchSize) {
+            List<VehiclePing> chunk = applied.subList(from, Math.min(applied.size(), from + batchSize));
+            plates.addAll(jdbcTemplate.queryForList(
+                    "select license_plate from vehicles where id in (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                    String.class, chunk.stream().map(VehiclePing::vehicleId).toArray()));
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                plates.forEach(vehicles::evict);
+            }
+        });
+    }
+}
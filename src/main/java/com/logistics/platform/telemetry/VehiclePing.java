@@ -0,0 +1,9 @@
+package com.logistics.platform.telemetry;
+
+import java.util.UUID;
+
+/**
+ * One reported position of a vehicle; {@code recordedAt} is in epoch milliseconds.
+ */
+public record VehiclePing(UUID vehicleId, double latitude, double longitude, long recordedAt) {
+}
@@ -0,0 +1,149 @@
+package com.logistics.platform.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Appends exported spans to a file in the OTLP JSON encoding, one {@code ExportTraceServiceRequest} per line.
+ * <p>
+ * That is the layout the collector's {@code otlpjsonfile} receiver reads, so a file written without a collector
+ * around can be replayed into one later.
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BufferedWriter writer;
+
+    public FileSpanExporter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            writer.write(objectMapper.writeValueAsString(request(spans)));
+            writer.newLine();
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans", spans.size(), e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private ObjectNode request(Collection<SpanData> spans) {
+        ObjectNode request = objectMapper.createObjectNode();
+        ArrayNode resourceSpans = request.putArray("resourceSpans");
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = spans.stream()
+                .collect(Collectors.groupingBy(SpanData::getResource, LinkedHashMap::new,
+                        Collectors.groupingBy(SpanData::getInstrumentationScopeInfo, LinkedHashMap::new, Collectors.toList())));
+        grouped.forEach((resource, scopes) -> {
+            ObjectNode entry = resourceSpans.addObject();
+            attributes(entry.putObject("resource"), resource.getAttributes());
+            ArrayNode scopeSpans = entry.putArray("scopeSpans");
+            scopes.forEach((scope, scoped) -> {
+                ObjectNode scopeEntry = scopeSpans.addObject();
+                ObjectNode scopeNode = scopeEntry.putObject("scope").put("name", scope.getName());
+                if (scope.getVersion() != null) {
+                    scopeNode.put("version", scope.getVersion());
+                }
+                ArrayNode spanNodes = scopeEntry.putArray("spans");
+                scoped.forEach(span -> span(spanNodes.addObject(), span));
+            });
+        });
+        return request;
+    }
+
+    private void span(ObjectNode node, SpanData span) {
+        node.put("traceId", span.getTraceId());
+        node.put("spanId", span.getSpanId());
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid()) {
+            node.put("parentSpanId", parent.getSpanId());
+        }
+        node.put("name", span.getName());
+        node.put("kind", span.getKind().ordinal() + 1);
+        node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        attributes(node, span.getAttributes());
+        if (!span.getEvents().isEmpty()) {
+            ArrayNode events = node.putArray("events");
+            for (EventData event : span.getEvents()) {
+                ObjectNode eventNode = events.addObject()
+                        .put("timeUnixNano", Long.toString(event.getEpochNanos()))
+                        .put("name", event.getName());
+                attributes(eventNode, event.getAttributes());
+            }
+        }
+        ObjectNode status = node.putObject("status").put("code", span.getStatus().getStatusCode().ordinal());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+    }
+
+    private static void attributes(ObjectNode node, Attributes attributes) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        ArrayNode list = node.putArray("attributes");
+        attributes.forEach((key, value) -> value(list.addObject().put("key", key.getKey()).putObject("value"), key, value));
+    }
+
+    private static void value(ObjectNode node, AttributeKey<?> key, Object value) {
+        switch (key.getType()) {
+            case BOOLEAN -> node.put("boolValue", (Boolean) value);
+            case LONG -> node.put("intValue", value.toString());
+            case DOUBLE -> node.put("doubleValue", (Double) value);
+            case STRING -> node.put("stringValue", (String) value);
+            default -> {
+                ArrayNode values = node.putObject("arrayValue").putArray("values");
+                for (Object item : (List<?>) value) {
+                    values.addObject().put("stringValue", String.valueOf(item));
+                }
+            }
+        }
+    }
+}
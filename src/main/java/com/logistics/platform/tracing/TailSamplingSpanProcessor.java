@@ -0,0 +1,174 @@
+package com.logistics.platform.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds back the spans of a trace until its local root ends, then passes on the whole trace only when it was
+ * slow or failed.
+ * <p>
+ * A trace is kept when the local root took at least {@code latencyThreshold}, or when any of its spans ended with
+ * an error status or a {@code SERVER_ERROR} outcome. Every other trace is dropped before it reaches the
+ * exporters. At most {@code maxPendingTraces} traces of at most {@code maxSpansPerTrace} spans are held. Traces
+ * whose root has not ended within {@code pendingTimeout}, such as long-lived streams or child spans that end after
+ * their root, are discarded by a sweep that runs with the next new trace at most every quarter of the timeout, and
+ * at once when the buffer is full. If nothing has timed out by then, the new trace is discarded instead.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final int maxPendingTraces;
+    private final int maxSpansPerTrace;
+    private final long pendingTimeoutNanos;
+    private final long sweepIntervalNanos;
+
+    private final ConcurrentHashMap<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+    private final Counter kept;
+    private final Counter dropped;
+    private final Counter discarded;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration latencyThreshold, int maxPendingTraces,
+                                     int maxSpansPerTrace, Duration pendingTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.pendingTimeoutNanos = pendingTimeout.toNanos();
+        this.sweepIntervalNanos = pendingTimeoutNanos / 4;
+        this.kept = decisions(meterRegistry, "kept");
+        this.dropped = decisions(meterRegistry, "dropped");
+        this.discarded = decisions(meterRegistry, "discarded");
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("tracing.tail-sampling.traces")
+                .description("Traces by tail sampling decision")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        if (delegate.isStartRequired()) {
+            delegate.onStart(parentContext, span);
+        }
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+        boolean failed = failed(span);
+        if (isLocalRoot(span)) {
+            PendingTrace trace = pending.remove(traceId);
+            List<ReadableSpan> spans = trace == null ? List.of() : trace.spans();
+            if (failed || (trace != null && trace.failed) || span.getLatencyNanos() >= latencyThresholdNanos) {
+                spans.forEach(delegate::onEnd);
+                delegate.onEnd(span);
+                kept.increment();
+            } else {
+                dropped.increment();
+            }
+            return;
+        }
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (!makeRoom()) {
+                discarded.increment();
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+        }
+        trace.add(span, failed, maxSpansPerTrace);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * Whether a new trace can be held, discarding timed out ones when a sweep is due or the buffer is full.
+     */
+    private boolean makeRoom() {
+        long now = System.nanoTime();
+        long due = nextSweep.get();
+        boolean full = pending.size() >= maxPendingTraces;
+        if ((full || now - due >= 0) && nextSweep.compareAndSet(due, now + sweepIntervalNanos)) {
+            long horizon = now - pendingTimeoutNanos;
+            pending.values().removeIf(trace -> {
+                if (trace.startedAt - horizon < 0) {
+                    discarded.increment();
+                    return true;
+                }
+                return false;
+            });
+        }
+        return pending.size() < maxPendingTraces;
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static boolean failed(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR
+                || "SERVER_ERROR".equals(span.getAttribute(OUTCOME));
+    }
+
+    private static final class PendingTrace {
+
+        private final long startedAt;
+        private final List<ReadableSpan> spans = new ArrayList<>();
+        private volatile boolean failed;
+
+        PendingTrace(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        synchronized void add(ReadableSpan span, boolean spanFailed, int maxSpans) {
+            failed |= spanFailed;
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            }
+        }
+
+        synchronized List<ReadableSpan> spans() {
+            return List.copyOf(spans);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.logistics.platform.IT;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.logistics.platform.entity.UserEntity;
+import com.logistics.platform.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AuthenticationControllerIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String email;
+
+    @BeforeEach
+    void setup() {
+        email = "driver-" + UUID.randomUUID() + "@logistics.com";
+        webTestClient.post()
+                .uri("/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", email, "username", "Driver", "password", "securepassword"))
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    void shouldLoginWithValidPassword() {
+        login("securepassword")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isNotEmpty()
+                .jsonPath("$.user.email").isEqualTo(email);
+    }
+
+    @Test
+    void shouldRejectInvalidPassword() {
+        login("wrongpassword")
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void shouldLogFailedLoginWithItsStatus() throws InterruptedException {
+        Logger requests = (Logger) LoggerFactory.getLogger("waypoint.requests");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        requests.addAppender(appender);
+        try {
+            login("wrongpassword")
+                    .expectStatus().isUnauthorized();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (loginLines(appender).isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            List<ILoggingEvent> lines = loginLines(appender);
+            assertEquals(1, lines.size());
+            assertEquals(401, keyValue(lines.get(0), "status"));
+        } finally {
+            requests.detachAppender(appender);
+        }
+    }
+
+    @Test
+    void shouldRehashPasswordOfAnotherCostOnLogin() throws InterruptedException {
+        UserEntity user = userRepository.findByEmail(email);
+        userRepository.save(user.toBuilder().password(new BCryptPasswordEncoder(4).encode("securepassword")).build());
+
+        login("securepassword")
+                .expectStatus().isOk();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String hash = userRepository.findByEmail(email).getPassword();
+        while (!hash.startsWith("$2a$10$") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            hash = userRepository.findByEmail(email).getPassword();
+        }
+        assertTrue(hash.startsWith("$2a$10$"), hash);
+        login("securepassword")
+                .expectStatus().isOk();
+    }
+
+    private static List<ILoggingEvent> loginLines(ListAppender<ILoggingEvent> appender) {
+        synchronized (appender) {
+            return appender.list.stream()
+                    .filter(event -> "/login".equals(keyValue(event, "route")))
+                    .toList();
+        }
+    }
+
+    private static Object keyValue(ILoggingEvent event, String key) {
+        if (event.getKeyValuePairs() == null) {
+            return null;
+        }
+        return event.getKeyValuePairs().stream()
+                .filter(pair -> pair.key.equals(key))
+                .map(pair -> pair.value)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private WebTestClient.ResponseSpec login(String password) {
+        return webTestClient.post()
+                .uri("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", email, "password", password))
+                .exchange();
+    }
+}
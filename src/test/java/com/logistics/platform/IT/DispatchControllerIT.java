@@ -0,0 +1,64 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.DispatchPlanDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class DispatchControllerIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+
+    private String adminToken;
+    private String clientToken;
+    private UUID orderId;
+
+    @BeforeEach
+    void setup() {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        adminToken = testData.adminToken();
+        clientToken = testData.clientToken();
+        orderId = testData.orderId();
+    }
+
+    @Test
+    void shouldKeepUnroutableOrdersPending() {
+        webTestClient.post()
+                .uri("/api/v1/dispatch/plans?timeLimitSeconds=1")
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DispatchPlanDTO.class)
+                .consumeWith(response -> {
+                    DispatchPlanDTO plan = response.getResponseBody();
+                    assertNotNull(plan);
+                    assertEquals(1, plan.getPendingOrders());
+                    assertEquals(0, plan.getAssignedOrders());
+                    assertTrue(plan.getTours().isEmpty());
+                    assertTrue(plan.getUnassignedOrderIds().contains(orderId));
+                });
+    }
+
+    @Test
+    void shouldRejectDispatchForClients() {
+        webTestClient.post()
+                .uri("/api/v1/dispatch/plans")
+                .header("Authorization", "Bearer " + clientToken)
+                .exchange()
+                .expectStatus().is5xxServerError();
+    }
+}
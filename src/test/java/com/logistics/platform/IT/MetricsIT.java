@@ -0,0 +1,70 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.TestDataInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+public class MetricsIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+
+    private String adminToken;
+    private UUID warehouseId;
+
+    @BeforeEach
+    void setup() {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        adminToken = testData.adminToken();
+        warehouseId = testData.warehouseId();
+    }
+
+    @Test
+    void shouldExportLatencyHistogramsWithBoundedTags() {
+        webTestClient.get()
+                .uri("/api/v1/warehouses/{id}", warehouseId)
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk();
+
+        String scrape = webTestClient.mutate()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build()
+                .get()
+                .uri("/actuator/prometheus")
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(scrape);
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/api/v1/warehouses/{id}\""));
+        assertFalse(scrape.contains("uri=\"/api/v1/warehouses/" + warehouseId));
+        assertTrue(scrape.contains("waypoint_service_seconds_bucket{"));
+        assertTrue(scrape.contains("class=\"WarehouseServiceImpl\""));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("jwt_validation_seconds_bucket{"));
+        assertTrue(scrape.contains("hikaricp_connections_active{"));
+        assertTrue(scrape.contains("cache_gets_total{"));
+    }
+}
@@ -2,16 +2,20 @@ package com.logistics.platform.IT;
 
 import com.logistics.platform.config.TestDataInitializer;
 import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.entity.OrderEntity;
 import com.logistics.platform.repository.PackageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -132,6 +136,76 @@ public class OrderControllerIT {
                 .jsonPath("$.message").isEqualTo("Order not found with id: " + nonexistentOrderId);
     }
 
+    @Test
+    void shouldPageThroughOrdersWithCursor() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.post()
+                    .uri("/api/v1/orders")
+                    .header("Authorization", "Bearer " + clientToken)
+                    .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                    .bodyValue(OrderDTO.builder()
+                            .clientId(clientId)
+                            .status("PENDING")
+                            .origin("Warehouse A")
+                            .destination("Client Address " + i)
+                            .build())
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String uri = cursor == null ? "/api/v1/orders?limit=2" : "/api/v1/orders?limit=2&cursor=" + cursor;
+            PageDTO<OrderDTO> page = webTestClient.get()
+                    .uri(uri)
+                    .header("Authorization", "Bearer " + adminToken)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(new ParameterizedTypeReference<PageDTO<OrderDTO>>() {})
+                    .returnResult()
+                    .getResponseBody();
+
+            assertNotNull(page);
+            assertTrue(page.getItems().size() <= 2);
+            page.getItems().forEach(order -> assertTrue(seen.add(order.getId())));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, seen.size());
+        assertEquals(2, pages);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        webTestClient.get()
+                .uri("/api/v1/orders?cursor=not-a-cursor!")
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldExportOrdersAsNdjson() {
+        String body = webTestClient.get()
+                .uri("/api/v1/orders")
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(org.springframework.http.MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(org.springframework.http.MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(body);
+        String[] lines = body.strip().split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains(orderId.toString()));
+    }
+
     @Test
     void shouldDeleteOrder() {
         packageRepository.deleteAll();
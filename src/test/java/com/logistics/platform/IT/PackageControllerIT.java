@@ -12,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +39,40 @@ public class PackageControllerIT {
         adminToken = testData.adminToken();
     }
 
+    @Test
+    void shouldUpsertPackagesInBatch() {
+        PackageDTO newPackage = PackageDTO.builder()
+                .orderId(orderId)
+                .description("Manifest item")
+                .weight(1.0f)
+                .status("PACKED")
+                .build();
+        PackageDTO updatedPackage = newPackage.toBuilder().id(packageId).status("SHIPPED").build();
+        PackageDTO orphanPackage = newPackage.toBuilder().orderId(UUID.randomUUID()).build();
+
+        webTestClient.post()
+                .uri("/api/v1/packages:batch")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(newPackage, newPackage, updatedPackage, orphanPackage))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(2)
+                .jsonPath("$.updated").isEqualTo(1)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results[2].item.status").isEqualTo("SHIPPED")
+                .jsonPath("$.results[3].status").isEqualTo("FAILED");
+
+        webTestClient.get()
+                .uri("/api/v1/packages/order/" + orderId)
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3);
+    }
+
     @Test
     void shouldCreatePackage() {
         PackageDTO newPackageDTO = PackageDTO.builder()
@@ -0,0 +1,160 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.entity.*;
+import com.logistics.platform.repository.*;
+import com.logistics.platform.service.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the list paths against N+1 loads: each call must issue one statement however many rows,
+ * and distinct parents, it returns.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class QueryCountIT {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PackageRepository packageRepository;
+    @Autowired
+    private VehicleRepository vehicleRepository;
+    @Autowired
+    private RouteRepository routeRepository;
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private PackageService packageService;
+    @Autowired
+    private RouteService routeService;
+    @Autowired
+    private VehicleService vehicleService;
+    @Autowired
+    private WarehouseService warehouseService;
+
+    private Statistics statistics;
+    private UUID clientId;
+    private UUID orderId;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setup() {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            users.add(userRepository.save(UserEntity.builder()
+                    .email("user" + i + "@logistics.com")
+                    .password("securepassword")
+                    .username("User" + i)
+                    .role(Role.USER)
+                    .createdAt(LocalDateTime.now())
+                    .build()));
+        }
+        for (UserEntity user : users) {
+            OrderEntity order = orderRepository.save(OrderEntity.builder()
+                    .client(user)
+                    .status("PENDING")
+                    .origin("Warehouse A")
+                    .destination("Client Address")
+                    .build());
+            packageRepository.save(PackageEntity.builder()
+                    .order(order)
+                    .description("Parcel")
+                    .weight(1.0f)
+                    .status("PACKED")
+                    .build());
+            VehicleEntity vehicle = vehicleRepository.save(VehicleEntity.builder()
+                    .type("VAN")
+                    .licensePlate("VAN-" + user.getUsername())
+                    .driver(user)
+                    .build());
+            routeRepository.save(RouteEntity.builder()
+                    .vehicle(vehicle)
+                    .origin("Warehouse A")
+                    .destination("Client Address")
+                    .build());
+            warehouseRepository.save(WarehouseEntity.builder()
+                    .location("Depot " + user.getUsername())
+                    .manager(user)
+                    .build());
+        }
+        clientId = testData.clientId();
+        orderId = testData.orderId();
+        vehicleId = testData.vehicleId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void shouldListOrdersWithOneStatement() {
+        assertSingleStatement(orderService::findAllOrders, ROWS + 1);
+        assertSingleStatement(() -> orderService.findOrdersPage(null, ROWS).getItems(), ROWS);
+        assertSingleStatement(() -> orderService.findOrdersByClient(clientId), 1);
+    }
+
+    @Test
+    void shouldListPackagesWithOneStatement() {
+        assertSingleStatement(packageService::findAllPackages, ROWS + 1);
+        assertSingleStatement(() -> packageService.findPackagesPage(null, ROWS).getItems(), ROWS);
+        assertSingleStatement(() -> packageService.findPackagesByOrder(orderId), 1);
+    }
+
+    @Test
+    void shouldListRoutesWithOneStatement() {
+        assertSingleStatement(routeService::findAllRoutes, ROWS + 1);
+        assertSingleStatement(() -> routeService.findRoutesPage(null, ROWS).getItems(), ROWS);
+        assertSingleStatement(() -> routeService.findRoutesByVehicle(vehicleId), 1);
+    }
+
+    @Test
+    void shouldListVehiclesAndWarehousesWithOneStatement() {
+        assertSingleStatement(vehicleService::findAllVehicles, ROWS + 1);
+        assertSingleStatement(() -> vehicleService.findVehiclesPage(null, ROWS).getItems(), ROWS);
+        assertSingleStatement(warehouseService::findAllWarehouses, ROWS + 1);
+        assertSingleStatement(() -> warehouseService.findWarehousesPage(null, ROWS).getItems(), ROWS);
+    }
+
+    @Test
+    void shouldExportOrdersWithOneStatement() {
+        List<Object> exported = new ArrayList<>();
+        assertSingleStatement(() -> {
+            orderService.streamAllOrders(exported::add);
+            return exported;
+        }, ROWS + 1);
+    }
+
+    private void assertSingleStatement(Supplier<List<?>> call, int expectedRows) {
+        statistics.clear();
+        List<?> rows = call.get();
+        assertEquals(expectedRows, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount(), "statements issued for " + expectedRows + " rows");
+    }
+}
@@ -0,0 +1,85 @@
+package com.logistics.platform.IT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the repository lookups are planned against the lookup indexes instead of a table scan.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class QueryPlanIT {
+
+    private static final String ID = "'" + UUID.randomUUID() + "'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS warehouses_unindexed");
+    }
+
+    @Test
+    void shouldUseIndexForOrdersByClient() {
+        assertUsesIndex("SELECT * FROM orders WHERE client_id = " + ID, "idx_orders_client_id");
+    }
+
+    @Test
+    void shouldUseIndexForOrdersByStatusAndTime() {
+        assertUsesIndex(
+                "SELECT * FROM orders WHERE status = 'PENDING' AND estimated_delivery_time < CURRENT_TIMESTAMP",
+                "idx_orders_status_estimated_delivery");
+    }
+
+    @Test
+    void shouldUseIndexForPackagesByOrderAndStatus() {
+        assertUsesIndex(
+                "SELECT * FROM packages WHERE order_id = " + ID + " AND status = 'IN_TRANSIT'",
+                "idx_packages_order_id_status");
+    }
+
+    @Test
+    void shouldUseIndexForRoutesByVehicle() {
+        assertUsesIndex("SELECT * FROM routes WHERE vehicle_id = " + ID, "idx_routes_vehicle_id");
+    }
+
+    @Test
+    void shouldUseIndexForVehiclesByDriver() {
+        assertUsesIndex("SELECT * FROM vehicles WHERE driver_id = " + ID, "idx_vehicles_driver_id");
+    }
+
+    @Test
+    void shouldUseIndexForWarehousesByManager() {
+        assertUsesIndex("SELECT * FROM warehouses WHERE manager_id = " + ID, "idx_warehouses_manager_id");
+    }
+
+    @Test
+    void shouldScanWithoutLocationIndexAndSeekWithIt() {
+        jdbcTemplate.execute("CREATE TABLE warehouses_unindexed AS SELECT * FROM warehouses WITH NO DATA");
+
+        String unindexed = explain("SELECT * FROM warehouses_unindexed WHERE location = 'Central'");
+        assertTrue(unindexed.contains("tableScan"), unindexed);
+
+        assertUsesIndex("SELECT * FROM warehouses WHERE location = 'Central'", "idx_warehouses_location");
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        assertTrue(plan.toLowerCase().contains(index), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.CacheConfig;
+import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.VehicleDTO;
+import com.logistics.platform.service.UserService;
+import com.logistics.platform.service.VehicleService;
+import com.logistics.platform.service.WarehouseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class ReferenceDataCacheIT {
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+    @Autowired
+    private VehicleService vehicleService;
+    @Autowired
+    private WarehouseService warehouseService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setup() {
+        vehicleId = dataInitializer.initTestData().vehicleId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void shouldServeRepeatedNaturalKeyLookupsFromCache() {
+        vehicleService.findVehicleByLicensePlate("LOG-123");
+        warehouseService.findWarehouseByLocation("Main Distribution Center");
+        userService.findByEmail("client@logistics.com");
+
+        statistics.clear();
+        double hitsBefore = hits(CacheConfig.VEHICLES);
+        vehicleService.findVehicleByLicensePlate("LOG-123");
+        warehouseService.findWarehouseByLocation("Main Distribution Center");
+        userService.findByEmail("client@logistics.com");
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hitsBefore + 1, hits(CacheConfig.VEHICLES));
+        assertTrue(hits(CacheConfig.WAREHOUSES) >= 1);
+        assertTrue(hits(CacheConfig.USERS) >= 1);
+    }
+
+    @Test
+    void shouldEvictOnUpdate() {
+        VehicleDTO vehicle = vehicleService.findVehicleByLicensePlate("LOG-123");
+
+        vehicleService.updateVehicle(vehicleId, vehicle.toBuilder().currentLocation("Depot B").build());
+
+        assertEquals("Depot B", vehicleService.findVehicleByLicensePlate("LOG-123").getCurrentLocation());
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit")
+                .functionCounter().count();
+    }
+}
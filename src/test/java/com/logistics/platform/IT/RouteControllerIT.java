@@ -2,6 +2,7 @@ package com.logistics.platform.IT;
 
 import com.logistics.platform.config.TestDataInitializer;
 import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.TravelMatrixRequestDTO;
 import com.logistics.platform.entity.RouteEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -135,6 +137,45 @@ public class RouteControllerIT {
                 });
     }
 
+    @Test
+    void shouldReturnEmptyMatrixCellsWithoutRoadGraph() {
+        TravelMatrixRequestDTO request = TravelMatrixRequestDTO.builder()
+                .sources(List.of("52.5200,13.4050", "52.5163,13.3777"))
+                .targets(List.of("52.5070,13.3900"))
+                .build();
+
+        webTestClient.post()
+                .uri("/api/v1/routes/matrix")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.sources").isEqualTo(2)
+                .jsonPath("$.targets").isEqualTo(1)
+                .jsonPath("$.durations.length()").isEqualTo(2)
+                .jsonPath("$.durations[0]").doesNotExist();
+    }
+
+    @Test
+    void shouldRejectMatrixWithoutTargets() {
+        TravelMatrixRequestDTO request = TravelMatrixRequestDTO.builder()
+                .sources(List.of("52.5200,13.4050"))
+                .targets(List.of())
+                .build();
+
+        webTestClient.post()
+                .uri("/api/v1/routes/matrix")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("At least one target must be provided");
+    }
+
     @Test
     void shouldDeleteRoute() {
         webTestClient.delete()
@@ -0,0 +1,132 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.RouteDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class StreamControllerIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+
+    private String adminToken;
+    private String clientToken;
+    private UUID orderId;
+    private UUID clientId;
+    private UUID packageId;
+    private UUID routeId;
+
+    @BeforeEach
+    void setup() {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        adminToken = testData.adminToken();
+        clientToken = testData.clientToken();
+        orderId = testData.orderId();
+        clientId = testData.clientId();
+        packageId = testData.packageId();
+        routeId = testData.routeId();
+    }
+
+    @Test
+    void shouldStreamOrdersAsNdjson() {
+        List<OrderDTO> orders = webTestClient.get()
+                .uri("/api/v2/orders")
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(OrderDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertNotNull(orders);
+        assertEquals(1, orders.size());
+        assertEquals(orderId, orders.get(0).getId());
+        assertEquals(clientId, orders.get(0).getClientId());
+    }
+
+    @Test
+    void shouldResumeOrderStreamAfterLastSeenId() {
+        webTestClient.get()
+                .uri("/api/v2/orders?after={id}", orderId)
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(OrderDTO.class)
+                .getResponseBody()
+                .collectList()
+                .doOnNext(orders -> assertTrue(orders.isEmpty()))
+                .block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldFailToStreamAllOrdersWithoutAdminRights() {
+        webTestClient.get()
+                .uri("/api/v2/orders")
+                .header("Authorization", "Bearer " + clientToken)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().is4xxClientError();
+    }
+
+    @Test
+    void shouldGetPackageById() {
+        webTestClient.get()
+                .uri("/api/v2/packages/{id}", packageId)
+                .header("Authorization", "Bearer " + clientToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PackageDTO.class)
+                .consumeWith(response -> assertEquals(orderId, response.getResponseBody().getOrderId()));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownRoute() {
+        webTestClient.get()
+                .uri("/api/v2/routes/{id}", UUID.randomUUID())
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldSendCurrentRouteAsFirstEvent() {
+        ServerSentEvent<RouteDTO> event = webTestClient.get()
+                .uri("/api/v2/routes/{id}/events", routeId)
+                .header("Authorization", "Bearer " + adminToken)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<RouteDTO>>() {})
+                .getResponseBody()
+                .blockFirst(Duration.ofSeconds(10));
+
+        assertNotNull(event);
+        assertEquals("route", event.event());
+        assertEquals(routeId, event.data().getId());
+    }
+}
@@ -0,0 +1,188 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.TelemetryAckDTO;
+import com.logistics.platform.domain.TelemetryPingDTO;
+import com.logistics.platform.domain.TrackDTO;
+import com.logistics.platform.domain.TrackPointDTO;
+import com.logistics.platform.domain.VehicleDTO;
+import com.logistics.platform.service.VehicleService;
+import com.logistics.platform.telemetry.PositionHistory;
+import com.logistics.platform.telemetry.PositionHistoryMaintenance;
+import com.logistics.platform.telemetry.TelemetryPipeline;
+import com.logistics.platform.telemetry.VehiclePing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TelemetryControllerIT {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+
+    @Autowired
+    private TelemetryPipeline telemetryPipeline;
+
+    @Autowired
+    private PositionHistory positionHistory;
+
+    @Autowired
+    private PositionHistoryMaintenance maintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    private String adminToken;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setup() {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        adminToken = testData.adminToken();
+        vehicleId = testData.vehicleId();
+    }
+
+    @Test
+    void shouldStoreNewestReportedPosition() {
+        Instant now = Instant.now();
+        report(List.of(
+                ping(52.50, 13.40, now.minusSeconds(30)),
+                ping(52.52, 13.405, now.minusSeconds(1))));
+        telemetryPipeline.flush();
+        report(List.of(ping(52.40, 13.30, now.minusSeconds(60))));
+        telemetryPipeline.flush();
+
+        webTestClient.get()
+                .uri("/api/v1/vehicles/" + vehicleId)
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(VehicleDTO.class)
+                .consumeWith(response -> {
+                    VehicleDTO vehicle = response.getResponseBody();
+                    assertNotNull(vehicle);
+                    assertEquals(52.52, vehicle.getLatitude());
+                    assertEquals(13.405, vehicle.getLongitude());
+                    assertEquals("52.520000,13.405000", vehicle.getCurrentLocation());
+                });
+    }
+
+    @Test
+    void shouldRefreshCachedPlateLookupAfterFlush() {
+        String plate = vehicleService.findVehicleById(vehicleId).getLicensePlate();
+        vehicleService.findVehicleByLicensePlate(plate);
+
+        report(List.of(ping(48.8566, 2.3522, Instant.now())));
+        telemetryPipeline.flush();
+
+        VehicleDTO vehicle = vehicleService.findVehicleByLicensePlate(plate);
+        assertEquals(48.8566, vehicle.getLatitude());
+        assertEquals(2.3522, vehicle.getLongitude());
+    }
+
+    @Test
+    void shouldPageThroughReportedTrack() {
+        Instant start = Instant.now().minusSeconds(600).truncatedTo(ChronoUnit.MILLIS);
+        report(List.of(ping(52.50, 13.40, start), ping(52.51, 13.41, start.plusSeconds(10)), ping(52.52, 13.42, start.plusSeconds(20))));
+        telemetryPipeline.flush();
+
+        TrackDTO first = track(start, 2);
+        assertEquals(2, first.getPoints().size());
+        assertEquals(52.50, first.getPoints().get(0).getLatitude());
+        assertNotNull(first.getNextFrom());
+
+        TrackDTO second = track(first.getNextFrom(), 2);
+        assertEquals(1, second.getPoints().size());
+        assertEquals(52.52, second.getPoints().get(0).getLatitude());
+        assertNull(second.getNextFrom());
+    }
+
+    @Test
+    void shouldDownsampleOldHistory() {
+        Instant day = LocalDate.now(ZoneOffset.UTC).minusDays(10).atStartOfDay(ZoneOffset.UTC).toInstant();
+        positionHistory.append(List.of(
+                new VehiclePing(vehicleId, 52.50, 13.40, day.plusSeconds(3600).toEpochMilli()),
+                new VehiclePing(vehicleId, 52.51, 13.41, day.plusSeconds(3620).toEpochMilli()),
+                new VehiclePing(vehicleId, 52.52, 13.42, day.plusSeconds(3640).toEpochMilli()),
+                new VehiclePing(vehicleId, 52.53, 13.43, day.plusSeconds(3670).toEpochMilli())));
+        jdbcTemplate.update("delete from vehicle_position_days");
+
+        maintenance.maintain();
+
+        TrackDTO track = track(day, 10);
+        assertEquals(List.of(52.52, 52.53), track.getPoints().stream().map(TrackPointDTO::getLatitude).toList());
+    }
+
+    @Test
+    void shouldCountInvalidPingsAsRejected() {
+        webTestClient.post()
+                .uri("/api/v1/telemetry/pings")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(ping(52.5, 13.4, null), ping(123.0, 13.4, null)))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(TelemetryAckDTO.class)
+                .consumeWith(response -> {
+                    TelemetryAckDTO ack = response.getResponseBody();
+                    assertNotNull(ack);
+                    assertEquals(1, ack.getAccepted());
+                    assertEquals(1, ack.getRejected());
+                });
+    }
+
+    private TrackDTO track(Instant from, int limit) {
+        return webTestClient.get()
+                .uri(uri -> uri.path("/api/v1/vehicles/" + vehicleId + "/track")
+                        .queryParam("from", from.toString())
+                        .queryParam("limit", limit)
+                        .build())
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TrackDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private void report(List<TelemetryPingDTO> pings) {
+        webTestClient.post()
+                .uri("/api/v1/telemetry/pings")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(pings)
+                .exchange()
+                .expectStatus().isAccepted();
+    }
+
+    private TelemetryPingDTO ping(double latitude, double longitude, Instant recordedAt) {
+        return TelemetryPingDTO.builder()
+                .vehicleId(vehicleId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
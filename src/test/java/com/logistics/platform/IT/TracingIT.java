@@ -0,0 +1,104 @@
+package com.logistics.platform.IT;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.platform.config.TestDataInitializer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tracing.export.file=target/traces/tracing-it.jsonl",
+        "tracing.tail-sampling.latency-threshold=0ms"
+})
+@AutoConfigureObservability(metrics = false)
+public class TracingIT {
+
+    private static final Path TRACES = Path.of("target/traces/tracing-it.jsonl");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TestDataInitializer dataInitializer;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String adminToken;
+    private UUID orderId;
+
+    @BeforeEach
+    void setup() throws IOException {
+        TestDataInitializer.TestData testData = dataInitializer.initTestData();
+        adminToken = testData.adminToken();
+        orderId = testData.orderId();
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        Files.write(TRACES, new byte[0]);
+    }
+
+    @Test
+    void shouldExportFilterServiceAndSqlSpansOfPropagatedTrace() throws Exception {
+        String traceId = UUID.randomUUID().toString().replace("-", "");
+
+        webTestClient.get()
+                .uri("/api/v1/orders/{id}", orderId)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("traceparent", "00-" + traceId + "-00f067aa0ba902b7-01")
+                .exchange()
+                .expectStatus().isOk();
+
+        List<String> names = spanNames(traceId);
+        assertTrue(names.contains("jwt authentication"), names.toString());
+        assertTrue(names.contains("order-service-impl.find-order-by-id"), names.toString());
+        assertTrue(names.contains("query"), names.toString());
+        assertTrue(names.stream().anyMatch(name -> name.startsWith("http get")), names.toString());
+    }
+
+    /**
+     * Names of the exported spans of the trace, waiting for its server span, which ends after the response is sent.
+     */
+    private List<String> spanNames(String traceId) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<String> names;
+        do {
+            Thread.sleep(50);
+            tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+            names = spans().stream()
+                    .filter(span -> traceId.equals(span.get("traceId").asText()))
+                    .map(span -> span.get("name").asText())
+                    .toList();
+        } while (names.stream().noneMatch(name -> name.startsWith("http get")) && System.nanoTime() < deadline);
+        return names;
+    }
+
+    private List<JsonNode> spans() throws IOException {
+        List<JsonNode> spans = new ArrayList<>();
+        for (String line : Files.readAllLines(TRACES)) {
+            for (JsonNode resource : objectMapper.readTree(line).get("resourceSpans")) {
+                for (JsonNode scope : resource.get("scopeSpans")) {
+                    scope.get("spans").forEach(spans::add);
+                }
+            }
+        }
+        return spans;
+    }
+}
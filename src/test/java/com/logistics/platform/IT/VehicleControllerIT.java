@@ -1,6 +1,7 @@
 package com.logistics.platform.IT;
 
 import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.NearbyVehicleDTO;
 import com.logistics.platform.domain.VehicleDTO;
 import com.logistics.platform.entity.VehicleEntity;
 import com.logistics.platform.repository.RouteRepository;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +66,81 @@ public class VehicleControllerIT {
                 });
     }
 
+    @Test
+    void shouldFindVehicleNearItsCoordinates() {
+        VehicleDTO newVehicle = VehicleDTO.builder()
+                .type("VAN")
+                .licensePlate("GEO-001")
+                .capacity(1500.0f)
+                .currentLocation("-33.8688, 151.2093")
+                .build();
+
+        UUID createdId = webTestClient.post()
+                .uri("/api/v1/vehicles")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .bodyValue(newVehicle)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(VehicleDTO.class)
+                .returnResult()
+                .getResponseBody()
+                .getId();
+
+        webTestClient.get()
+                .uri("/api/v1/vehicles/nearby?lat=-33.87&lon=151.21&radius=2000&k=5")
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(NearbyVehicleDTO.class)
+                .consumeWith(response -> {
+                    List<NearbyVehicleDTO> nearby = response.getResponseBody();
+                    assertNotNull(nearby);
+                    assertEquals(1, nearby.size());
+                    assertEquals(createdId, nearby.get(0).getVehicle().getId());
+                    assertEquals(-33.8688, nearby.get(0).getVehicle().getLatitude());
+                    assertTrue(nearby.get(0).getDistanceMeters() < 200);
+                });
+    }
+
+    @Test
+    void shouldRejectMoveFromCopyWithoutCurrentRecordedAt() {
+        VehicleDTO original = webTestClient.get()
+                .uri("/api/v1/vehicles/{id}", vehicleId)
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(VehicleDTO.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(original);
+
+        VehicleDTO moved = putVehicle(original.toBuilder().currentLocation("52.52, 13.405").build())
+                .expectStatus().isOk()
+                .expectBody(VehicleDTO.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(moved);
+        assertNotNull(moved.getPositionRecordedAt());
+
+        putVehicle(original.toBuilder().currentLocation("48.8566, 2.3522").build())
+                .expectStatus().isEqualTo(409);
+
+        putVehicle(moved.toBuilder().currentLocation("48.8566, 2.3522").latitude(null).longitude(null).build())
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.latitude").isEqualTo(48.8566);
+    }
+
+    @Test
+    void shouldRejectNearbySearchOutsideValidCoordinates() {
+        webTestClient.get()
+                .uri("/api/v1/vehicles/nearby?lat=95&lon=13.4")
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void shouldFailToCreateVehicleWithoutLicensePlate() {
         VehicleEntity invalidVehicle = VehicleEntity.builder()
@@ -127,4 +204,13 @@ public class VehicleControllerIT {
                 .exchange()
                 .expectStatus().isNoContent();
     }
+
+    private WebTestClient.ResponseSpec putVehicle(VehicleDTO vehicle) {
+        return webTestClient.put()
+                .uri("/api/v1/vehicles/{id}", vehicleId)
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
+                .bodyValue(vehicle)
+                .exchange();
+    }
 }
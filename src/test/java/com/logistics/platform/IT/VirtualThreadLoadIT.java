@@ -0,0 +1,194 @@
+package com.logistics.platform.IT;
+
+import com.logistics.platform.WayPointApplication;
+import com.logistics.platform.config.TestDataInitializer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the same workload against the app on platform threads and on virtual threads and reports throughput
+ * and latency percentiles for both.
+ * <p>
+ * Opt-in: {@code mvn test -Dtest=VirtualThreadLoadIT -Dloadtest=true}. The {@code slow-query} scenario holds a
+ * pooled connection for {@code loadtest.db-latency-ms} to stand in for a Postgres round trip, which is where a
+ * bounded Tomcat pool saturates. Results are printed and written to
+ * {@code target/loadtest/virtual-threads.json}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class VirtualThreadLoadIT {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.tomcat-threads", 50);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 200);
+    private static final long DB_LATENCY_MS = Long.getLong("loadtest.db-latency-ms", 20);
+
+    private static final List<String> SCENARIOS = List.of(
+            "/api/v1/orders?limit=50",
+            "/loadtest/slow-query?millis=" + DB_LATENCY_MS);
+
+    @Test
+    void shouldCompareVirtualAndPlatformThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            results.addAll(run(virtual));
+        }
+
+        StringBuilder json = new StringBuilder("[\n");
+        System.out.printf("%n%-9s %-40s %10s %9s %9s %9s %7s%n", "threads", "scenario", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-9s %-40s %10.0f %9.2f %9.2f %9.2f %7d%n", result.threads, result.scenario,
+                    result.throughput, result.p50, result.p99, result.max, result.errors);
+            json.append(String.format(Locale.ROOT,
+                    "  {\"threads\":\"%s\",\"scenario\":\"%s\",\"requestsPerSecond\":%.1f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f,\"errors\":%d},%n",
+                    result.threads, result.scenario, result.throughput, result.p50, result.p99, result.max, result.errors));
+        }
+        json.setLength(json.length() - 2);
+        json.append("\n]\n");
+        Path report = Path.of("target", "loadtest", "virtual-threads.json");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, json);
+
+        results.forEach(result -> assertEquals(0, result.errors, result.threads + " " + result.scenario));
+    }
+
+    private List<Result> run(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(WayPointApplication.class, SlowQueryController.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--logging.level.root=WARN",
+                        "--logging.level.waypoint.requests=WARN",
+                        "--spring.jpa.show-sql=false")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String token = context.getBean(TestDataInitializer.class).initTestData().adminToken();
+            context.getBean(JdbcTemplate.class).execute(
+                    "CREATE ALIAS IF NOT EXISTS SLEEP_MS FOR \"" + VirtualThreadLoadIT.class.getName() + ".sleep\"");
+
+            List<Result> results = new ArrayList<>();
+            for (String scenario : SCENARIOS) {
+                URI uri = URI.create("http://localhost:" + port + scenario);
+                drive(uri, token, WARMUP);
+                results.add(Result.of(mode, scenario, drive(uri, token, DURATION), DURATION));
+            }
+            return results;
+        }
+    }
+
+    private static Samples drive(URI uri, String token, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            long[][] perWorker = new long[CONCURRENCY][];
+            for (int i = 0; i < CONCURRENCY; i++) {
+                perWorker[i] = futures.get(i).get();
+            }
+            return new Samples(Arrays.stream(perWorker).flatMapToLong(Arrays::stream).sorted().toArray(), errors.get());
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Bound as the {@code SLEEP_MS} SQL function so the statement, and its connection, stay busy.
+     */
+    public static int sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return 1;
+    }
+
+    private record Samples(long[] latencies, long errors) {
+    }
+
+    private record Result(String threads, String scenario, double throughput, double p50, double p99, double max, long errors) {
+        static Result of(String threads, String scenario, Samples samples, Duration duration) {
+            long[] sorted = samples.latencies();
+            return new Result(threads, scenario,
+                    sorted.length / (duration.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+                    samples.errors());
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+
+    @RestController
+    @RequiredArgsConstructor
+    public static class SlowQueryController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        @GetMapping("/loadtest/slow-query")
+        public Integer slowQuery(@RequestParam long millis) {
+            return jdbcTemplate.queryForObject("SELECT SLEEP_MS(?)", Integer.class, millis);
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.logistics.platform.IT;
 
 import com.logistics.platform.config.TestDataInitializer;
+import com.logistics.platform.domain.ReservationDTO;
 import com.logistics.platform.domain.WarehouseDTO;
+import com.logistics.platform.domain.enums.ReservationType;
 import com.logistics.platform.entity.WarehouseEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -102,6 +109,37 @@ public class WarehouseControllerIT {
                 });
     }
 
+    @Test
+    void shouldApplyConcurrentReservationsWithoutLosingAny() {
+        UUID id = createWarehouse(100, 100).getId();
+
+        List<CompletableFuture<Void>> reservations = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> reserve(id, ReservationType.RESERVE, 3).expectStatus().isNoContent()))
+                .toList();
+        reservations.forEach(CompletableFuture::join);
+        reserve(id, ReservationType.RELEASE, 10).expectStatus().isNoContent();
+
+        assertEquals(50, getWarehouse(id).getAvailableSpace());
+        reserve(id, ReservationType.RESERVE, 51).expectStatus().isEqualTo(HttpStatus.CONFLICT);
+        reserve(id, ReservationType.RELEASE, 51).expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void shouldRejectUpdateBasedOnStaleVersion() {
+        WarehouseDTO read = createWarehouse(100, 100);
+        reserve(read.getId(), ReservationType.RESERVE, 10).expectStatus().isNoContent();
+
+        webTestClient.put()
+                .uri("/api/v1/warehouses/{id}", read.getId())
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(read.toBuilder().availableSpace(80).build())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        assertEquals(90, getWarehouse(read.getId()).getAvailableSpace());
+    }
+
     @Test
     void shouldDeleteWarehouse() {
         webTestClient.delete()
@@ -110,4 +148,42 @@ public class WarehouseControllerIT {
                 .exchange()
                 .expectStatus().isNoContent();
     }
+
+    private WarehouseDTO createWarehouse(int capacity, int availableSpace) {
+        return webTestClient.post()
+                .uri("/api/v1/warehouses")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(WarehouseDTO.builder()
+                        .managerId(managerId)
+                        .location("Dock " + UUID.randomUUID())
+                        .capacity(capacity)
+                        .availableSpace(availableSpace)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(WarehouseDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private WarehouseDTO getWarehouse(UUID id) {
+        return webTestClient.get()
+                .uri("/api/v1/warehouses/{id}", id)
+                .header("Authorization", "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(WarehouseDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private WebTestClient.ResponseSpec reserve(UUID id, ReservationType type, int amount) {
+        return webTestClient.post()
+                .uri("/api/v1/warehouses/{id}/reservations", id)
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ReservationDTO.builder().type(type).amount(amount).build())
+                .exchange();
+    }
 }
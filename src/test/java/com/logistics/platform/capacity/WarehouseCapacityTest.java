@@ -0,0 +1,148 @@
+package com.logistics.platform.capacity;
+
+import com.logistics.platform.exception.InsufficientCapacityException;
+import com.logistics.platform.exception.WarehouseNotFoundException;
+import com.logistics.platform.repository.WarehouseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WarehouseCapacityTest {
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private WarehouseCapacity warehouseCapacity;
+    private UUID warehouseId, hotWarehouseId;
+
+    @BeforeEach
+    void setUp() {
+        warehouseId = UUID.randomUUID();
+        hotWarehouseId = UUID.randomUUID();
+        warehouseCapacity = new WarehouseCapacity(warehouseRepository, transactionTemplate);
+        ReflectionTestUtils.setField(warehouseCapacity, "hotIds", Set.of(hotWarehouseId));
+        ReflectionTestUtils.setField(warehouseCapacity, "allotmentSize", 100);
+    }
+
+    @Test
+    void testReserveUpdatesRowOnce() {
+        when(warehouseRepository.reserveSpace(warehouseId, 5)).thenReturn(1);
+
+        warehouseCapacity.reserve(warehouseId, 5);
+
+        verify(warehouseRepository).reserveSpace(warehouseId, 5);
+        verifyNoMoreInteractions(warehouseRepository);
+    }
+
+    @Test
+    void testReserveWithoutFreeSpaceIsRejected() {
+        when(warehouseRepository.reserveSpace(warehouseId, 5)).thenReturn(0);
+        when(warehouseRepository.existsById(warehouseId)).thenReturn(true);
+
+        assertThrows(InsufficientCapacityException.class, () -> warehouseCapacity.reserve(warehouseId, 5));
+    }
+
+    @Test
+    void testReserveOnUnknownWarehouseIsNotFound() {
+        when(warehouseRepository.reserveSpace(warehouseId, 5)).thenReturn(0);
+        when(warehouseRepository.existsById(warehouseId)).thenReturn(false);
+
+        assertThrows(WarehouseNotFoundException.class, () -> warehouseCapacity.reserve(warehouseId, 5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHotWarehouseServesReservationsFromAllotment() {
+        when(warehouseRepository.reserveSpace(hotWarehouseId, 100)).thenReturn(1);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        for (int i = 0; i < 10; i++) {
+            warehouseCapacity.reserve(hotWarehouseId, 7);
+        }
+        warehouseCapacity.reconcile();
+
+        verify(warehouseRepository, times(1)).reserveSpace(hotWarehouseId, 100);
+        verify(warehouseRepository).returnSpace(hotWarehouseId, 30);
+    }
+
+    @Test
+    void testHotWarehouseFallsBackToExactReservationWhenLowOnSpace() {
+        when(warehouseRepository.reserveSpace(hotWarehouseId, 100)).thenReturn(0);
+        when(warehouseRepository.reserveSpace(hotWarehouseId, 7)).thenReturn(1);
+
+        warehouseCapacity.reserve(hotWarehouseId, 7);
+        warehouseCapacity.reconcile();
+
+        verify(warehouseRepository, never()).returnSpace(any(), anyInt());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void testReleaseBeyondCapacityIsRejected() {
+        when(warehouseRepository.releaseSpace(warehouseId, 5)).thenReturn(0);
+        when(warehouseRepository.existsById(warehouseId)).thenReturn(true);
+
+        assertThrows(InsufficientCapacityException.class, () -> warehouseCapacity.release(warehouseId, 5));
+    }
+
+    @Test
+    void testOverReleaseWhileChunkIsHeldIsRejected() {
+        when(warehouseRepository.reserveSpace(hotWarehouseId, 100)).thenReturn(1);
+        when(warehouseRepository.releaseSpace(hotWarehouseId, 50)).thenReturn(0);
+        when(warehouseRepository.existsById(hotWarehouseId)).thenReturn(true);
+
+        warehouseCapacity.reserve(hotWarehouseId, 7);
+
+        assertThrows(InsufficientCapacityException.class, () -> warehouseCapacity.release(hotWarehouseId, 50));
+        InOrder order = inOrder(warehouseRepository);
+        order.verify(warehouseRepository).returnSpace(hotWarehouseId, 93);
+        order.verify(warehouseRepository).releaseSpace(hotWarehouseId, 50);
+
+        warehouseCapacity.reconcile();
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void testRolledBackReleaseKeepsChunk() {
+        when(warehouseRepository.reserveSpace(hotWarehouseId, 100)).thenReturn(1);
+        when(warehouseRepository.releaseSpace(hotWarehouseId, 50)).thenReturn(0);
+        when(warehouseRepository.existsById(hotWarehouseId)).thenReturn(true);
+        warehouseCapacity.reserve(hotWarehouseId, 7);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThrows(InsufficientCapacityException.class, () -> warehouseCapacity.release(hotWarehouseId, 50));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        when(warehouseRepository.releaseSpace(hotWarehouseId, 5)).thenReturn(1);
+        warehouseCapacity.release(hotWarehouseId, 5);
+        verify(warehouseRepository, times(2)).returnSpace(hotWarehouseId, 93);
+    }
+}
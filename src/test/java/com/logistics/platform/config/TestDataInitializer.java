@@ -5,6 +5,7 @@ import com.logistics.platform.entity.*;
 import com.logistics.platform.repository.*;
 import com.logistics.platform.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -21,6 +22,7 @@ public class TestDataInitializer {
     private final PackageRepository packageRepository;
     private final WarehouseRepository warehouseRepository;
     private final RouteRepository routeRepository;
+    private final CacheManager cacheManager;
 
     public TestData initTestData() {
         packageRepository.deleteAll();
@@ -29,6 +31,7 @@ public class TestDataInitializer {
         orderRepository.deleteAll();
         warehouseRepository.deleteAll();
         userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
 
         UserEntity adminUser = userRepository.save(UserEntity.builder()
                 .email("admin@logistics.com")
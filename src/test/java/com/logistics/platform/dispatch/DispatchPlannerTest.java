@@ -0,0 +1,131 @@
+package com.logistics.platform.dispatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.logistics.platform.domain.DispatchPlanDTO;
+import com.logistics.platform.exception.BatchTooLargeException;
+import com.logistics.platform.repository.OrderRepository;
+import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.OrderLoadView;
+import com.logistics.platform.repository.projection.OrderView;
+import com.logistics.platform.repository.projection.VehicleView;
+import com.logistics.platform.routing.RoutePlanner;
+import com.logistics.platform.routing.TravelMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+public class DispatchPlannerTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private PackageRepository packageRepository;
+    @Mock
+    private VehicleRepository vehicleRepository;
+    @Mock
+    private RoutePlanner routePlanner;
+    @Mock
+    private DispatchStore dispatchStore;
+
+    private DispatchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new DispatchPlanner(orderRepository, packageRepository, vehicleRepository, routePlanner, dispatchStore);
+        ReflectionTestUtils.setField(planner, "defaultTimeLimit", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(planner, "maxTimeLimit", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(planner, "serviceTime", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(planner, "maxStops", 100);
+        ReflectionTestUtils.setField(planner, "maxMatrixCells", 1000L);
+        ReflectionTestUtils.setField(planner, "solverThreads", 1);
+        planner.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        planner.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPlanWritesToursAndReportsUnreachableOrders() {
+        UUID vehicleId = UUID.randomUUID();
+        OrderView near = order("52.01,13.01");
+        OrderView far = order("52.02,13.02");
+        OrderView offRoad = order("Somewhere");
+        when(orderRepository.findViewsByStatus("PENDING")).thenReturn(List.of(far, near, offRoad));
+        when(vehicleRepository.findAllViews()).thenReturn(List.of(
+                new VehicleView(vehicleId, null, "VAN", "VAN-1", 10f, "52.0,13.0", 52.0, 13.0, null),
+                new VehicleView(UUID.randomUUID(), null, "VAN", "VAN-2", 10f, null, null, null, null)));
+        when(packageRepository.sumWeightsByOrderStatus("PENDING")).thenReturn(List.of(
+                new OrderLoadView(near.id(), 4.0), new OrderLoadView(far.id(), 3.0)));
+        when(routePlanner.travelTimes(List.of("52.0,13.0", "52.02,13.02", "52.01,13.01", "Somewhere"),
+                List.of("52.02,13.02", "52.01,13.01", "Somewhere")))
+                .thenReturn(new TravelMatrix(4, 3, new double[]{
+                        300, 100, INF,
+                        0, 100, INF,
+                        100, 0, INF,
+                        INF, INF, 0}, null));
+        List<UUID> routeIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(dispatchStore.save(any(), anySet())).thenReturn(List.of(routeIds));
+
+        DispatchPlanDTO plan = planner.plan(null);
+
+        assertEquals(3, plan.getPendingOrders());
+        assertEquals(2, plan.getAssignedOrders());
+        assertEquals(200, plan.getTravelSeconds());
+        assertEquals(List.of(offRoad.id()), plan.getUnassignedOrderIds());
+        assertEquals(List.of(near.id(), far.id()), plan.getTours().get(0).getOrderIds());
+        assertEquals(routeIds, plan.getTours().get(0).getRouteIds());
+        assertEquals(7.0, plan.getTours().get(0).getLoad());
+
+        ArgumentCaptor<List<DispatchStore.Tour>> tours = ArgumentCaptor.forClass(List.class);
+        verify(dispatchStore).save(tours.capture(), eq(Set.of(near.id(), far.id())));
+        assertEquals(List.of(
+                new DispatchStore.Leg("52.0,13.0", "52.01,13.01", 100),
+                new DispatchStore.Leg("52.01,13.01", "52.02,13.02", 100)), tours.getValue().get(0).legs());
+    }
+
+    @Test
+    void testPlanRejectsMatrixAboveCellLimit() {
+        ReflectionTestUtils.setField(planner, "maxMatrixCells", 11L);
+        when(orderRepository.findViewsByStatus("PENDING")).thenReturn(List.of(order("52.01,13.01"), order("52.02,13.02"), order("52.03,13.03")));
+        when(vehicleRepository.findAllViews()).thenReturn(List.of(
+                new VehicleView(UUID.randomUUID(), null, "VAN", "VAN-1", 10f, "52.0,13.0", 52.0, 13.0, null)));
+
+        assertThrows(BatchTooLargeException.class, () -> planner.plan(null));
+        verifyNoInteractions(routePlanner);
+    }
+
+    @Test
+    void testPlanWithoutPendingOrders() {
+        when(orderRepository.findViewsByStatus("PENDING")).thenReturn(List.of());
+
+        DispatchPlanDTO plan = planner.plan(Duration.ofSeconds(5));
+
+        assertEquals(0, plan.getPendingOrders());
+        assertTrue(plan.getTours().isEmpty());
+        verifyNoInteractions(routePlanner, dispatchStore);
+    }
+
+    private static OrderView order(String destination) {
+        return new OrderView(UUID.randomUUID(), UUID.randomUUID(), "PENDING", "Depot", destination, LocalDateTime.now().plusDays(1));
+    }
+}
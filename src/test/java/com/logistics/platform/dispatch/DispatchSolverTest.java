@@ -0,0 +1,122 @@
+package com.logistics.platform.dispatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchSolverTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldServeEveryStopWithinCapacityAndDeadlines() {
+        DispatchProblem problem = randomProblem(7, 3, 30, 40);
+
+        DispatchSolution solution = new DispatchSolver(problem).solve(executor, 2, Duration.ofMillis(500));
+
+        assertEquals(0, solution.unassigned().length);
+        assertFeasible(problem, solution);
+    }
+
+    @Test
+    void shouldLeaveUnservableStopsUnassigned() {
+        double inf = Double.POSITIVE_INFINITY;
+        DispatchProblem problem = new DispatchProblem(
+                new double[]{10},
+                new double[]{4, 20, 4, 4},
+                new double[]{inf, inf, 100, inf},
+                0,
+                new double[]{
+                        60, 60, 600, inf,
+                        0, 10, 10, inf,
+                        10, 0, 10, inf,
+                        10, 10, 0, inf,
+                        inf, inf, inf, 0});
+
+        DispatchSolution solution = new DispatchSolver(problem).solve(executor, 1, Duration.ofMillis(200));
+
+        assertArrayEquals(new int[]{1, 2, 3}, solution.unassigned());
+        assertArrayEquals(new int[]{0}, solution.tours()[0]);
+        assertEquals(60, solution.travelSeconds(), 1e-9);
+    }
+
+    @Test
+    void shouldPlanTwoThousandStopsAcrossHundredVehiclesInSeconds() {
+        DispatchProblem problem = randomProblem(11, 100, 2000, 100);
+        long started = System.nanoTime();
+
+        DispatchSolution solution = new DispatchSolver(problem).solve(executor, 2, Duration.ofSeconds(3));
+
+        assertTrue(System.nanoTime() - started < Duration.ofSeconds(10).toNanos());
+        assertEquals(0, solution.unassigned().length);
+        assertFeasible(problem, solution);
+    }
+
+    /**
+     * Vehicles start around a depot in the middle of a 40 km square and drive straight lines at 36 km/h; a third
+     * of the stops have deadlines between two and eight hours out.
+     */
+    private static DispatchProblem randomProblem(long seed, int vehicles, int stops, double capacity) {
+        Random random = new Random(seed);
+        double[] x = new double[vehicles + stops];
+        double[] y = new double[vehicles + stops];
+        for (int i = 0; i < x.length; i++) {
+            boolean depot = i < vehicles;
+            x[i] = depot ? 20_000 + random.nextGaussian() * 500 : random.nextDouble() * 40_000;
+            y[i] = depot ? 20_000 + random.nextGaussian() * 500 : random.nextDouble() * 40_000;
+        }
+        double[] demand = new double[stops];
+        double[] due = new double[stops];
+        for (int stop = 0; stop < stops; stop++) {
+            demand[stop] = 1 + random.nextInt(5);
+            due[stop] = random.nextInt(3) == 0 ? 7_200 + random.nextDouble() * 21_600 : Double.POSITIVE_INFINITY;
+        }
+        double[] travel = new double[(vehicles + stops) * stops];
+        for (int from = 0; from < vehicles + stops; from++) {
+            for (int to = 0; to < stops; to++) {
+                travel[from * stops + to] = Math.hypot(x[from] - x[vehicles + to], y[from] - y[vehicles + to]) / 10;
+            }
+        }
+        double[] capacities = new double[vehicles];
+        Arrays.fill(capacities, capacity);
+        return new DispatchProblem(capacities, demand, due, 120, travel);
+    }
+
+    private static void assertFeasible(DispatchProblem problem, DispatchSolution solution) {
+        int[] seen = new int[problem.stops()];
+        double total = 0;
+        for (int vehicle = 0; vehicle < problem.vehicles(); vehicle++) {
+            double load = 0;
+            double time = 0;
+            int previous = -1;
+            for (int stop : solution.tours()[vehicle]) {
+                double leg = previous < 0 ? problem.fromStart(vehicle, stop) : problem.between(previous, stop);
+                total += leg;
+                time += leg;
+                assertTrue(time <= problem.due()[stop], "stop " + stop + " is late");
+                time += problem.serviceSeconds();
+                load += problem.demand()[stop];
+                seen[stop]++;
+                previous = stop;
+            }
+            assertTrue(load <= problem.capacity()[vehicle], "vehicle " + vehicle + " is overloaded");
+        }
+        for (int stop : solution.unassigned()) {
+            seen[stop]++;
+        }
+        assertTrue(Arrays.stream(seen).allMatch(count -> count == 1));
+        assertEquals(total, solution.travelSeconds(), 1e-3);
+    }
+}
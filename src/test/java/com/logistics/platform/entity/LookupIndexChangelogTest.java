@@ -0,0 +1,119 @@
+package com.logistics.platform.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import liquibase.Scope;
+import liquibase.change.Change;
+import liquibase.change.core.RawSQLChange;
+import liquibase.changelog.ChangeLogHistoryServiceFactory;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.integration.spring.SpringResourceAccessor;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Validates the Liquibase changelog against PostgreSQL without a database, and that every index an entity declares is
+ * created by {@code 02-lookup-indexes.yaml} under the same name on the same columns.
+ * <p>
+ * Tests run on H2 with the schema generated from the entities, where the PostgreSQL-only changesets never run, so
+ * without this the two declarations could drift apart unnoticed.
+ */
+public class LookupIndexChangelogTest {
+
+    private static final String CHANGELOG = "classpath:/liquibase/changelog.yaml";
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS (\\w+) ON (\\w+) \\(([^)]+)\\)", Pattern.CASE_INSENSITIVE);
+
+    private static Database database;
+    private static DatabaseChangeLog changeLog;
+
+    @TempDir
+    static Path history;
+
+    @BeforeAll
+    static void parse() throws Exception {
+        ResourceAccessor accessor = new SpringResourceAccessor(new DefaultResourceLoader());
+        String url = "offline:postgresql?changeLogFile=" + history.resolve("databasechangelog.csv");
+        database = DatabaseFactory.getInstance().openDatabase(url, null, null, null, accessor);
+        Scope.getCurrentScope().getSingleton(ChangeLogHistoryServiceFactory.class).getChangeLogService(database).init();
+        changeLog = ChangeLogParserFactory.getInstance().getParser(CHANGELOG, accessor)
+                .parse(CHANGELOG, new ChangeLogParameters(database), accessor);
+    }
+
+    @Test
+    void changelogIsValidForPostgres() throws Exception {
+        assertFalse(changeLog.getChangeSets().isEmpty());
+        changeLog.validate(database);
+    }
+
+    @Test
+    void entityIndexesMatchChangelog() throws Exception {
+        Map<String, String> created = createdIndexes();
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        int checked = 0;
+        for (BeanDefinition definition : scanner.findCandidateComponents(getClass().getPackageName())) {
+            Table table = Class.forName(definition.getBeanClassName()).getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            for (Index index : table.indexes()) {
+                String changelog = created.get(index.name());
+                assertNotNull(changelog, "No changeSet creates " + index.name());
+                assertEquals(definition(table.name(), index.columnList()), changelog, index.name());
+                checked++;
+            }
+        }
+        assertTrue(checked > 0, "No entity declares an index");
+    }
+
+    private static Map<String, String> createdIndexes() {
+        Map<String, String> created = new HashMap<>();
+        for (ChangeSet changeSet : changeLog.getChangeSets()) {
+            if (changeSet.getDbmsSet() != null && !changeSet.getDbmsSet().contains("postgresql")) {
+                continue;
+            }
+            for (Change change : changeSet.getChanges()) {
+                if (change instanceof RawSQLChange sql) {
+                    Matcher matcher = CREATE_INDEX.matcher(sql.getSql());
+                    while (matcher.find()) {
+                        created.put(matcher.group(1), definition(matcher.group(2), matcher.group(3)));
+                    }
+                }
+            }
+        }
+        return created;
+    }
+
+    private static String definition(String table, String columns) {
+        return table.toLowerCase() + Arrays.stream(columns.split(","))
+                .map(column -> column.trim().toLowerCase())
+                .collect(Collectors.joining(", ", " (", ")"));
+    }
+}
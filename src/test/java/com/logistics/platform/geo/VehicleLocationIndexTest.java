@@ -0,0 +1,109 @@
+package com.logistics.platform.geo;
+
+import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.VehiclePosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VehicleLocationIndexTest {
+
+    private final VehicleRepository vehicleRepository = mock(VehicleRepository.class);
+    private VehicleLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VehicleLocationIndex(vehicleRepository);
+    }
+
+    @Test
+    void shouldLoadPositionsOnStartup() {
+        UUID id = UUID.randomUUID();
+        when(vehicleRepository.findPositions()).thenReturn(List.of(new VehiclePosition(id, 52.52, 13.405)));
+
+        index.load();
+
+        assertEquals(1, index.size());
+        assertEquals(id, index.nearest(52.52, 13.4, 1000, 5).get(0).vehicleId());
+    }
+
+    @Test
+    void shouldMatchBruteForceAfterMovesAndRemovals() {
+        Random random = new Random(3);
+        Map<UUID, double[]> positions = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            place(positions, id, 48 + random.nextDouble() * 2, 2 + random.nextDouble() * 3);
+        }
+        for (int i = 0; i < 2000; i++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                positions.remove(id);
+            } else {
+                place(positions, id, 48 + random.nextDouble() * 2, 2 + random.nextDouble() * 3);
+            }
+        }
+        assertEquals(positions.size(), index.size());
+
+        for (int query = 0; query < 200; query++) {
+            double lat = 48 + random.nextDouble() * 2;
+            double lon = 2 + random.nextDouble() * 3;
+            double radius = 500 + random.nextDouble() * 30_000;
+            int limit = 1 + random.nextInt(20);
+
+            List<VehicleLocationIndex.Neighbour> found = index.nearest(lat, lon, radius, limit);
+
+            List<Double> expected = positions.values().stream()
+                    .map(p -> GeoPoint.distanceMeters(lat, lon, p[0], p[1]))
+                    .filter(meters -> meters <= radius)
+                    .sorted(Comparator.naturalOrder())
+                    .limit(limit)
+                    .toList();
+            assertEquals(expected, found.stream().map(VehicleLocationIndex.Neighbour::distanceMeters).toList());
+            found.forEach(neighbour -> assertArrayEquals(positions.get(neighbour.vehicleId()),
+                    new double[]{neighbour.latitude(), neighbour.longitude()}));
+        }
+    }
+
+    @Test
+    void shouldSearchAcrossTheAntimeridian() {
+        UUID east = UUID.randomUUID();
+        UUID west = UUID.randomUUID();
+        index.put(east, -17.0, 179.999);
+        index.put(west, -17.0, -179.95);
+        for (int i = 0; i < 2000; i++) {
+            index.put(UUID.randomUUID(), 10 + i * 0.02, 20);
+        }
+
+        List<VehicleLocationIndex.Neighbour> found = index.nearest(-17.0, -179.999, 10_000, 5);
+
+        assertEquals(List.of(east, west), found.stream().map(VehicleLocationIndex.Neighbour::vehicleId).toList());
+    }
+
+    @Test
+    void shouldReturnNothingOutsideTheRadius() {
+        index.put(UUID.randomUUID(), 52.52, 13.405);
+
+        assertTrue(index.nearest(48.85, 2.35, 100_000, 10).isEmpty());
+        assertTrue(index.nearest(52.52, 13.405, 100, 0).isEmpty());
+    }
+
+    private void place(Map<UUID, double[]> positions, UUID id, double lat, double lon) {
+        index.put(id, lat, lon);
+        positions.put(id, new double[]{lat, lon});
+    }
+}
@@ -0,0 +1,182 @@
+package com.logistics.platform.ingest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.platform.domain.ImportReportDTO;
+import com.logistics.platform.exception.ImportFailedException;
+import com.logistics.platform.exception.InvalidImportFileException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ManifestImporterTest {
+
+    @TempDir
+    private Path directory;
+
+    private final UUID orderId = UUID.randomUUID();
+    private FakeImportStore importStore;
+    private ManifestImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importStore = new FakeImportStore(Set.of(orderId));
+        importer = new ManifestImporter(importStore, new ObjectMapper());
+        ReflectionTestUtils.setField(importer, "directory", directory.toString());
+        ReflectionTestUtils.setField(importer, "chunkSize", 2);
+    }
+
+    @Test
+    void testImportCsvRejectsInvalidRows() throws IOException {
+        Files.writeString(directory.resolve("manifest.csv"), String.join("\n",
+                "orderId,description,weight,status",
+                orderId + ",\"Books, boxed\",1.5,PACKED",
+                UUID.randomUUID() + ",Lost,1,PACKED",
+                orderId + ",Heavy,abc,PACKED",
+                "",
+                orderId + ",Quoted \"\"name\"\",,PACKED",
+                orderId + ",No status,2,"));
+
+        ImportReportDTO report = importer.importFile(ImportTarget.PACKAGES, "manifest.csv");
+
+        assertEquals(2, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(7, report.getLastLine());
+        assertEquals(2, importStore.rows.size());
+        assertTrue(importStore.rows.get(0).contains("\"Books, boxed\""));
+        List<String> rejects = Files.readAllLines(directory.resolve("manifest.csv.rejects"));
+        assertEquals(4, rejects.size());
+        assertTrue(rejects.get(1).startsWith("3,\"Order not found"));
+        assertTrue(rejects.get(2).startsWith("4,\"weight is not a number"));
+        assertTrue(rejects.get(3).startsWith("7,\"status must be provided"));
+        assertFalse(Files.exists(directory.resolve("manifest.csv.progress")));
+    }
+
+    @Test
+    void testImportNdjsonOrders() throws IOException {
+        UUID clientId = UUID.randomUUID();
+        importStore = new FakeImportStore(Set.of(clientId));
+        importer = new ManifestImporter(importStore, new ObjectMapper());
+        ReflectionTestUtils.setField(importer, "directory", directory.toString());
+        ReflectionTestUtils.setField(importer, "chunkSize", 100);
+        Files.writeString(directory.resolve("orders.ndjson"), String.join("\n",
+                "{\"clientId\":\"" + clientId + "\",\"status\":\"PENDING\",\"origin\":\"A\",\"destination\":\"B\","
+                        + "\"estimatedDeliveryTime\":\"2026-01-02T10:00:00\"}",
+                "{not json"));
+
+        ImportReportDTO report = importer.importFile(ImportTarget.ORDERS, "orders.ndjson");
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertTrue(importStore.rows.get(0).endsWith("\"2026-01-02T10:00\""));
+    }
+
+    @Test
+    void testResumeAfterFailedChunk() throws IOException {
+        StringBuilder manifest = new StringBuilder("orderId,description,weight,status\n");
+        for (int i = 0; i < 5; i++) {
+            manifest.append(orderId).append(",Item ").append(i).append(",1,PACKED\n");
+        }
+        Files.writeString(directory.resolve("manifest.csv"), manifest);
+        importStore.failOnChunk = 2;
+
+        assertThrows(ImportFailedException.class, () -> importer.importFile(ImportTarget.PACKAGES, "manifest.csv"));
+        assertEquals(2, importStore.rows.size());
+        assertTrue(Files.readString(directory.resolve("manifest.csv.progress")).startsWith("3 "));
+
+        ImportReportDTO report = importer.importFile(ImportTarget.PACKAGES, "manifest.csv");
+
+        assertEquals(3, report.getResumedAfterLine());
+        assertEquals(3, report.getImported());
+        assertEquals(5, importStore.rows.size());
+        assertEquals(5, importStore.ids.size());
+        assertFalse(Files.exists(directory.resolve("manifest.csv.progress")));
+    }
+
+    @Test
+    void testCheckpointOfOtherContentIsIgnored() throws IOException {
+        Path file = directory.resolve("manifest.csv");
+        Files.writeString(file, "orderId,description,weight,status\n"
+                + orderId + ",Item A,1,PACKED\n" + orderId + ",Item B,1,PACKED\n" + orderId + ",Item C,1,PACKED\n");
+        importStore.failOnChunk = 2;
+        assertThrows(ImportFailedException.class, () -> importer.importFile(ImportTarget.PACKAGES, "manifest.csv"));
+
+        Files.writeString(file, "orderId,description,weight,status\n"
+                + orderId + ",Item D,1,PACKED\n" + orderId + ",Item E,1,PACKED\n" + orderId + ",Item F,1,PACKED\n");
+        ImportReportDTO report = importer.importFile(ImportTarget.PACKAGES, "manifest.csv");
+
+        assertEquals(0, report.getResumedAfterLine());
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getSkipped());
+    }
+
+    @Test
+    void testReplayedChunkIsSkipped() throws IOException {
+        Files.writeString(directory.resolve("manifest.csv"),
+                "orderId,description,weight,status\n" + orderId + ",Item,1,PACKED\n");
+
+        importer.importFile(ImportTarget.PACKAGES, "manifest.csv");
+        ImportReportDTO replay = importer.importFile(ImportTarget.PACKAGES, "manifest.csv");
+
+        assertEquals(0, replay.getImported());
+        assertEquals(1, replay.getSkipped());
+        assertEquals(1, importStore.ids.size());
+    }
+
+    @Test
+    void testRejectsFileOutsideDirectory() {
+        assertThrows(InvalidImportFileException.class,
+                () -> importer.importFile(ImportTarget.PACKAGES, "../etc/passwd"));
+    }
+
+    private static final class FakeImportStore implements ImportStore {
+        private final Set<UUID> parents;
+        private final List<String> rows = new ArrayList<>();
+        private final Set<String> ids = new HashSet<>();
+        private int chunks;
+        private int failOnChunk = -1;
+
+        FakeImportStore(Set<UUID> parents) {
+            this.parents = parents;
+        }
+
+        @Override
+        public void loadIds(String table, Consumer<UUID> sink) {
+            parents.forEach(sink);
+        }
+
+        @Override
+        public long copy(ImportTarget target, Reader csv) {
+            if (++chunks == failOnChunk) {
+                throw new ImportFailedException("Copy into " + target.table() + " failed");
+            }
+            long inserted = 0;
+            try (BufferedReader reader = new BufferedReader(csv)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (ids.add(line.substring(0, line.indexOf(',')))) {
+                        rows.add(line);
+                        inserted++;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return inserted;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.logistics.platform.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setCategories("org.hibernate:1.0, org.hibernate.SQL:0.0");
+        filter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        LogSampling.end();
+    }
+
+    @Test
+    void testLongestPrefixWinsInsideRequest() {
+        LogSampling.begin();
+
+        assertEquals(FilterReply.DENY, decide("org.hibernate.SQL", Level.DEBUG));
+        assertEquals(FilterReply.NEUTRAL, decide("org.hibernate.orm", Level.DEBUG));
+        assertEquals(FilterReply.NEUTRAL, decide("com.logistics.platform", Level.DEBUG));
+    }
+
+    @Test
+    void testWarningsAreNeverSampled() {
+        LogSampling.begin();
+
+        assertEquals(FilterReply.NEUTRAL, decide("org.hibernate.SQL", Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide("org.hibernate.SQL", Level.ERROR));
+    }
+
+    @Test
+    void testEventsOutsideRequestPass() {
+        assertEquals(FilterReply.NEUTRAL, decide("org.hibernate.SQL", Level.DEBUG));
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        Logger logger = context.getLogger(loggerName);
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.logistics.platform.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidirectionalAStarTest {
+
+    @Test
+    void shouldMatchDijkstraOnRandomGrid() {
+        RoadGraph graph = RoadGraphs.randomGrid(42, 40);
+        Random random = new Random(7);
+        BidirectionalAStar search = new BidirectionalAStar(graph);
+
+        for (int query = 0; query < 200; query++) {
+            int source = random.nextInt(graph.nodeCount());
+            int target = random.nextInt(graph.nodeCount());
+            assertEquals(dijkstra(graph, source, target), search.travelSeconds(source, target), 1e-6,
+                    "query " + source + " -> " + target);
+        }
+    }
+
+    @Test
+    void shouldReportUnreachableTarget() {
+        RoadGraph.Builder builder = RoadGraph.builder();
+        int a = builder.addNode(52.0, 13.0);
+        int b = builder.addNode(52.001, 13.0);
+        int c = builder.addNode(52.002, 13.0);
+        builder.addEdge(a, b, 30).addEdge(c, b, 30);
+        BidirectionalAStar search = new BidirectionalAStar(builder.build());
+
+        assertEquals(30, search.travelSeconds(a, b), 1e-6);
+        assertEquals(Double.POSITIVE_INFINITY, search.travelSeconds(a, c));
+        assertEquals(0, search.travelSeconds(c, c));
+    }
+
+    private static double dijkstra(RoadGraph graph, int source, int target) {
+        double[] distance = new double[graph.nodeCount()];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        distance[source] = 0;
+        PriorityQueue<double[]> queue = new PriorityQueue<>((x, y) -> Double.compare(x[0], y[0]));
+        queue.add(new double[]{0, source});
+        while (!queue.isEmpty()) {
+            double[] entry = queue.poll();
+            int node = (int) entry[1];
+            if (entry[0] > distance[node]) {
+                continue;
+            }
+            for (int e = graph.firstOut()[node]; e < graph.firstOut()[node + 1]; e++) {
+                int next = graph.head()[e];
+                double candidate = distance[node] + graph.outSeconds()[e];
+                if (candidate < distance[next]) {
+                    distance[next] = candidate;
+                    queue.add(new double[]{candidate, next});
+                }
+            }
+        }
+        return distance[target];
+    }
+}
@@ -0,0 +1,88 @@
+package com.logistics.platform.routing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractionHierarchyTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMatchAStarOnRandomGrid() {
+        RoadGraph graph = RoadGraphs.randomGrid(42, 40);
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        BidirectionalAStar baseline = new BidirectionalAStar(graph);
+
+        Random random = new Random(11);
+        for (int query = 0; query < 300; query++) {
+            int source = random.nextInt(graph.nodeCount());
+            int target = random.nextInt(graph.nodeCount());
+            assertEquals(baseline.travelSeconds(source, target), hierarchy.travelSeconds(source, target), 1e-2,
+                    "query " + source + " -> " + target);
+        }
+    }
+
+    @Test
+    void shouldMatchPointQueriesInMatrix() {
+        RoadGraph graph = RoadGraphs.randomGrid(7, 30);
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(graph);
+        Random random = new Random(3);
+        int[] sources = random.ints(25, 0, graph.nodeCount()).toArray();
+        int[] targets = random.ints(40, 0, graph.nodeCount()).toArray();
+        targets[0] = sources[0];
+
+        TravelMatrix matrix = hierarchy.matrix(sources, targets);
+
+        assertEquals(0, matrix.seconds(0, 0));
+        assertEquals(0, matrix.meters(0, 0));
+        for (int row = 0; row < sources.length; row++) {
+            for (int column = 0; column < targets.length; column++) {
+                double seconds = hierarchy.travelSeconds(sources[row], targets[column]);
+                assertEquals(seconds, matrix.seconds(row, column), 1e-2, "cell " + row + "," + column);
+                if (!Double.isInfinite(seconds)) {
+                    double straightLine = RoadGraph.distanceMeters(graph.lat(sources[row]), graph.lon(sources[row]),
+                            graph.lat(targets[column]), graph.lon(targets[column]));
+                    assertTrue(matrix.meters(row, column) >= straightLine - 1e-3, "cell " + row + "," + column);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldServeQueriesFromMappedFile() throws IOException {
+        RoadGraph graph = RoadGraphs.randomGrid(5, 20);
+        ContractionHierarchy built = ContractionHierarchy.build(graph);
+        Path file = directory.resolve("roads.csv.ch");
+
+        built.write(file);
+        Optional<ContractionHierarchy> mapped = ContractionHierarchy.load(file, graph);
+
+        assertTrue(mapped.isPresent());
+        assertEquals(built.edgeCount(), mapped.get().edgeCount());
+        assertFalse(Files.exists(directory.resolve("roads.csv.ch.tmp")));
+        for (int target = 0; target < graph.nodeCount(); target += 7) {
+            assertEquals(built.travelSeconds(3, target), mapped.get().travelSeconds(3, target), 1e-6);
+        }
+        int[] sources = {3, 17};
+        int[] targets = {0, 45, 399};
+        assertArrayEquals(built.matrix(sources, targets).meters(), mapped.get().matrix(sources, targets).meters(), 1e-6);
+    }
+
+    @Test
+    void shouldIgnoreFileBuiltFromAnotherGraph() throws IOException {
+        Path file = directory.resolve("roads.csv.ch");
+        ContractionHierarchy.build(RoadGraphs.randomGrid(5, 20)).write(file);
+
+        assertTrue(ContractionHierarchy.load(file, RoadGraphs.randomGrid(6, 20)).isEmpty());
+        assertTrue(ContractionHierarchy.load(directory.resolve("missing.ch"), RoadGraphs.randomGrid(6, 20)).isEmpty());
+    }
+}
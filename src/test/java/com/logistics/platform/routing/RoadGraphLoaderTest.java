@@ -0,0 +1,44 @@
+package com.logistics.platform.routing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadGraphLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldLoadEdgesAndSnapCoordinates() throws IOException {
+        Path file = Files.writeString(directory.resolve("roads.csv"), """
+                from_node,from_lat,from_lon,to_node,to_lat,to_lon,length_m,speed_kmh,oneway
+                1001,52.5200,13.4050,1002,52.5210,13.4050,111,36,0
+                1002,52.5210,13.4050,1003,52.5210,13.4066,108,36,1
+                """);
+
+        RoadGraph graph = RoadGraphLoader.load(file);
+        BidirectionalAStar search = new BidirectionalAStar(graph);
+
+        assertEquals(3, graph.nodeCount());
+        assertEquals(3, graph.edgeCount());
+        int start = graph.nearestNode(52.52001, 13.40502, 50);
+        int end = graph.nearestNode(52.5210, 13.4066, 50);
+        assertEquals(21.9, search.travelSeconds(start, end), 1e-3);
+        assertEquals(Double.POSITIVE_INFINITY, search.travelSeconds(end, start));
+        assertEquals(-1, graph.nearestNode(52.6, 13.5, 500));
+    }
+
+    @Test
+    void shouldRejectFileWithoutCoordinates() throws IOException {
+        Path file = Files.writeString(directory.resolve("roads.csv"), "from_node,to_node\n1,2\n");
+
+        IOException error = assertThrows(IOException.class, () -> RoadGraphLoader.load(file));
+        assertTrue(error.getMessage().contains("from_lat"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.logistics.platform.routing;
+
+import java.util.Random;
+
+final class RoadGraphs {
+
+    private RoadGraphs() {
+    }
+
+    /**
+     * Jittered grid with random travel times, two-way along rows and mostly one-way along columns.
+     */
+    static RoadGraph randomGrid(long seed, int side) {
+        Random random = new Random(seed);
+        RoadGraph.Builder builder = RoadGraph.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                builder.addNode(52.0 + row * 0.002 + random.nextDouble() * 0.0005, 13.0 + column * 0.003 + random.nextDouble() * 0.0005);
+            }
+        }
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int node = row * side + column;
+                if (column + 1 < side) {
+                    builder.addEdge(node, node + 1, 10 + random.nextDouble() * 40);
+                    builder.addEdge(node + 1, node, 10 + random.nextDouble() * 40);
+                }
+                if (row + 1 < side && random.nextInt(4) > 0) {
+                    builder.addEdge(node, node + side, 10 + random.nextDouble() * 40);
+                }
+            }
+        }
+        return builder.build();
+    }
+}
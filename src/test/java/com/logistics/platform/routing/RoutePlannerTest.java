@@ -0,0 +1,43 @@
+package com.logistics.platform.routing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePlannerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldServeHierarchyFromHeapWhenItCannotBeWritten() throws IOException {
+        Path graphFile = Files.writeString(directory.resolve("roads.csv"), """
+                from_node,from_lat,from_lon,to_node,to_lat,to_lon,length_m,speed_kmh,oneway
+                1001,52.5200,13.4050,1002,52.5210,13.4050,111,36,0
+                1002,52.5210,13.4050,1003,52.5210,13.4066,108,36,1
+                """);
+        Path unwritable = Files.createDirectory(directory.resolve("roads.ch"));
+        Files.writeString(unwritable.resolve("occupied"), "");
+        RoutePlanner planner = new RoutePlanner();
+        ReflectionTestUtils.setField(planner, "graphFile", graphFile.toString());
+        ReflectionTestUtils.setField(planner, "contractionFile", unwritable.toString());
+        ReflectionTestUtils.setField(planner, "contractionEnabled", true);
+        ReflectionTestUtils.setField(planner, "maxSnapMeters", 50.0);
+
+        planner.loadGraph();
+        try {
+            assertEquals(Optional.of(Duration.ofSeconds(22)), planner.estimate("52.52001,13.40502", "52.5210,13.4066"));
+            assertFalse(Files.exists(directory.resolve("roads.ch.tmp")));
+        } finally {
+            planner.shutdown();
+        }
+    }
+}
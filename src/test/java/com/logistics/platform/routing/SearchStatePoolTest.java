@@ -0,0 +1,49 @@
+package com.logistics.platform.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchStatePoolTest {
+
+    @Test
+    void shouldReuseReleasedState() {
+        SearchStatePool<int[]> pool = new SearchStatePool<>(2, () -> new int[4]);
+
+        int[] first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.created());
+    }
+
+    @Test
+    void shouldNotCreateMoreStatesThanCapacityUnderContention() throws Exception {
+        RoadGraph graph = RoadGraphs.randomGrid(11, 20);
+        BidirectionalAStar search = new BidirectionalAStar(graph);
+        double expected = search.travelSeconds(0, graph.nodeCount() - 1);
+        SearchStatePool<int[]> pool = new SearchStatePool<>(2, () -> new int[4]);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var results = IntStream.range(0, 500)
+                    .mapToObj(i -> executor.submit(() -> {
+                        int[] state = pool.acquire();
+                        try {
+                            return search.travelSeconds(0, graph.nodeCount() - 1);
+                        } finally {
+                            pool.release(state);
+                        }
+                    }))
+                    .toList();
+            for (Future<Double> result : results) {
+                assertEquals(expected, result.get(), 1e-6);
+            }
+        }
+        assertTrue(pool.created() <= 2, "created " + pool.created());
+    }
+}
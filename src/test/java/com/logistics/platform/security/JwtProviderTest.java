@@ -0,0 +1,93 @@
+package com.logistics.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.security.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+public class JwtProviderTest {
+
+    private static final String SECRET = "ahS+AYpNfYr94GEqWYHB5Zyu8vgji8k5dFi+1lm8Lq6+hZu1g1kk0cFbjj1QVVwprtepzHkwpuPwPeit6oBbsg==";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = newProvider(3600000L);
+    }
+
+    @Test
+    void testParseClaims() {
+        String token = jwtProvider.createToken("admin@logistics.com", Role.ADMIN);
+
+        Optional<Claims> claims = jwtProvider.parseClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("admin@logistics.com", claims.get().getSubject());
+        assertEquals("ADMIN", claims.get().get("role", String.class));
+    }
+
+    @Test
+    void testParseClaimsReturnsCachedInstance() {
+        String token = jwtProvider.createToken("admin@logistics.com", Role.ADMIN);
+
+        Claims first = jwtProvider.parseClaims(token).orElseThrow();
+        Claims second = jwtProvider.parseClaims(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testParseClaimsTimesEachOutcome() {
+        String token = jwtProvider.createToken("admin@logistics.com", Role.ADMIN);
+
+        jwtProvider.parseClaims(token);
+        jwtProvider.parseClaims(token);
+        jwtProvider.parseClaims(token + "x");
+
+        assertEquals(1, meterRegistry.timer("jwt.validation", "outcome", "verified").count());
+        assertEquals(1, meterRegistry.timer("jwt.validation", "outcome", "cached").count());
+        assertEquals(1, meterRegistry.timer("jwt.validation", "outcome", "rejected").count());
+    }
+
+    @Test
+    void testParseClaimsRejectsTamperedToken() {
+        String token = jwtProvider.createToken("client@logistics.com", Role.USER);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertTrue(jwtProvider.parseClaims(token).isPresent());
+        assertTrue(jwtProvider.parseClaims(tampered).isEmpty());
+    }
+
+    @Test
+    void testParseClaimsRejectsExpiredToken() {
+        JwtProvider expiredProvider = newProvider(-1000L);
+        String token = expiredProvider.createToken("client@logistics.com", Role.USER);
+
+        assertTrue(expiredProvider.parseClaims(token).isEmpty());
+        assertFalse(expiredProvider.validateToken(token));
+    }
+
+    @Test
+    void testParseClaimsWithoutToken() {
+        assertTrue(jwtProvider.parseClaims(null).isEmpty());
+    }
+
+    private JwtProvider newProvider(long validityInMs) {
+        JwtProvider provider = new JwtProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "validityInMs", validityInMs);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", 100);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
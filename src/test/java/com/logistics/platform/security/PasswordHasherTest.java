@@ -0,0 +1,61 @@
+package com.logistics.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.logistics.platform.exception.PasswordHashingOverloadedException;
+import com.logistics.platform.security.password.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class PasswordHasherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(4, 2, 8, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    void testMatchesAsyncTimesEachAttempt() {
+        String hash = passwordHasher.encode("password");
+
+        assertTrue(passwordHasher.matchesAsync("password", hash).join());
+        assertFalse(passwordHasher.matchesAsync("wrong", hash).join());
+
+        assertEquals(1, meterRegistry.timer("security.password.hash", "operation", "matches", "outcome", "match").count());
+        assertEquals(1, meterRegistry.timer("security.password.hash", "operation", "matches", "outcome", "mismatch").count());
+        assertEquals(3, meterRegistry.timer("security.password.queue.wait").count());
+    }
+
+    @Test
+    void testUpgradeEncodingWhenCostDiffers() {
+        assertFalse(passwordHasher.upgradeEncoding(passwordHasher.encode("password")));
+        assertTrue(passwordHasher.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+        assertTrue(passwordHasher.upgradeEncoding("$2a$12$6hJUKWPaPqpBxA1Mb0.16OQrex.QmHlfJDdbVopvPYE8524zdY42m"));
+        assertTrue(passwordHasher.upgradeEncoding("plaintext"));
+        assertFalse(passwordHasher.upgradeEncoding(null));
+    }
+
+    @Test
+    void testRefusesHashesBeyondQueueCapacity() {
+        try (PasswordHasher slow = new PasswordHasher(14, 1, 1, meterRegistry)) {
+            slow.encodeAsync("running");
+            slow.encodeAsync("queued");
+
+            assertThrows(PasswordHashingOverloadedException.class, () -> slow.encodeAsync("refused"));
+            assertThrows(PasswordHashingOverloadedException.class, () -> slow.matches("refused", "$2a$14$x"));
+            assertEquals(2, meterRegistry.counter("security.password.rejected").count());
+        }
+    }
+}
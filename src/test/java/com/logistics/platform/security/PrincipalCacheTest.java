@@ -0,0 +1,120 @@
+package com.logistics.platform.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.logistics.platform.domain.enums.Role;
+import com.logistics.platform.entity.UserEntity;
+import com.logistics.platform.security.role.PrincipalCache;
+import com.logistics.platform.security.role.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+
+    private UUID userId;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(userDetailsService, meterRegistry);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100);
+        ReflectionTestUtils.setField(principalCache, "tokenValidityMs", 3600000L);
+        ReflectionTestUtils.invokeMethod(principalCache, "registerMetrics");
+
+        userId = UUID.randomUUID();
+        user = UserEntity.builder()
+                .id(userId)
+                .email("client@logistics.com")
+                .username("ClientUser")
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    void testResolveLoadsUserOncePerTtl() {
+        when(userDetailsService.loadUserByUsername("client@logistics.com")).thenReturn(new UserDetailsImpl(user));
+
+        UserDetails first = principalCache.resolve(claims(new Date()));
+        UserDetails second = principalCache.resolve(claims(new Date()));
+
+        assertNotNull(first);
+        assertSame(first, second);
+        verify(userDetailsService, times(1)).loadUserByUsername("client@logistics.com");
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "principals", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "principals", "result", "miss").count());
+    }
+
+    @Test
+    void testResolveStatelessSkipsUserLookup() {
+        ReflectionTestUtils.setField(principalCache, "stateless", true);
+
+        UserDetails details = principalCache.resolve(claims(new Date()));
+
+        assertNotNull(details);
+        assertEquals("ROLE_USER", details.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testRevokeRejectsEarlierTokens() {
+        ReflectionTestUtils.setField(principalCache, "stateless", true);
+        Date issuedAt = new Date(System.currentTimeMillis() - 1000);
+        assertNotNull(principalCache.resolve(claims(issuedAt)));
+
+        principalCache.revoke(userId);
+
+        assertNull(principalCache.resolve(claims(issuedAt)));
+        assertNotNull(principalCache.resolve(claims(new Date(System.currentTimeMillis() + 1000))));
+    }
+
+    @Test
+    void testRevokeAcceptsTokenIssuedInSameSecond() {
+        ReflectionTestUtils.setField(principalCache, "stateless", true);
+
+        principalCache.revoke(userId);
+
+        long now = System.currentTimeMillis();
+        assertNotNull(principalCache.resolve(claims(new Date(now - now % 1000))));
+    }
+
+    @Test
+    void testResolveDeletedUser() {
+        when(userDetailsService.loadUserByUsername("client@logistics.com"))
+                .thenThrow(new UsernameNotFoundException("Could not find user: client@logistics.com"));
+
+        assertNull(principalCache.resolve(claims(new Date())));
+    }
+
+    private Claims claims(Date issuedAt) {
+        return Jwts.claims()
+                .subject("client@logistics.com")
+                .add(PrincipalCache.USER_ID_CLAIM, userId.toString())
+                .add(PrincipalCache.ROLE_CLAIM, Role.USER.name())
+                .issuedAt(issuedAt)
+                .build();
+    }
+}
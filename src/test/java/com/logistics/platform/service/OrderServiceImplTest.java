@@ -2,25 +2,38 @@ package com.logistics.platform.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.OrderDTO;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.entity.OrderEntity;
 import com.logistics.platform.entity.UserEntity;
+import com.logistics.platform.exception.InvalidCursorException;
 import com.logistics.platform.exception.OrderNotFoundException;
 import com.logistics.platform.exception.UserNotFoundException;
+import com.logistics.platform.pagination.CursorPagination;
 import com.logistics.platform.repository.OrderRepository;
 import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.repository.projection.OrderView;
 import com.logistics.platform.service.impl.OrderServiceImpl;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderServiceImplTest {
@@ -34,12 +47,14 @@ public class OrderServiceImplTest {
 
     private UUID orderId, clientId;
     private OrderEntity orderEntity;
+    private OrderView orderView;
     private UserEntity client;
     private OrderDTO orderDTO;
 
     @BeforeEach
     void setUp() {
-        orderService = new OrderServiceImpl(orderRepository, userRepository);
+        orderService = new OrderServiceImpl(orderRepository, userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator());
         orderId = UUID.randomUUID();
         clientId = UUID.randomUUID();
 
@@ -57,6 +72,8 @@ public class OrderServiceImplTest {
                 .destination("Client Address")
                 .build();
 
+        orderView = new OrderView(orderId, clientId, "PENDING", "Warehouse A", "Client Address", null);
+
         orderDTO = OrderDTO.builder()
                 .id(orderId)
                 .clientId(clientId)
@@ -68,14 +85,54 @@ public class OrderServiceImplTest {
 
     @Test
     void testFindAllOrders() {
-        when(orderRepository.findAll()).thenReturn(List.of(orderEntity));
+        when(orderRepository.findAllViews()).thenReturn(List.of(orderView));
 
         List<OrderDTO> result = orderService.findAllOrders();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("PENDING", result.get(0).getStatus());
-        verify(orderRepository).findAll();
+        verify(orderRepository).findAllViews();
+    }
+
+    @Test
+    void testFindOrdersPage() {
+        when(orderRepository.findViewsOrderByIdAsc(any(Limit.class))).thenReturn(List.of(orderView));
+
+        PageDTO<OrderDTO> result = orderService.findOrdersPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testFindOrdersPageWithCursor() {
+        OrderView nextOrder = new OrderView(UUID.randomUUID(), clientId, "PENDING", "Warehouse A", "Client Address", null);
+        when(orderRepository.findViewsByIdGreaterThan(eq(orderId), any(Limit.class)))
+                .thenReturn(List.of(orderView, nextOrder));
+
+        PageDTO<OrderDTO> result = orderService.findOrdersPage(CursorPagination.encode(orderId), 1);
+
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasMore());
+        assertEquals(orderId, CursorPagination.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void testFindOrdersPageInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> orderService.findOrdersPage("not-a-cursor!", 10));
+    }
+
+    @Test
+    void testStreamAllOrders() {
+        when(orderRepository.streamAll()).thenReturn(Stream.of(orderEntity));
+        List<OrderDTO> streamed = new ArrayList<>();
+
+        orderService.streamAllOrders(streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(orderId, streamed.get(0).getId());
     }
 
     @Test
@@ -117,14 +174,51 @@ public class OrderServiceImplTest {
 
     @Test
     void testFindOrdersByClient() {
-        when(orderRepository.findByClientId(clientId)).thenReturn(List.of(orderEntity));
+        when(orderRepository.findViewsByClientId(clientId)).thenReturn(List.of(orderView));
 
         List<OrderDTO> result = orderService.findOrdersByClient(clientId);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(clientId, result.get(0).getClientId());
-        verify(orderRepository).findByClientId(clientId);
+        verify(orderRepository).findViewsByClientId(clientId);
+    }
+
+    @Test
+    void testUpsertOrdersRejectsDuplicateIds() {
+        OrderDTO newOrder = orderDTO.toBuilder().id(null).build();
+        OrderDTO first = orderDTO.toBuilder().status("IN_TRANSIT").build();
+        OrderDTO second = orderDTO.toBuilder().status("DELIVERED").build();
+
+        when(userRepository.findExistingIds(Set.of(clientId))).thenReturn(Set.of(clientId));
+        when(userRepository.getReferenceById(clientId)).thenReturn(client);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchResultDTO<OrderDTO> result = orderService.upsertOrders(List.of(first, newOrder, second));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(0, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals("Duplicate id in batch: " + orderId, result.getResults().get(0).getError());
+        assertEquals("Duplicate id in batch: " + orderId, result.getResults().get(2).getError());
+        verify(orderRepository).saveAll(argThat(entities -> ((List<?>) entities).size() == 1));
+    }
+
+    @Test
+    void testUpsertOrdersAppliesClientChange() {
+        UUID newClientId = UUID.randomUUID();
+        UserEntity newClient = UserEntity.builder().id(newClientId).email("other@example.com").build();
+
+        when(userRepository.findExistingIds(Set.of(newClientId))).thenReturn(Set.of(newClientId));
+        when(userRepository.getReferenceById(newClientId)).thenReturn(newClient);
+        when(orderRepository.findAllById(Set.of(orderId))).thenReturn(List.of(orderEntity));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchResultDTO<OrderDTO> result = orderService.upsertOrders(
+                List.of(orderDTO.toBuilder().clientId(newClientId).build()));
+
+        assertEquals(1, result.getUpdated());
+        assertEquals(newClientId, result.getResults().get(0).getItem().getClientId());
     }
 
     @Test
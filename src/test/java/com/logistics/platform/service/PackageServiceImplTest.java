@@ -2,24 +2,33 @@ package com.logistics.platform.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.domain.BatchResultDTO;
 import com.logistics.platform.domain.PackageDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.enums.BatchItemStatus;
 import com.logistics.platform.entity.OrderEntity;
 import com.logistics.platform.entity.PackageEntity;
 import com.logistics.platform.exception.OrderNotFoundException;
 import com.logistics.platform.exception.PackageNotFoundException;
 import com.logistics.platform.repository.OrderRepository;
 import com.logistics.platform.repository.PackageRepository;
+import com.logistics.platform.repository.projection.PackageView;
 import com.logistics.platform.service.impl.PackageServiceImpl;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +43,14 @@ public class PackageServiceImplTest {
 
     private UUID packageId, orderId;
     private PackageEntity packageEntity;
+    private PackageView packageView;
     private OrderEntity order;
     private PackageDTO packageDTO;
 
     @BeforeEach
     void setUp() {
-        packageService = new PackageServiceImpl(packageRepository, orderRepository);
+        packageService = new PackageServiceImpl(packageRepository, orderRepository,
+                Validation.buildDefaultValidatorFactory().getValidator());
         packageId = UUID.randomUUID();
         orderId = UUID.randomUUID();
 
@@ -56,6 +67,8 @@ public class PackageServiceImplTest {
                 .status("PACKED")
                 .build();
 
+        packageView = new PackageView(packageId, orderId, "Electronics", 2.5f, "PACKED");
+
         packageDTO = PackageDTO.builder()
                 .id(packageId)
                 .orderId(orderId)
@@ -67,14 +80,25 @@ public class PackageServiceImplTest {
 
     @Test
     void testFindAllPackages() {
-        when(packageRepository.findAll()).thenReturn(List.of(packageEntity));
+        when(packageRepository.findAllViews()).thenReturn(List.of(packageView));
 
         List<PackageDTO> result = packageService.findAllPackages();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Electronics", result.get(0).getDescription());
-        verify(packageRepository).findAll();
+        verify(packageRepository).findAllViews();
+    }
+
+    @Test
+    void testFindPackagesPage() {
+        when(packageRepository.findViewsOrderByIdAsc(any(Limit.class))).thenReturn(List.of(packageView));
+
+        PageDTO<PackageDTO> result = packageService.findPackagesPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -96,6 +120,55 @@ public class PackageServiceImplTest {
         assertThrows(OrderNotFoundException.class, () -> packageService.createPackage(packageDTO));
     }
 
+    @Test
+    void testUpsertPackages() {
+        UUID missingOrderId = UUID.randomUUID();
+        PackageDTO newPackage = packageDTO.toBuilder().id(null).build();
+        PackageDTO invalidPackage = newPackage.toBuilder().status(null).build();
+        PackageDTO orphanPackage = newPackage.toBuilder().orderId(missingOrderId).build();
+        PackageDTO updatedPackage = packageDTO.toBuilder().status("SHIPPED").build();
+
+        when(orderRepository.findExistingIds(Set.of(orderId, missingOrderId))).thenReturn(Set.of(orderId));
+        when(orderRepository.getReferenceById(orderId)).thenReturn(order);
+        when(packageRepository.findAllById(Set.of(packageId))).thenReturn(List.of(packageEntity));
+        when(packageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchResultDTO<PackageDTO> result = packageService.upsertPackages(
+                List.of(newPackage, invalidPackage, orphanPackage, updatedPackage));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals(BatchItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertEquals("Package status must be provided", result.getResults().get(1).getError());
+        assertEquals("Order not found with id: " + missingOrderId, result.getResults().get(2).getError());
+        assertEquals("SHIPPED", result.getResults().get(3).getItem().getStatus());
+        verify(packageRepository).saveAll(argThat(entities -> ((List<?>) entities).size() == 2));
+    }
+
+    @Test
+    void testUpsertPackagesRejectsDuplicateIdsAndMovesPackage() {
+        UUID otherPackageId = UUID.randomUUID();
+        UUID newOrderId = UUID.randomUUID();
+        OrderEntity newOrder = OrderEntity.builder().id(newOrderId).status("PENDING").build();
+        PackageDTO first = packageDTO.toBuilder().id(otherPackageId).status("SHIPPED").build();
+        PackageDTO second = first.toBuilder().status("DELIVERED").build();
+        PackageDTO moved = packageDTO.toBuilder().orderId(newOrderId).build();
+
+        when(orderRepository.findExistingIds(Set.of(newOrderId))).thenReturn(Set.of(newOrderId));
+        when(orderRepository.getReferenceById(newOrderId)).thenReturn(newOrder);
+        when(packageRepository.findAllById(Set.of(packageId))).thenReturn(List.of(packageEntity));
+        when(packageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchResultDTO<PackageDTO> result = packageService.upsertPackages(List.of(first, second, moved));
+
+        assertEquals(2, result.getFailed());
+        assertEquals(1, result.getUpdated());
+        assertEquals("Duplicate id in batch: " + otherPackageId, result.getResults().get(0).getError());
+        assertEquals("Duplicate id in batch: " + otherPackageId, result.getResults().get(1).getError());
+        assertEquals(newOrderId, result.getResults().get(2).getItem().getOrderId());
+    }
+
     @Test
     void testFindPackageById() {
         when(packageRepository.findById(packageId)).thenReturn(Optional.of(packageEntity));
@@ -116,14 +189,14 @@ public class PackageServiceImplTest {
 
     @Test
     void testFindPackagesByOrder() {
-        when(packageRepository.findByOrderId(orderId)).thenReturn(List.of(packageEntity));
+        when(packageRepository.findViewsByOrderId(orderId)).thenReturn(List.of(packageView));
 
         List<PackageDTO> result = packageService.findPackagesByOrder(orderId);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(orderId, result.get(0).getOrderId());
-        verify(packageRepository).findByOrderId(orderId);
+        verify(packageRepository).findViewsByOrderId(orderId);
     }
 
     @Test
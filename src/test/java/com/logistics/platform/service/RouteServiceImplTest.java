@@ -4,20 +4,29 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.RouteDTO;
+import com.logistics.platform.domain.TravelMatrixDTO;
+import com.logistics.platform.domain.TravelMatrixRequestDTO;
 import com.logistics.platform.entity.RouteEntity;
 import com.logistics.platform.entity.VehicleEntity;
 import com.logistics.platform.exception.RouteNotFoundException;
 import com.logistics.platform.exception.VehicleNotFoundException;
 import com.logistics.platform.repository.RouteRepository;
 import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.RouteView;
+import com.logistics.platform.routing.RoutePlanner;
+import com.logistics.platform.routing.TravelMatrix;
 import com.logistics.platform.service.impl.RouteServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,17 +38,20 @@ public class RouteServiceImplTest {
     private RouteRepository routeRepository;
     @Mock
     private VehicleRepository vehicleRepository;
+    @Mock
+    private RoutePlanner routePlanner;
 
     private RouteServiceImpl routeService;
 
     private UUID routeId, vehicleId;
     private RouteEntity routeEntity;
+    private RouteView routeView;
     private VehicleEntity vehicle;
     private RouteDTO routeDTO;
 
     @BeforeEach
     void setUp() {
-        routeService = new RouteServiceImpl(routeRepository, vehicleRepository);
+        routeService = new RouteServiceImpl(routeRepository, vehicleRepository, routePlanner);
         routeId = UUID.randomUUID();
         vehicleId = UUID.randomUUID();
 
@@ -58,6 +70,8 @@ public class RouteServiceImplTest {
                 .trafficConditions("Moderate traffic")
                 .build();
 
+        routeView = new RouteView(routeId, vehicleId, "Warehouse A", "City Center", "2 hours", "Moderate traffic");
+
         routeDTO = RouteDTO.builder()
                 .id(routeId)
                 .vehicleId(vehicleId)
@@ -70,14 +84,25 @@ public class RouteServiceImplTest {
 
     @Test
     void testFindAllRoutes() {
-        when(routeRepository.findAll()).thenReturn(List.of(routeEntity));
+        when(routeRepository.findAllViews()).thenReturn(List.of(routeView));
 
         List<RouteDTO> result = routeService.findAllRoutes();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("City Center", result.get(0).getDestination());
-        verify(routeRepository).findAll();
+        verify(routeRepository).findAllViews();
+    }
+
+    @Test
+    void testFindRoutesPage() {
+        when(routeRepository.findViewsOrderByIdAsc(any(Limit.class))).thenReturn(List.of(routeView));
+
+        PageDTO<RouteDTO> result = routeService.findRoutesPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -92,6 +117,40 @@ public class RouteServiceImplTest {
         verify(routeRepository).save(any(RouteEntity.class));
     }
 
+    @Test
+    void testCreateRouteComputesEstimatedTime() {
+        RouteDTO plotted = routeDTO.toBuilder()
+                .origin("52.5200,13.4050")
+                .destination("52.5163,13.3777")
+                .estimatedTime(null)
+                .build();
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicle));
+        when(routePlanner.estimate("52.5200,13.4050", "52.5163,13.3777")).thenReturn(Optional.of(Duration.ofSeconds(312)));
+        when(routeRepository.save(any(RouteEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        RouteDTO result = routeService.createRoute(plotted);
+
+        assertEquals("312", result.getEstimatedTime());
+    }
+
+    @Test
+    void testTravelMatrix() {
+        List<String> sources = List.of("52.5200,13.4050");
+        List<String> targets = List.of("52.5163,13.3777", "Somewhere");
+        when(routePlanner.matrix(sources, targets)).thenReturn(new TravelMatrix(1, 2,
+                new double[]{311.2, Double.POSITIVE_INFINITY}, new double[]{2048.6, Double.NaN}));
+
+        TravelMatrixDTO result = routeService.travelMatrix(TravelMatrixRequestDTO.builder()
+                .sources(sources)
+                .targets(targets)
+                .build());
+
+        assertEquals(1, result.getSources());
+        assertEquals(2, result.getTargets());
+        assertEquals(Arrays.asList(312L, null), result.getDurations());
+        assertEquals(Arrays.asList(2049L, null), result.getDistances());
+    }
+
     @Test
     void testCreateRouteVehicleNotFound() {
         when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.empty());
@@ -119,14 +178,14 @@ public class RouteServiceImplTest {
 
     @Test
     void testFindRoutesByVehicle() {
-        when(routeRepository.findByVehicleId(vehicleId)).thenReturn(List.of(routeEntity));
+        when(routeRepository.findViewsByVehicleId(vehicleId)).thenReturn(List.of(routeView));
 
         List<RouteDTO> result = routeService.findRoutesByVehicle(vehicleId);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(vehicleId, result.get(0).getVehicleId());
-        verify(routeRepository).findByVehicleId(vehicleId);
+        verify(routeRepository).findViewsByVehicleId(vehicleId);
     }
 
     @Test
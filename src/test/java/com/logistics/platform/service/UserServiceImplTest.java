@@ -4,17 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.UserDTO;
 import com.logistics.platform.domain.enums.Role;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.exception.UserNotFoundException;
 import com.logistics.platform.repository.UserRepository;
+import com.logistics.platform.security.role.PrincipalCache;
 import com.logistics.platform.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -28,6 +31,8 @@ public class UserServiceImplTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private PrincipalCache principalCache;
 
     private UserServiceImpl userService;
 
@@ -37,7 +42,7 @@ public class UserServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder);
+        userService = new UserServiceImpl(userRepository, passwordEncoder, principalCache);
         userId = UUID.randomUUID();
 
         userEntity = UserEntity.builder()
@@ -66,6 +71,17 @@ public class UserServiceImplTest {
         verify(userRepository).findAll();
     }
 
+    @Test
+    void testFindUsersPage() {
+        when(userRepository.findAllByOrderByIdAsc(any(Limit.class))).thenReturn(List.of(userEntity));
+
+        PageDTO<UserDTO> result = userService.findUsersPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
     @Test
     void testCreateUser() {
         String password = "hashedpassword";
@@ -129,6 +145,22 @@ public class UserServiceImplTest {
         assertNotNull(result);
         assertEquals("updateduser", result.getUsername());
         verify(userRepository).save(any(UserEntity.class));
+        verify(principalCache).revoke(userId);
+    }
+
+    @Test
+    void testUpdateUsernameKeepsPasswordAndSessions() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
+        when(userRepository.save(any(UserEntity.class))).thenAnswer(invocation -> invocation.<UserEntity>getArgument(0));
+        UserDTO updatedDTO = UserDTO.builder()
+                .username("updateduser")
+                .email("test@example.com")
+                .build();
+
+        userService.updateUser(userId, updatedDTO, null);
+
+        verify(userRepository).save(argThat(user -> "hashedpassword".equals(user.getPassword())));
+        verifyNoInteractions(passwordEncoder, principalCache);
     }
 
     @Test
@@ -138,6 +170,7 @@ public class UserServiceImplTest {
         userService.deleteUser(userId);
 
         verify(userRepository).deleteById(userId);
+        verify(principalCache).revoke(userId);
     }
 
     @Test
@@ -4,20 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.domain.NearbyVehicleDTO;
+import com.logistics.platform.domain.PageDTO;
+import com.logistics.platform.domain.TrackDTO;
 import com.logistics.platform.domain.VehicleDTO;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.entity.VehicleEntity;
+import com.logistics.platform.exception.InvalidCoordinatesException;
+import com.logistics.platform.exception.StalePositionException;
 import com.logistics.platform.exception.UserNotFoundException;
 import com.logistics.platform.exception.VehicleNotFoundException;
+import com.logistics.platform.geo.VehicleLocationIndex;
 import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.repository.VehicleRepository;
+import com.logistics.platform.repository.projection.VehicleView;
 import com.logistics.platform.service.impl.VehicleServiceImpl;
+import com.logistics.platform.telemetry.PositionHistory;
+import com.logistics.platform.telemetry.VehiclePing;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,17 +40,22 @@ public class VehicleServiceImplTest {
     private VehicleRepository vehicleRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private VehicleLocationIndex locationIndex;
+    @Mock
+    private PositionHistory positionHistory;
 
     private VehicleServiceImpl vehicleService;
 
     private UUID vehicleId, driverId;
     private VehicleEntity vehicleEntity;
+    private VehicleView vehicleView;
     private UserEntity driver;
     private VehicleDTO vehicleDTO;
 
     @BeforeEach
     void setUp() {
-        vehicleService = new VehicleServiceImpl(vehicleRepository, userRepository);
+        vehicleService = new VehicleServiceImpl(vehicleRepository, userRepository, locationIndex, positionHistory);
         vehicleId = UUID.randomUUID();
         driverId = UUID.randomUUID();
 
@@ -58,6 +74,8 @@ public class VehicleServiceImplTest {
                 .currentLocation("Warehouse A")
                 .build();
 
+        vehicleView = new VehicleView(vehicleId, driverId, "TRUCK", "ABC-123", 5000.0f, "Warehouse A", null, null, null);
+
         vehicleDTO = VehicleDTO.builder()
                 .id(vehicleId)
                 .driverId(driverId)
@@ -70,14 +88,25 @@ public class VehicleServiceImplTest {
 
     @Test
     void testFindAllVehicles() {
-        when(vehicleRepository.findAll()).thenReturn(List.of(vehicleEntity));
+        when(vehicleRepository.findAllViews()).thenReturn(List.of(vehicleView));
 
         List<VehicleDTO> result = vehicleService.findAllVehicles();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("TRUCK", result.get(0).getType());
-        verify(vehicleRepository).findAll();
+        verify(vehicleRepository).findAllViews();
+    }
+
+    @Test
+    void testFindVehiclesPage() {
+        when(vehicleRepository.findViewsOrderByIdAsc(any(Limit.class))).thenReturn(List.of(vehicleView));
+
+        PageDTO<VehicleDTO> result = vehicleService.findVehiclesPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -163,6 +192,153 @@ public class VehicleServiceImplTest {
         verify(vehicleRepository).save(any(VehicleEntity.class));
     }
 
+    @Test
+    void testUpdateVehicleIndexesParsedCoordinates() {
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity));
+        when(vehicleRepository.save(any(VehicleEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleDTO result = vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder().currentLocation("52.52, 13.405").build());
+
+        assertEquals(52.52, result.getLatitude());
+        assertEquals(13.405, result.getLongitude());
+        verify(locationIndex).put(vehicleId, 52.52, 13.405);
+    }
+
+    @Test
+    void testUpdateVehicleToAddressDropsItFromIndex() {
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder().latitude(52.52).longitude(13.405).build()));
+        when(vehicleRepository.save(any(VehicleEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleDTO result = vehicleService.updateVehicle(vehicleId, vehicleDTO);
+
+        assertNull(result.getLatitude());
+        verify(locationIndex).remove(vehicleId);
+    }
+
+    @Test
+    void testUpdateVehicleFromStaleCopyIsRejected() {
+        Instant recordedAt = Instant.parse("2026-03-02T08:00:00Z");
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder()
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405).positionRecordedAt(recordedAt).build()));
+
+        assertThrows(StalePositionException.class, () -> vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder()
+                .licensePlate("XYZ-999")
+                .currentLocation("52.500000,13.400000").latitude(52.50).longitude(13.40)
+                .positionRecordedAt(recordedAt.minusSeconds(60))
+                .build()));
+        verify(vehicleRepository, never()).save(any(VehicleEntity.class));
+    }
+
+    @Test
+    void testUpdateVehicleWithoutRecordedAtIsRejected() {
+        Instant recordedAt = Instant.parse("2026-03-02T08:00:00Z");
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder()
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405).positionRecordedAt(recordedAt).build()));
+
+        assertThrows(StalePositionException.class, () -> vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder()
+                .currentLocation(null).latitude(52.50).longitude(13.40)
+                .build()));
+        verify(vehicleRepository, never()).save(any(VehicleEntity.class));
+    }
+
+    @Test
+    void testUpdateVehicleKeepingPositionNeedsNoRecordedAt() {
+        Instant recordedAt = Instant.parse("2026-03-02T08:00:00Z");
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder()
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405).positionRecordedAt(recordedAt).build()));
+        when(vehicleRepository.save(any(VehicleEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleDTO result = vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder()
+                .licensePlate("XYZ-999")
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405)
+                .build());
+
+        assertEquals("XYZ-999", result.getLicensePlate());
+        assertEquals(recordedAt, result.getPositionRecordedAt());
+    }
+
+    @Test
+    void testUpdateVehicleClearsPosition() {
+        Instant recordedAt = Instant.parse("2026-03-02T08:00:00Z");
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder()
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405).positionRecordedAt(recordedAt).build()));
+        when(vehicleRepository.save(any(VehicleEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleDTO result = vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder()
+                .currentLocation(null).latitude(null).longitude(null)
+                .positionRecordedAt(recordedAt)
+                .build());
+
+        assertNull(result.getCurrentLocation());
+        assertNull(result.getLatitude());
+        verify(locationIndex).remove(vehicleId);
+    }
+
+    @Test
+    void testUpdateVehicleFromCurrentCopyMovesIt() {
+        Instant recordedAt = Instant.parse("2026-03-02T08:00:00Z");
+        when(vehicleRepository.findById(vehicleId)).thenReturn(Optional.of(vehicleEntity.toBuilder()
+                .currentLocation("52.520000,13.405000").latitude(52.52).longitude(13.405).positionRecordedAt(recordedAt).build()));
+        when(vehicleRepository.save(any(VehicleEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleDTO result = vehicleService.updateVehicle(vehicleId, vehicleDTO.toBuilder()
+                .currentLocation(null).latitude(52.50).longitude(13.40)
+                .positionRecordedAt(recordedAt)
+                .build());
+
+        assertEquals(52.50, result.getLatitude());
+        assertTrue(result.getPositionRecordedAt().isAfter(recordedAt));
+        verify(locationIndex).put(vehicleId, 52.50, 13.40);
+    }
+
+    @Test
+    void testFindNearbyVehicles() {
+        UUID missingId = UUID.randomUUID();
+        when(locationIndex.nearest(52.5, 13.4, 5000, 3)).thenReturn(List.of(
+                new VehicleLocationIndex.Neighbour(vehicleId, 52.51, 13.4, 1112.4),
+                new VehicleLocationIndex.Neighbour(missingId, 52.52, 13.4, 2224.8)));
+        when(vehicleRepository.findViewsByIdIn(List.of(vehicleId, missingId))).thenReturn(List.of(vehicleView));
+
+        List<NearbyVehicleDTO> result = vehicleService.findNearbyVehicles(52.5, 13.4, 5000, 3);
+
+        assertEquals(1, result.size());
+        assertEquals(vehicleId, result.get(0).getVehicle().getId());
+        assertEquals(1112, result.get(0).getDistanceMeters());
+    }
+
+    @Test
+    void testFindNearbyVehiclesRejectsInvalidCoordinates() {
+        assertThrows(InvalidCoordinatesException.class, () -> vehicleService.findNearbyVehicles(91, 13.4, 5000, 3));
+        verifyNoInteractions(locationIndex);
+    }
+
+    @Test
+    void testFindTrackReturnsNextPageStart() {
+        Instant from = Instant.parse("2026-03-02T08:00:00Z");
+        Instant to = from.plusSeconds(3600);
+        when(vehicleRepository.existsById(vehicleId)).thenReturn(true);
+        when(positionHistory.findTrack(vehicleId, from, to, 3)).thenReturn(List.of(
+                new VehiclePing(vehicleId, 52.50, 13.40, from.toEpochMilli()),
+                new VehiclePing(vehicleId, 52.51, 13.41, from.plusSeconds(60).toEpochMilli()),
+                new VehiclePing(vehicleId, 52.52, 13.42, from.plusSeconds(120).toEpochMilli())));
+
+        TrackDTO track = vehicleService.findTrack(vehicleId, from, to, 2);
+
+        assertEquals(2, track.getPoints().size());
+        assertEquals(from, track.getPoints().get(0).getRecordedAt());
+        assertEquals(52.51, track.getPoints().get(1).getLatitude());
+        assertEquals(from.plusSeconds(120), track.getNextFrom());
+    }
+
+    @Test
+    void testFindTrackNotFound() {
+        when(vehicleRepository.existsById(vehicleId)).thenReturn(false);
+
+        Instant now = Instant.now();
+        assertThrows(VehicleNotFoundException.class, () -> vehicleService.findTrack(vehicleId, now.minusSeconds(60), now, 10));
+        verifyNoInteractions(positionHistory);
+    }
+
     @Test
     void testDeleteVehicle() {
         when(vehicleRepository.existsById(vehicleId)).thenReturn(true);
@@ -170,6 +346,7 @@ public class VehicleServiceImplTest {
         vehicleService.deleteVehicle(vehicleId);
 
         verify(vehicleRepository).deleteById(vehicleId);
+        verify(locationIndex).remove(vehicleId);
     }
 
     @Test
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.logistics.platform.capacity.WarehouseCapacity;
+import com.logistics.platform.domain.PageDTO;
 import com.logistics.platform.domain.WarehouseDTO;
 import com.logistics.platform.entity.UserEntity;
 import com.logistics.platform.entity.WarehouseEntity;
@@ -11,12 +13,14 @@ import com.logistics.platform.exception.UserNotFoundException;
 import com.logistics.platform.exception.WarehouseNotFoundException;
 import com.logistics.platform.repository.UserRepository;
 import com.logistics.platform.repository.WarehouseRepository;
+import com.logistics.platform.repository.projection.WarehouseView;
 import com.logistics.platform.service.impl.WarehouseServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,17 +33,20 @@ public class WarehouseServiceImplTest {
     private WarehouseRepository warehouseRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private WarehouseCapacity warehouseCapacity;
 
     private WarehouseServiceImpl warehouseService;
 
     private UUID warehouseId, managerId;
     private WarehouseEntity warehouseEntity;
+    private WarehouseView warehouseView;
     private UserEntity manager;
     private WarehouseDTO warehouseDTO;
 
     @BeforeEach
     void setUp() {
-        warehouseService = new WarehouseServiceImpl(warehouseRepository, userRepository);
+        warehouseService = new WarehouseServiceImpl(warehouseRepository, userRepository, warehouseCapacity);
         warehouseId = UUID.randomUUID();
         managerId = UUID.randomUUID();
 
@@ -57,6 +64,8 @@ public class WarehouseServiceImplTest {
                 .manager(manager)
                 .build();
 
+        warehouseView = new WarehouseView(warehouseId, "Downtown Storage", null, null, 1000, 500, managerId, 0L);
+
         warehouseDTO = WarehouseDTO.builder()
                 .id(warehouseId)
                 .location("Downtown Storage")
@@ -68,14 +77,25 @@ public class WarehouseServiceImplTest {
 
     @Test
     void testFindAllWarehouses() {
-        when(warehouseRepository.findAll()).thenReturn(List.of(warehouseEntity));
+        when(warehouseRepository.findAllViews()).thenReturn(List.of(warehouseView));
 
         List<WarehouseDTO> result = warehouseService.findAllWarehouses();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Downtown Storage", result.get(0).getLocation());
-        verify(warehouseRepository).findAll();
+        verify(warehouseRepository).findAllViews();
+    }
+
+    @Test
+    void testFindWarehousesPage() {
+        when(warehouseRepository.findViewsOrderByIdAsc(any(Limit.class))).thenReturn(List.of(warehouseView));
+
+        PageDTO<WarehouseDTO> result = warehouseService.findWarehousesPage(null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -136,17 +156,27 @@ public class WarehouseServiceImplTest {
     @Test
     void testUpdateWarehouse() {
         when(warehouseRepository.findById(warehouseId)).thenReturn(Optional.of(warehouseEntity));
-        when(warehouseRepository.save(any(WarehouseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(warehouseRepository.saveAndFlush(any(WarehouseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         WarehouseDTO updatedWarehouseDTO = warehouseDTO.toBuilder()
                 .availableSpace(750)
+                .version(3L)
                 .build();
 
         WarehouseDTO result = warehouseService.updateWarehouse(warehouseId, updatedWarehouseDTO);
 
         assertNotNull(result);
         assertEquals(750, result.getAvailableSpace());
-        verify(warehouseRepository).save(any(WarehouseEntity.class));
+        assertEquals(3L, result.getVersion());
+        verify(warehouseRepository).saveAndFlush(any(WarehouseEntity.class));
+        verify(warehouseCapacity).discard(warehouseId);
+    }
+
+    @Test
+    void testReserveSpace() {
+        warehouseService.reserveSpace(warehouseId, 20);
+
+        verify(warehouseCapacity).reserve(warehouseId, 20);
     }
 
     @Test
@@ -0,0 +1,133 @@
+package com.logistics.platform.telemetry;
+
+import com.logistics.platform.domain.TelemetryAckDTO;
+import com.logistics.platform.domain.TelemetryPingDTO;
+import com.logistics.platform.exception.TelemetryOverloadedException;
+import com.logistics.platform.geo.VehicleLocationIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TelemetryPipelineTest {
+
+    @Mock
+    private TelemetryStore telemetryStore;
+    @Mock
+    private VehicleLocationIndex locationIndex;
+    @Mock
+    private PositionHistory positionHistory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TelemetryPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new TelemetryPipeline(telemetryStore, locationIndex, positionHistory, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "bufferSize", 8);
+        ReflectionTestUtils.setField(pipeline, "maxClockSkew", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(pipeline, "downsampleAfter", Duration.ofDays(7));
+        pipeline.start();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushWritesNewestPingPerVehicle() {
+        UUID truck = UUID.randomUUID();
+        UUID van = UUID.randomUUID();
+        Instant now = Instant.now();
+        pipeline.accept(List.of(
+                ping(truck, 52.50, 13.40, now.minusSeconds(10)),
+                ping(truck, 52.52, 13.41, now),
+                ping(truck, 52.51, 13.40, now.minusSeconds(5)),
+                ping(van, 48.85, 2.35, now)));
+        when(telemetryStore.savePositions(anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.<Collection<VehiclePing>>getArgument(0)));
+
+        pipeline.flush();
+
+        ArgumentCaptor<Collection<VehiclePing>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(telemetryStore).savePositions(written.capture());
+        assertEquals(Set.of(
+                new VehiclePing(truck, 52.52, 13.41, now.toEpochMilli()),
+                new VehiclePing(van, 48.85, 2.35, now.toEpochMilli())), Set.copyOf(written.getValue()));
+        verify(locationIndex).put(truck, 52.52, 13.41);
+        verify(locationIndex).put(van, 48.85, 2.35);
+        assertEquals(2, meterRegistry.counter("telemetry.positions.written").count());
+        ArgumentCaptor<List<VehiclePing>> history = ArgumentCaptor.forClass(List.class);
+        verify(positionHistory).append(history.capture());
+        assertEquals(4, history.getValue().size());
+    }
+
+    @Test
+    void testFlushAppendsHistoryWhenPositionWriteFails() {
+        UUID truck = UUID.randomUUID();
+        pipeline.accept(List.of(ping(truck, 52.5, 13.4, null)));
+        when(telemetryStore.savePositions(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+        pipeline.flush();
+
+        verify(positionHistory).append(anyList());
+        verifyNoInteractions(locationIndex);
+    }
+
+    @Test
+    void testAcceptRejectsInvalidPings() {
+        UUID truck = UUID.randomUUID();
+
+        TelemetryAckDTO ack = pipeline.accept(List.of(
+                ping(truck, 52.5, 13.4, null),
+                ping(null, 52.5, 13.4, null),
+                ping(truck, 91.0, 13.4, null),
+                ping(truck, 52.5, 13.4, Instant.now().plus(Duration.ofHours(1))),
+                ping(truck, 52.5, 13.4, Instant.now().minus(Duration.ofDays(8)))));
+
+        assertEquals(1, ack.getAccepted());
+        assertEquals(4, ack.getRejected());
+        assertEquals(4, meterRegistry.counter("telemetry.pings.rejected", "reason", "invalid").count());
+    }
+
+    @Test
+    void testAcceptRefusesBatchWhenBufferIsFull() {
+        UUID truck = UUID.randomUUID();
+        pipeline.accept(List.of(ping(truck, 1, 1, null), ping(truck, 2, 2, null), ping(truck, 3, 3, null),
+                ping(truck, 4, 4, null), ping(truck, 5, 5, null), ping(truck, 6, 6, null)));
+
+        assertThrows(TelemetryOverloadedException.class,
+                () -> pipeline.accept(List.of(ping(truck, 7, 7, null), ping(truck, 8, 8, null), ping(truck, 9, 9, null))));
+        assertEquals(3, meterRegistry.counter("telemetry.pings.rejected", "reason", "overloaded").count());
+    }
+
+    @Test
+    void testFlushWithoutPingsSkipsTheDatabase() {
+        pipeline.flush();
+
+        verifyNoInteractions(telemetryStore, locationIndex, positionHistory);
+    }
+
+    private static TelemetryPingDTO ping(UUID vehicleId, double latitude, double longitude, Instant recordedAt) {
+        return TelemetryPingDTO.builder()
+                .vehicleId(vehicleId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.logistics.platform.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryRingTest {
+
+    @Test
+    void shouldRefuseBatchesThatDoNotFit() {
+        TelemetryRing ring = new TelemetryRing(5);
+        UUID vehicle = UUID.randomUUID();
+
+        assertEquals(8, ring.capacity());
+        assertTrue(ring.offer(pings(vehicle, 0, 6)));
+        assertFalse(ring.offer(pings(vehicle, 6, 3)));
+        assertTrue(ring.offer(pings(vehicle, 6, 2)));
+        assertEquals(8, ring.pending());
+
+        List<Long> seen = new ArrayList<>();
+        assertEquals(8, ring.drain((id, lat, lon, at) -> seen.add(at)));
+        assertEquals(LongStream.range(0, 8).boxed().toList(), seen);
+        assertTrue(ring.offer(pings(vehicle, 8, 8)));
+    }
+
+    @Test
+    void shouldDeliverEveryPingOnceInProducerOrder() throws Exception {
+        int producers = 4;
+        int batches = 2_000;
+        int batchSize = 25;
+        TelemetryRing ring = new TelemetryRing(1024);
+        UUID[] vehicles = IntStream.range(0, producers).mapToObj(i -> UUID.randomUUID()).toArray(UUID[]::new);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                UUID vehicle = vehicles[p];
+                running.add(executor.submit(() -> {
+                    for (int b = 0; b < batches; b++) {
+                        List<VehiclePing> batch = pings(vehicle, (long) b * batchSize, batchSize);
+                        while (!ring.offer(batch)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+
+            long[] next = new long[producers];
+            long total = (long) producers * batches * batchSize;
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < total && System.nanoTime() < deadline) {
+                received += ring.drain((id, lat, lon, at) -> {
+                    int producer = List.of(vehicles).indexOf(id);
+                    assertEquals(next[producer]++, at);
+                    assertEquals(at * 1e-6, lon);
+                });
+            }
+            for (Future<?> future : running) {
+                future.get(1, TimeUnit.SECONDS);
+            }
+            assertEquals(total, received);
+            assertEquals(0, ring.pending());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<VehiclePing> pings(UUID vehicle, long from, int count) {
+        List<VehiclePing> pings = new ArrayList<>(count);
+        for (long at = from; at < from + count; at++) {
+            pings.add(new VehiclePing(vehicle, 52.0, at * 1e-6, at));
+        }
+        return pings;
+    }
+}
@@ -0,0 +1,149 @@
+package com.logistics.platform.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TailSamplingSpanProcessorTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(1_700_000_000L);
+
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(SimpleSpanProcessor.create(new CollectingExporter()),
+                        Duration.ofMillis(500), 2, 10, Duration.ofMinutes(1), meterRegistry))
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void testDropsFastSuccessfulTrace() {
+        trace(Duration.ofMillis(20), false);
+
+        assertTrue(exported.isEmpty());
+        assertEquals(1, decisions("dropped"));
+    }
+
+    @Test
+    void testKeepsSlowTraceWithItsChildren() {
+        trace(Duration.ofMillis(800), false);
+
+        assertEquals(List.of("child", "root"), exported.stream().map(SpanData::getName).toList());
+        assertEquals(1, exported.stream().map(SpanData::getTraceId).distinct().count());
+        assertEquals(1, decisions("kept"));
+    }
+
+    @Test
+    void testKeepsFastTraceWithFailedChild() {
+        trace(Duration.ofMillis(20), true);
+
+        assertEquals(2, exported.size());
+        assertEquals(StatusCode.ERROR, exported.get(0).getStatus().getStatusCode());
+    }
+
+    @Test
+    void testKeepsTraceWithServerErrorOutcome() {
+        Span root = tracer.spanBuilder("root").setNoParent().setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+        root.setAttribute("outcome", "SERVER_ERROR");
+        root.end(START + TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+
+        assertEquals(1, exported.size());
+    }
+
+    @Test
+    void testDiscardsTracesBeyondPendingLimit() {
+        for (int i = 0; i < 3; i++) {
+            Span root = tracer.spanBuilder("root").setNoParent().startSpan();
+            tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        }
+
+        assertEquals(1, decisions("discarded"));
+        assertTrue(exported.isEmpty());
+    }
+
+    @Test
+    void testSweepsOrphanedChildWithNextTrace() throws InterruptedException {
+        tracerProvider.close();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(SimpleSpanProcessor.create(new CollectingExporter()),
+                        Duration.ofMillis(500), 100, 10, Duration.ofMillis(20), meterRegistry))
+                .build();
+        tracer = tracerProvider.get("test");
+        Span root = tracer.spanBuilder("root").setNoParent().startSpan();
+        Span late = tracer.spanBuilder("late").setParent(Context.root().with(root)).startSpan();
+        root.end();
+        late.end();
+
+        Thread.sleep(50);
+        trace(Duration.ofMillis(20), false);
+
+        assertEquals(1, decisions("discarded"));
+        assertEquals(2, decisions("dropped"));
+    }
+
+    private void trace(Duration rootLatency, boolean childFails) {
+        Span root = tracer.spanBuilder("root").setNoParent().setStartTimestamp(START, TimeUnit.NANOSECONDS).startSpan();
+        Span child = tracer.spanBuilder("child")
+                .setParent(Context.root().with(root))
+                .setStartTimestamp(START, TimeUnit.NANOSECONDS)
+                .startSpan();
+        if (childFails) {
+            child.setStatus(StatusCode.ERROR);
+        }
+        child.end(START + TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+        root.end(START + rootLatency.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private double decisions(String decision) {
+        return meterRegistry.counter("tracing.tail-sampling.traces", "decision", decision).count();
+    }
+
+    private class CollectingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}